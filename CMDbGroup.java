@@ -1,5 +1,4 @@
 import java.util.ArrayList;
-import java.util.NoSuchElementException;
 
 /**
  * A class that represents and performs the functions of a CMDbGroup.
@@ -11,7 +10,7 @@ import java.util.NoSuchElementException;
 public class CMDbGroup {
 
     // A static Hash Table that keep track of all registered users on CMDbProfiles
-    private static HashTable<CMDbProfile> allRegisteredUsers = new HashTable<CMDbProfile>();
+    private static HashTable<String, CMDbProfile> allRegisteredUsers = new HashTable<String, CMDbProfile>();
 
     // An Array List that keeps track of all group members of this CMDbGroup
     private ArrayList<CMDbProfile> membersOfThisGroup;
@@ -27,7 +26,7 @@ public class CMDbGroup {
         this.membersOfThisGroup = new ArrayList<CMDbProfile>();
         this.groupMembersNames = new String[0];
         if (allRegisteredUsers == null) {
-            this.allRegisteredUsers = new HashTable<CMDbProfile>();
+            this.allRegisteredUsers = new HashTable<String, CMDbProfile>();
         }
     }
 
@@ -36,7 +35,7 @@ public class CMDbGroup {
      * @return A HashTable containing all CMDb user profiles that have registered for some group in the past.
      *
      */
-    public static HashTable<CMDbProfile> registeredUsers() {
+    public static HashTable<String, CMDbProfile> registeredUsers() {
         return allRegisteredUsers;
     }
 
@@ -117,19 +116,16 @@ public class CMDbGroup {
         if (userName.length() == 0 || userName.isEmpty()) {
             return null;
         }
-        // Tries to see if the user exists in the database as well as gets their favorite movie and then returns it
-        try {
-            // Variable to store the profile of the given username
-            CMDbProfile userWithUserName = registeredUsers().get(userName);
-            // Gets his/her favorite, then return it
-            String[] userFavorites = userWithUserName.favorite();
-            favorite = userFavorites[0];
-            return favorite;
-        }
-        // If a NoSuchElementException is caught, it means that the user has not existed in the database. Return null.
-        catch (NoSuchElementException exception) {
+        // Variable to store the profile of the given username, null if the user has not existed in the database
+        CMDbProfile userWithUserName = registeredUsers().tryGet(userName);
+        // If the user has not existed in the database, return null
+        if (userWithUserName == null) {
             return null;
         }
+        // Gets his/her favorite, then return it
+        String[] userFavorites = userWithUserName.favorite();
+        favorite = userFavorites[0];
+        return favorite;
     }
 
     /**
@@ -0,0 +1,378 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * A class that represents, creates, and stores a thread-safe Hash Table that utilizes Separate Chaining to handle
+ * collisions. The table is split into lock-striped segments: writers only lock the segment that owns the key, readers
+ * never lock, and every segment grows on its own, so resizes of different segments run concurrently on different
+ * threads instead of stopping the whole table.
+ *
+ * @param <T> Any type to store in the Hash Table
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class ConcurrentHashTable<T> {
+
+    // Field to store the segments of the hash table, each one guarded by its own lock
+    private final Segment<T>[] segments;
+
+    // Field to store the mask used to pick a segment from a hash code (segments.length - 1)
+    private final int segmentMask;
+
+    // Field to store the maximum load factor of every segment
+    private static final double maximumLoadFactor = 1.0;
+
+    // Field to store the largest number of segments, which higher concurrency levels are clamped to
+    private static final int maximumSegments = 1 << 16;
+
+    // Field to store the largest total number of buckets, which higher capacities are clamped to
+    private static final int maximumCapacity = 1 << 30;
+
+    /**
+     * A constructor that creates a Hash Table with a default capacity of 16 and 16 segments.
+     * Time Complexity: O(1)
+     *
+     */
+    public ConcurrentHashTable() {
+        this(16, 16);
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity and number of segments (lock stripes). The
+     * number of segments is clamped to 2^16, and the capacity to 2^30 buckets.
+     * Time Complexity: O(C + S) where C is the capacity and S is the number of segments
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param concurrencyLevel The expected number of threads writing at the same time
+     * @throws IllegalArgumentException When the capacity is negative or the concurrency level is not positive
+     */
+    public ConcurrentHashTable(int capacity, int concurrencyLevel) {
+        // When the capacity or the concurrency level given is illegal, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("The entered concurrency level must be greater than 0");
+        }
+        // Variable that stores the number of segments, rounded up to a power of two, at most maximumSegments
+        int numberOfSegments = 1;
+        while (numberOfSegments < concurrencyLevel && numberOfSegments < maximumSegments) {
+            numberOfSegments = numberOfSegments * 2;
+        }
+        // Variable that stores the number of buckets of every segment, rounded up to a power of two, so that the
+        // segments hold at most maximumCapacity buckets in total
+        int bucketsPerSegment = 2;
+        while (bucketsPerSegment * numberOfSegments < capacity
+                && bucketsPerSegment < maximumCapacity / numberOfSegments) {
+            bucketsPerSegment = bucketsPerSegment * 2;
+        }
+        // Variable that stores the new segments; an array of a generic type can only be created raw
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segment<T>[] newSegments = new Segment[numberOfSegments];
+        this.segments = newSegments;
+        this.segmentMask = numberOfSegments - 1;
+        for (int index = 0; index < numberOfSegments; index = index + 1) {
+            this.segments[index] = new Segment<T>(bucketsPerSegment);
+        }
+    }
+
+    /**
+     * A method that returns the value associated with the specified key. Never blocks.
+     * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the segment.
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public T get(String key) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        // Variable that stores the node of the key, looked up without locking
+        HashNode<T> node = segmentFor(hash).findNode(key, hash);
+        if (node == null) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        return node.value;
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the hash table, replacing the value of an existing key.
+     * Time Complexity: O(1) amortized, O(N) worst case where N is the number of elements in the segment.
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     */
+    public void put(String key, T value) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        segmentFor(hash).merge(key, hash, value, (oldValue, newValue) -> newValue);
+    }
+
+    /**
+     * A method that atomically combines the specified value with the value already associated with the key. If the
+     * key is absent, the specified value is stored as is; otherwise the remapping function decides the new value,
+     * and a null result removes the key. Several threads can use this to feed the same counters, e.g.
+     * {@code table.merge(word, 1, Integer::sum)}.
+     * Time Complexity: O(1) amortized, O(N) worst case where N is the number of elements in the segment.
+     *
+     * @param key Any key to merge the value into
+     * @param value Any value to merge, also used as is when the key is absent
+     * @param remappingFunction The function that combines the old value and the given value
+     * @return The new value associated with the key, or null if the key was removed
+     */
+    public T merge(String key, T value, BiFunction<? super T, ? super T, ? extends T> remappingFunction) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        return segmentFor(hash).merge(key, hash, value, remappingFunction);
+    }
+
+    /**
+     * A method that removes a key-value pair associated with the specified key and returns the associated value.
+     * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the segment.
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the newly removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     */
+    public T remove(String key) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        // Variable that stores the removed node, null if the key was absent
+        HashNode<T> removedNode = segmentFor(hash).remove(key, hash);
+        if (removedNode == null) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        return removedNode.value;
+    }
+
+    /**
+     * A method that returns the number of elements currently in the hash table. While other threads are writing, the
+     * result is only a snapshot of a moving target.
+     * Time Complexity: O(S) where S is the number of segments
+     *
+     * @return The number of elements currently in the hash table.
+     */
+    public int size() {
+        // Variable that stores the sum of the element counts of all segments
+        int numElements = 0;
+        for (Segment<T> segment : this.segments) {
+            numElements = numElements + segment.numElements;
+        }
+        return numElements;
+    }
+
+    /**
+     * A method that finds the segment that owns the given hash code.
+     * Time Complexity: O(1)
+     *
+     * @param hash The spread hash code of a key
+     * @return The segment owning the hash code
+     */
+    private Segment<T> segmentFor(int hash) {
+        // Use the top bits of a multiplied hash so that segment choice is independent of the bucket index bits
+        return this.segments[((hash * 0x9E3779B9) >>> 16) & this.segmentMask];
+    }
+
+    /**
+     * A method that spreads the higher bits of a hash code into the lower bits used for indexing.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @return The spread hash code
+     */
+    private static int spreadHash(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * A helper class that stores one lock stripe of the table: a small chained hash table guarded by its own lock.
+     * Readers traverse the bucket chains without locking; writers publish changes through the atomic bucket array,
+     * and chain links are final, so a reader always sees a consistent chain.
+     *
+     * @param <T> Any generic type to store in the Hash Table
+     */
+    private static class Segment<T> {
+
+        // Field to store the lock that writers of this segment hold
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Field to store the buckets of this segment
+        private volatile AtomicReferenceArray<HashNode<T>> buckets;
+
+        // Field to keep track of the number of elements in this segment
+        private volatile int numElements;
+
+        /**
+         * A constructor that creates a segment with the specified number of buckets.
+         * Time Complexity: O(B) where B is the number of buckets
+         *
+         * @param numberOfBuckets The power-of-two number of buckets
+         */
+        Segment(int numberOfBuckets) {
+            this.buckets = new AtomicReferenceArray<HashNode<T>>(numberOfBuckets);
+            this.numElements = 0;
+        }
+
+        /**
+         * A method that finds the node of the given key without locking.
+         * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the segment.
+         *
+         * @param key Any key to search for
+         * @param hash The spread hash code of the key
+         * @return The node of the key, or null if the key is absent
+         */
+        HashNode<T> findNode(String key, int hash) {
+            // Variable that stores the current bucket array, read once so a concurrent resize cannot tear the lookup
+            AtomicReferenceArray<HashNode<T>> currentBuckets = this.buckets;
+            HashNode<T> node = currentBuckets.get(hash & (currentBuckets.length() - 1));
+            while (node != null) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    return node;
+                }
+                node = node.nextNode;
+            }
+            return null;
+        }
+
+        /**
+         * A method that atomically merges the given value into the node of the given key, inserting it if absent.
+         * Time Complexity: O(1) amortized, O(N) worst case where N is the number of elements in the segment.
+         *
+         * @param key Any key to merge the value into
+         * @param hash The spread hash code of the key
+         * @param value Any value to merge
+         * @param remappingFunction The function that combines the old value and the given value
+         * @return The new value associated with the key, or null if the key was removed
+         */
+        T merge(String key, int hash, T value, BiFunction<? super T, ? super T, ? extends T> remappingFunction) {
+            this.lock.lock();
+            try {
+                // Variable that stores the node of the key, if any
+                HashNode<T> node = findNode(key, hash);
+                // If the key exists, combine the values in place, removing the key if the function returns null
+                if (node != null) {
+                    T newValue = remappingFunction.apply(node.value, value);
+                    if (newValue == null) {
+                        remove(key, hash);
+                    }
+                    else {
+                        node.value = newValue;
+                    }
+                    return newValue;
+                }
+                // Otherwise, link a new node at the head of its bucket and grow the segment if necessary
+                AtomicReferenceArray<HashNode<T>> currentBuckets = this.buckets;
+                int bucketIndex = hash & (currentBuckets.length() - 1);
+                currentBuckets.set(bucketIndex, new HashNode<T>(key, hash, value, currentBuckets.get(bucketIndex)));
+                this.numElements = this.numElements + 1;
+                if (this.numElements > currentBuckets.length() * maximumLoadFactor) {
+                    reHashSegment();
+                }
+                return value;
+            }
+            finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * A method that removes the node of the given key. The nodes in front of it are copied, because chain links
+         * are final and readers may be traversing the old chain.
+         * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the segment.
+         *
+         * @param key Any key to remove
+         * @param hash The spread hash code of the key
+         * @return The removed node, or null if the key is absent
+         */
+        HashNode<T> remove(String key, int hash) {
+            this.lock.lock();
+            try {
+                AtomicReferenceArray<HashNode<T>> currentBuckets = this.buckets;
+                int bucketIndex = hash & (currentBuckets.length() - 1);
+                HashNode<T> head = currentBuckets.get(bucketIndex);
+                // Variable that stores the node to remove
+                HashNode<T> removedNode = head;
+                while (removedNode != null && !(removedNode.hash == hash && removedNode.key.equals(key))) {
+                    removedNode = removedNode.nextNode;
+                }
+                if (removedNode == null) {
+                    return null;
+                }
+                // Rebuild the front of the chain on top of the nodes that follow the removed node
+                HashNode<T> newHead = removedNode.nextNode;
+                for (HashNode<T> node = head; node != removedNode; node = node.nextNode) {
+                    newHead = new HashNode<T>(node.key, node.hash, node.value, newHead);
+                }
+                currentBuckets.set(bucketIndex, newHead);
+                this.numElements = this.numElements - 1;
+                return removedNode;
+            }
+            finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * A method that doubles the number of buckets of this segment. The nodes are copied into a new bucket array,
+         * which is then published in one volatile write; readers still holding the old array stay consistent.
+         * Only this segment is locked, so other segments keep serving writes (and resizes) meanwhile.
+         * Time Complexity: O(N) where N is the number of elements in the segment
+         *
+         */
+        private void reHashSegment() {
+            AtomicReferenceArray<HashNode<T>> oldBuckets = this.buckets;
+            AtomicReferenceArray<HashNode<T>> newBuckets = new AtomicReferenceArray<HashNode<T>>(oldBuckets.length() * 2);
+            int newMask = newBuckets.length() - 1;
+            for (int index = 0; index < oldBuckets.length(); index = index + 1) {
+                for (HashNode<T> node = oldBuckets.get(index); node != null; node = node.nextNode) {
+                    int newIndex = node.hash & newMask;
+                    newBuckets.set(newIndex, new HashNode<T>(node.key, node.hash, node.value, newBuckets.get(newIndex)));
+                }
+            }
+            this.buckets = newBuckets;
+        }
+
+    }
+
+    /**
+     * A helper class that creates a hash node in the hash table that contains a key, value pair. The key and the link
+     * to the next node never change after construction; the value is volatile so lock-free readers see updates.
+     *
+     * @param <T> Any generic type to store in the Hash Table
+     */
+    private static class HashNode<T> {
+
+        // A field that stores the key for the hash node
+        private final String key;
+
+        // A field that stores the spread hash code of the key
+        private final int hash;
+
+        // A field that stores the value for the hash node
+        private volatile T value;
+
+        // A field that stores the next node reference of the current hash node
+        private final HashNode<T> nextNode;
+
+        /**
+         * A constructor that creates a hash node with the specified key, value pair in front of the given node.
+         * Time Complexity: O(1)
+         *
+         * @param key Any key to create a hash node with
+         * @param hash The spread hash code of the key
+         * @param value Any value to create a hash node with
+         * @param nextNode The node that follows this node in its bucket
+         */
+        HashNode(String key, int hash, T value, HashNode<T> nextNode) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.nextNode = nextNode;
+        }
+
+    }
+
+}
@@ -0,0 +1,335 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A class that represents, creates, and stores a thread-safe Priority Queue for many producers and consumers. It is a
+ * MultiQueue: the elements are spread over several shards, each one a PriorityQueue guarded by its own lock. add puts
+ * the element into a random shard that is not locked, and poll picks two random shards and takes the greatest element
+ * of the one whose greatest key is greater, so threads rarely wait on each other and throughput grows with the number
+ * of threads instead of serializing them all on a single lock.
+ * The price is a relaxed order: poll returns one of the greatest elements, not always the greatest one. With S shards,
+ * the rank of the polled element is O(S) in expectation; a queue with a single shard is strictly ordered.
+ * take blocks until an element is available, with or without a timeout.
+ *
+ * @param <K> Any types that extends Comparable with a super type of K
+ * @param <V> Any types to be parsed into the priority queue
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class ConcurrentPriorityQueue<K extends Comparable<? super K>,V> {
+
+    // Field to store the shards of the queue, each one guarded by its own lock
+    private final Shard<K, V>[] shards;
+
+    // Field to store the number of shards per processor of a queue created without a number of shards
+    private static final int shardsPerProcessor = 2;
+
+    // Field to store the number of random shards add tries to lock without waiting, before it waits for the last one
+    private static final int maximumTryLockAttempts = 8;
+
+    // Field to store the number of elements in the queue, counted while the shard they are added to or removed from is
+    // locked
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    // Fields to store the lock and the condition that consumers blocked in take wait on
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition notEmpty = this.waitLock.newCondition();
+
+    // Field to store the number of consumers blocked in take, so add only signals when someone is waiting
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    /**
+     * A constructor that creates an empty queue with two shards per available processor.
+     * Time Complexity: O(P) where P is the number of processors
+     */
+    public ConcurrentPriorityQueue() {
+        this(shardsPerProcessor * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * A constructor that creates an empty queue with the specified number of shards. More shards mean less contention
+     * and a more relaxed order; about twice the number of threads using the queue is a good balance.
+     * Time Complexity: O(S) where S is the number of shards
+     *
+     * @param numberOfShards The number of shards, at least 1
+     * @throws IllegalArgumentException If the number of shards is less than 1, throw an IllegalArgumentException.
+     */
+    public ConcurrentPriorityQueue(int numberOfShards) {
+        // If the number of shards is less than 1, throw an IllegalArgumentException.
+        if (numberOfShards < 1) {
+            throw new IllegalArgumentException("The queue must have at least 1 shard");
+        }
+        // Variable that stores the new shards, an array of a generic type that can only be created raw
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Shard<K, V>[] newShards = new Shard[numberOfShards];
+        this.shards = newShards;
+        for (int index = 0; index < numberOfShards; index = index + 1) {
+            this.shards[index] = new Shard<K, V>();
+        }
+    }
+
+    /**
+     * A method that adds the specified key-value pair to a random shard of the queue, and wakes up a consumer blocked
+     * in take, if any. It tries a few random shards without waiting, and waits for the last one if they were all
+     * locked.
+     * Time Complexity: O(log N) average case, where N is the size of the shard.
+     *
+     * @param key Any key to be added to the priority queue
+     * @param value Any value to be added to the priority queue
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException.
+     */
+    public void add(K key, V value) {
+        // If the value is null, it cannot be told apart from an empty poll, so throw an IllegalArgumentException
+        if (value == null) {
+            throw new IllegalArgumentException("The priority queue cannot store null values");
+        }
+        // Variable that stores the shard to add to: the first random shard that is not locked by another thread, or the
+        // last one drawn, waited for, once every attempt found its shard locked
+        Shard<K, V> shard = this.shards[ThreadLocalRandom.current().nextInt(this.shards.length)];
+        // Variable that stores the number of shards found locked so far
+        int failedAttempts = 0;
+        while (!shard.lock.tryLock()) {
+            failedAttempts = failedAttempts + 1;
+            shard = this.shards[ThreadLocalRandom.current().nextInt(this.shards.length)];
+            if (failedAttempts == maximumTryLockAttempts) {
+                shard.lock.lock();
+                break;
+            }
+        }
+        try {
+            shard.heap.add(key, value);
+            shard.refreshTopKey();
+            // Count the element before the shard is unlocked, so a consumer cannot poll it and count it first
+            this.queueSize.incrementAndGet();
+        }
+        finally {
+            shard.lock.unlock();
+        }
+        // If a consumer is blocked in take, wake it up. It counts itself before it checks the size, and the size was
+        // counted before this check, so it either sees the new element or is woken up.
+        if (this.waitingConsumers.get() > 0) {
+            this.waitLock.lock();
+            try {
+                this.notEmpty.signal();
+            }
+            finally {
+                this.waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A method that removes one of the greatest elements of the queue and returns its value, without blocking.
+     * Time Complexity: O(log N) average case, where N is the size of a shard; O(S + log N) if most shards are empty,
+     * where S is the number of shards.
+     *
+     * @return The value of one of the greatest elements
+     * @throws NoSuchElementException If every shard was empty when poll visited it, throw a NoSuchElementException.
+     */
+    public V poll() {
+        // Variable that stores the polled value, null if the queue was found empty
+        V value = tryPoll();
+        if (value == null) {
+            throw new NoSuchElementException("Priority queue is empty");
+        }
+        return value;
+    }
+
+    /**
+     * A method that removes one of the greatest elements of the queue and returns its value, waiting for an element
+     * to be added if the queue is empty.
+     * Time Complexity: O(log N) average case once an element is available, where N is the size of a shard.
+     *
+     * @return The value of one of the greatest elements
+     * @throws InterruptedException If the thread is interrupted while waiting, throw an InterruptedException.
+     */
+    public V take() throws InterruptedException {
+        while (true) {
+            // Variable that stores the polled value, null if the queue was found empty
+            V value = tryPoll();
+            if (value != null) {
+                return value;
+            }
+            this.waitLock.lockInterruptibly();
+            this.waitingConsumers.incrementAndGet();
+            try {
+                while (this.queueSize.get() == 0) {
+                    this.notEmpty.await();
+                }
+            }
+            finally {
+                this.waitingConsumers.decrementAndGet();
+                this.waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A method that removes one of the greatest elements of the queue and returns its value, waiting up to the
+     * specified time for an element to be added if the queue is empty.
+     * Time Complexity: O(log N) average case once an element is available, where N is the size of a shard.
+     *
+     * @param timeout The longest time to wait
+     * @param unit The unit of the timeout
+     * @return The value of one of the greatest elements, or null if the timeout elapsed before one was available
+     * @throws InterruptedException If the thread is interrupted while waiting, throw an InterruptedException.
+     */
+    public V take(long timeout, TimeUnit unit) throws InterruptedException {
+        // Variable that stores the time at which to give up
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            // Variable that stores the polled value, null if the queue was found empty
+            V value = tryPoll();
+            if (value != null) {
+                return value;
+            }
+            // Variable that stores the time left to wait
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            this.waitLock.lockInterruptibly();
+            this.waitingConsumers.incrementAndGet();
+            try {
+                while (this.queueSize.get() == 0 && remainingNanos > 0) {
+                    remainingNanos = this.notEmpty.awaitNanos(remainingNanos);
+                }
+            }
+            finally {
+                this.waitingConsumers.decrementAndGet();
+                this.waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A method that returns the number of elements currently in the queue. While other threads are adding or polling,
+     * the result is only a snapshot of a moving target.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements currently in the queue
+     */
+    public int size() {
+        return this.queueSize.get();
+    }
+
+    /**
+     * A method that removes one of the greatest elements of the queue and returns its value: of two random shards, it
+     * polls the one whose greatest key is greater. If both are empty, it falls back to visiting every shard.
+     * Time Complexity: O(log N) average case, where N is the size of a shard; O(S + log N) if most shards are empty,
+     * where S is the number of shards.
+     *
+     * @return The value of one of the greatest elements, or null if every shard was empty when it was visited
+     */
+    private V tryPoll() {
+        // Variable that stores the random number generator of this thread
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (this.queueSize.get() > 0) {
+            // Variables that store the two random shards to choose from
+            Shard<K, V> firstShard = this.shards[random.nextInt(this.shards.length)];
+            Shard<K, V> secondShard = this.shards[random.nextInt(this.shards.length)];
+            // Variables that store the greatest keys of the shards, read without locking, null for an empty shard
+            K firstKey = firstShard.topKey;
+            K secondKey = secondShard.topKey;
+            if (firstKey == null && secondKey == null) {
+                return pollAnyShard(random.nextInt(this.shards.length));
+            }
+            // Variable that stores the shard with the greater key
+            Shard<K, V> chosenShard = firstShard;
+            if (firstKey == null || (secondKey != null && secondKey.compareTo(firstKey) > 0)) {
+                chosenShard = secondShard;
+            }
+            // If another thread holds the shard, draw two other shards rather than wait for it
+            if (chosenShard.lock.tryLock()) {
+                try {
+                    // The shard may have been emptied since its key was read
+                    if (chosenShard.heap.size() > 0) {
+                        return pollLockedShard(chosenShard);
+                    }
+                }
+                finally {
+                    chosenShard.lock.unlock();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A method that visits every shard, locking each one in turn, and polls the first one that is not empty.
+     * Time Complexity: O(S + log N) where S is the number of shards and N is the size of a shard
+     *
+     * @param firstIndex The index of the shard to start from, so that threads do not all start from the same one
+     * @return The value of the greatest element of the first non-empty shard, or null if every shard was empty
+     */
+    private V pollAnyShard(int firstIndex) {
+        for (int offset = 0; offset < this.shards.length; offset = offset + 1) {
+            // Variable that stores the shard to visit
+            Shard<K, V> shard = this.shards[(firstIndex + offset) % this.shards.length];
+            shard.lock.lock();
+            try {
+                if (shard.heap.size() > 0) {
+                    return pollLockedShard(shard);
+                }
+            }
+            finally {
+                shard.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A method that polls the greatest element of a non-empty shard locked by the current thread.
+     * Time Complexity: O(log N) where N is the size of the shard
+     *
+     * @param shard The locked, non-empty shard
+     * @return The value of the greatest element of the shard
+     */
+    private V pollLockedShard(Shard<K, V> shard) {
+        // Variable that stores the value of the greatest element of the shard
+        V value = shard.heap.poll();
+        shard.refreshTopKey();
+        this.queueSize.decrementAndGet();
+        return value;
+    }
+
+    /**
+     * A helper class that stores one shard of the queue: a Priority Queue guarded by its own lock, and its greatest
+     * key, published so that poll can compare shards without locking them.
+     *
+     * @param <K> Any types that extends Comparable with a super type of K
+     * @param <V> Any types to be parsed into the priority queue
+     */
+    private static class Shard<K extends Comparable<? super K>,V> {
+
+        // Field to store the lock guarding this shard
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Field to store the elements of this shard
+        private final PriorityQueue<K, V> heap = new PriorityQueue<K, V>();
+
+        // Field to store the greatest key of this shard, null if it is empty
+        private volatile K topKey;
+
+        /**
+         * A method that publishes the current greatest key of this shard, once the shard has changed.
+         * Time Complexity: O(1)
+         */
+        void refreshTopKey() {
+            if (this.heap.size() == 0) {
+                this.topKey = null;
+            }
+            else {
+                this.topKey = this.heap.peekKey();
+            }
+        }
+
+    }
+
+}
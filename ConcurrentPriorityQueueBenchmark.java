@@ -0,0 +1,164 @@
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A class that benchmarks how the throughput of the Concurrent Priority Queue scales with the number of threads,
+ * against a single Priority Queue guarded by a lock. Every thread repeatedly polls an element and adds it back with a
+ * new random key, so the size of the queue stays the same; the benchmark prints the number of operations (polls and
+ * adds) per second for every number of threads.
+ * Usage: java ConcurrentPriorityQueueBenchmark [thread counts...] (1, 2, 4, 8, 16, 32 and 64 by default)
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class ConcurrentPriorityQueueBenchmark {
+
+    // Field to store the number of elements in the queues
+    private static final int queueSize = 100_000;
+
+    // Field to store the number of shards per thread of the concurrent queue
+    private static final int shardsPerThread = 2;
+
+    // Field to store the duration of every measurement, in milliseconds
+    private static final long measurementMillis = 1000;
+
+    // Field that tells the worker threads to stop
+    private static volatile boolean stopped;
+
+    /**
+     * The entry point of the benchmark.
+     * Time Complexity: O(T) measurements of a fixed duration, where T is the number of thread counts
+     *
+     * @param args The numbers of threads to benchmark
+     * @throws InterruptedException If the main thread is interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        // Variable that stores the numbers of threads to benchmark
+        int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+        if (args.length > 0) {
+            threadCounts = new int[args.length];
+            for (int index = 0; index < args.length; index = index + 1) {
+                threadCounts[index] = Integer.parseInt(args[index]);
+            }
+        }
+        System.out.println("Processors: " + Runtime.getRuntime().availableProcessors());
+        // Warm up both queues once, so the JIT has compiled poll and add before the first measurement
+        benchmarkLocked(threadCounts[0]);
+        benchmarkConcurrent(threadCounts[0]);
+        for (int threadCount : threadCounts) {
+            System.out.printf("threads %2d: locked %6.2f Mops/s, concurrent %6.2f Mops/s%n", threadCount,
+                    benchmarkLocked(threadCount) / 1e6, benchmarkConcurrent(threadCount) / 1e6);
+        }
+    }
+
+    /**
+     * A method that measures the throughput of a Priority Queue whose every operation holds a single lock.
+     * Time Complexity: O(Q log Q) to fill the queue, where Q is the queue size, then a fixed duration
+     *
+     * @param threadCount The number of threads
+     * @return The number of operations per second
+     * @throws InterruptedException If the main thread is interrupted while waiting for the workers
+     */
+    private static double benchmarkLocked(int threadCount) throws InterruptedException {
+        // Variables that store the queue and the lock guarding it
+        PriorityQueue<Integer, Integer> priorityQueue = new PriorityQueue<Integer, Integer>();
+        ReentrantLock lock = new ReentrantLock();
+        // Variable that stores the random number generator of the keys the queue is filled with
+        Random random = new Random(42);
+        for (int index = 0; index < queueSize; index = index + 1) {
+            priorityQueue.add(random.nextInt(), index);
+        }
+        return measure(threadCount, (key, value) -> {
+            lock.lock();
+            try {
+                priorityQueue.add(key, value);
+            }
+            finally {
+                lock.unlock();
+            }
+        }, () -> {
+            lock.lock();
+            try {
+                return priorityQueue.poll();
+            }
+            finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * A method that measures the throughput of a Concurrent Priority Queue with two shards per thread.
+     * Time Complexity: O(Q log Q) to fill the queue, where Q is the queue size, then a fixed duration
+     *
+     * @param threadCount The number of threads
+     * @return The number of operations per second
+     * @throws InterruptedException If the main thread is interrupted while waiting for the workers
+     */
+    private static double benchmarkConcurrent(int threadCount) throws InterruptedException {
+        // Variable that stores the queue
+        ConcurrentPriorityQueue<Integer, Integer> priorityQueue =
+                new ConcurrentPriorityQueue<Integer, Integer>(shardsPerThread * threadCount);
+        // Variable that stores the random number generator of the keys the queue is filled with
+        Random random = new Random(42);
+        for (int index = 0; index < queueSize; index = index + 1) {
+            priorityQueue.add(random.nextInt(), index);
+        }
+        return measure(threadCount, priorityQueue::add, priorityQueue::poll);
+    }
+
+    /**
+     * A method that runs the given number of threads, each one polling a value and adding it back with a new random
+     * key, for a fixed duration, and returns the number of operations per second.
+     * Time Complexity: A fixed duration
+     *
+     * @param threadCount The number of threads
+     * @param add The add operation of the queue
+     * @param poll The poll operation of the queue
+     * @return The number of operations per second
+     * @throws InterruptedException If the main thread is interrupted while waiting for the workers
+     */
+    private static double measure(int threadCount, BiConsumer<Integer, Integer> add, Supplier<Integer> poll)
+            throws InterruptedException {
+        // Variables that store the worker threads and the number of operations each one performed
+        Thread[] threads = new Thread[threadCount];
+        long[] operationCounts = new long[threadCount];
+        stopped = false;
+        for (int index = 0; index < threadCount; index = index + 1) {
+            // Variable that stores the index of the thread, for the lambda
+            int threadIndex = index;
+            threads[index] = new Thread(() -> {
+                // Variables that store the random number generator of the keys and the number of operations
+                Random random = new Random(threadIndex);
+                long operations = 0;
+                while (!stopped) {
+                    add.accept(random.nextInt(), poll.get());
+                    operations = operations + 2;
+                }
+                operationCounts[threadIndex] = operations;
+            });
+        }
+        // Variable that stores the time at which the workers were started
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(measurementMillis);
+        stopped = true;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Variable that stores the elapsed time, including the last operations after the stop
+        long elapsedNanos = System.nanoTime() - startTime;
+        // Variable that stores the total number of operations
+        long totalOperations = 0;
+        for (long operations : operationCounts) {
+            totalOperations = totalOperations + operations;
+        }
+        return totalOperations * 1e9 / elapsedNanos;
+    }
+
+}
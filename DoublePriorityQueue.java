@@ -0,0 +1,226 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents, creates, and stores a Priority Queue whose keys are primitive doubles, e.g. timestamps or
+ * scores. It has the same API as PriorityQueue, and stores its elements in a LongPriorityQueue: every key is encoded
+ * into a long that orders the same way, so no key is ever boxed and the heap, with its d-ary layout and its lazily
+ * built index of the values, is shared with LongPriorityQueue.
+ * NaN keys are rejected, as they cannot be ordered; -0.0 and 0.0 are equal keys, and -0.0 comes back as 0.0.
+ * Like LongPriorityQueue, and unlike PriorityQueue, it does not keep the order in which elements that share a value
+ * were added, so update and poll(value) on such a value need not affect the one added last.
+ *
+ * @param <V> Any types to be parsed into the priority queue
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class DoublePriorityQueue<V> {
+
+    // A field that stores the elements of the queue, with their keys encoded into longs
+    private final LongPriorityQueue<V> heap;
+
+    /**
+     * A constructor that creates this instance of Priority Queue that takes no parameters.
+     * Time Complexity: O(1)
+     */
+    public DoublePriorityQueue() {
+        this.heap = new LongPriorityQueue<V>();
+    }
+
+    /**
+     * A constructor that creates an empty Priority Queue whose nodes have the specified number of children. An arity
+     * of 4 or 8 keeps the heap shallow, which pays off on large queues; add and update are then slightly cheaper and
+     * poll compares more keys per level.
+     * Time Complexity: O(1)
+     *
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the arity is less than 2, throw an IllegalArgumentException.
+     */
+    public DoublePriorityQueue(int arity) {
+        this.heap = new LongPriorityQueue<V>(arity);
+    }
+
+    /**
+     * A constructor that creates an instance of Priority Queue with the specified key and value arrays.
+     * Time Complexity: O(N), where N is the length of the specified arrays.
+     *
+     * @param keys Any array of keys
+     * @param values Any array of values
+     * @throws IllegalArgumentException If the specified arrays differ in length, a value is null, or a key is NaN,
+     * throw an IllegalArgumentException.
+     */
+    public DoublePriorityQueue(double[] keys, V[] values) {
+        this.heap = new LongPriorityQueue<V>(encodeKeys(keys), values);
+    }
+
+    /**
+     * A constructor that creates an instance of Priority Queue with the specified key and value arrays, whose nodes
+     * have the specified number of children.
+     * Time Complexity: O(N), where N is the length of the specified arrays.
+     *
+     * @param keys Any array of keys
+     * @param values Any array of values
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the specified arrays differ in length, a value is null, a key is NaN, or the
+     * arity is less than 2, throw an IllegalArgumentException.
+     */
+    public DoublePriorityQueue(double[] keys, V[] values, int arity) {
+        this.heap = new LongPriorityQueue<V>(encodeKeys(keys), values, arity);
+    }
+
+    /**
+     * A method that adds the specified key-value pair to the priority queue.
+     * Time Complexity: O(log N) average case, O(N) worst case, where N is the size of the priority queue.
+     *
+     * @param key Any key to be added to the priority queue
+     * @param value Any value to be added to the priority queue
+     * @throws IllegalArgumentException If the value is null or the key is NaN, throw an IllegalArgumentException.
+     */
+    public void add(double key, V value) {
+        this.heap.add(encodeKey(key), value);
+    }
+
+    /**
+     * A method that updates a key corresponding to an element in the priority queue with the specified value, such that
+     * it has the new specified key. The key may grow or shrink; the element moves up or down the heap accordingly.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue; O(N) the first time, which
+     * indexes the heap.
+     *
+     * @param key Any key to update with
+     * @param value Any value to update with
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     * @throws IllegalArgumentException If the key is NaN, throw an IllegalArgumentException.
+     */
+    public void update(double key, V value) {
+        this.heap.update(encodeKey(key), value);
+    }
+
+    /**
+     * A method that returns the value corresponding to the greatest key from the priority queue.
+     * Time Complexity: O(1)
+     *
+     * @return the value corresponding to the greatest key from the priority queue.
+     * @throws NoSuchElementException If the priority queue is empty, throw an NoSuchElementException.
+     */
+    public V peek() {
+        return this.heap.peek();
+    }
+
+    /**
+     * A method that returns an array containing the k values corresponding to the greatest k keys from the priority queue.
+     * The queue is left unchanged; equal keys come out in the order of their positions in the heap.
+     * Time Complexity: O(k log k)
+     * Space Complexity: O(k).
+     *
+     * @param k The k to find the values with
+     * @return An array containing the k values corresponding to the greatest k keys from the priority queue.
+     * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0.
+     */
+    public V[] peek(int k) {
+        return this.heap.peek(k);
+    }
+
+    /**
+     * A method that fills the first k elements of the specified array with the values corresponding to the greatest k
+     * keys from the priority queue, greatest first, and returns the array. The queue is left unchanged, and once the
+     * auxiliary heap has grown to its largest size nothing is allocated, so the top of the queue can be sampled often.
+     * Time Complexity: O(k log k)
+     *
+     * @param k The k to find the values with
+     * @param destination The array to fill, at least k long
+     * @return The specified array
+     * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0, or the array is
+     * shorter than k.
+     */
+    public V[] peek(int k, V[] destination) {
+        return this.heap.peek(k, destination);
+    }
+
+    /**
+     * A method that removes the element corresponding to the greatest key from the priority queue, and returns its
+     * corresponding value.
+     * Time Complexity: O(log N), where N is the size of the priority queue.
+     *
+     * @return The element corresponding to the greatest key from the priority queue.
+     * @throws NoSuchElementException If no elements exist, throw a NoSuchElementException.
+     */
+    public V poll() {
+        return this.heap.poll();
+    }
+
+    /**
+     * A method that removes an element from the priority queue corresponding to the specified value and returns its
+     * corresponding key.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue; O(N) the first time, which
+     * indexes the heap.
+     *
+     * @param value Any value to find the element with.
+     * @return The value's corresponding key, 0.0 if it was added as -0.0.
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     */
+    public double poll(V value) {
+        return decodeKey(this.heap.poll(value));
+    }
+
+    /**
+     * A method that returns the number of elements currently being stored in the priority queue.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements currently being stored in the priority queue.
+     */
+    public int size() {
+        return this.heap.size();
+    }
+
+    /**
+     * A method that encodes a key into a long that orders the same way: the bits of a positive double already order
+     * like a long, and flipping all the bits but the sign of a negative one reverses its order, as it should be.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key
+     * @return The encoded key
+     * @throws IllegalArgumentException If the key is NaN, throw an IllegalArgumentException.
+     */
+    private static long encodeKey(double key) {
+        // If the key is NaN, it is neither greater nor smaller than any other key, so throw an IllegalArgumentException
+        if (Double.isNaN(key)) {
+            throw new IllegalArgumentException("The priority queue cannot order NaN keys");
+        }
+        // Store -0.0 as 0.0, so that the two are equal keys
+        if (key == 0.0) {
+            key = 0.0;
+        }
+        // Variable that stores the bits of the key
+        long bits = Double.doubleToRawLongBits(key);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * A method that decodes a key encoded by encodeKey, whose flip of the bits is its own inverse.
+     * Time Complexity: O(1)
+     *
+     * @param encodedKey Any encoded key
+     * @return The key
+     */
+    private static double decodeKey(long encodedKey) {
+        return Double.longBitsToDouble(encodedKey ^ ((encodedKey >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * A method that encodes every key of the specified array.
+     * Time Complexity: O(N), where N is the length of the specified array.
+     *
+     * @param keys Any array of keys
+     * @return A new array of the encoded keys
+     * @throws IllegalArgumentException If a key is NaN, throw an IllegalArgumentException.
+     */
+    private static long[] encodeKeys(double[] keys) {
+        // Variable that stores the encoded keys
+        long[] encodedKeys = new long[keys.length];
+        for (int index = 0; index < keys.length; index = index + 1) {
+            encodedKeys[index] = encodeKey(keys[index]);
+        }
+        return encodedKeys;
+    }
+
+}
@@ -0,0 +1,45 @@
+/**
+ * An interface for the eviction policy of a bounded Hash Table. A bounded table keeps its entries in access order and
+ * always offers its least recently used entry as the victim; the policy observes every access and decides whether a
+ * new key is worth evicting the victim for. The default methods give plain LRU, which admits every new key.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public interface EvictionPolicy {
+
+    /**
+     * A method that is called on every lookup and insertion of a key in the table, whether the key is present or not.
+     * Time Complexity: O(1)
+     *
+     * @param key The key being accessed
+     */
+    default void recordAccess(Object key) {
+    }
+
+    /**
+     * A method that decides whether a new key should be stored at the cost of evicting the victim, the least recently
+     * used entry of the table. If it returns false, the new key is not stored and the victim stays.
+     * Time Complexity: O(1)
+     *
+     * @param candidateKey The key about to be inserted
+     * @param victimKey The key that would be evicted to make room
+     * @return True to evict the victim and store the candidate, false to reject the candidate
+     */
+    default boolean admit(Object candidateKey, Object victimKey) {
+        return true;
+    }
+
+    /**
+     * A method that returns the least-recently-used policy, which always admits the new key.
+     * Time Complexity: O(1)
+     *
+     * @return The LRU eviction policy
+     */
+    static EvictionPolicy leastRecentlyUsed() {
+        return new EvictionPolicy() {
+        };
+    }
+
+}
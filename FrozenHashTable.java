@@ -0,0 +1,371 @@
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A class that represents, creates, and stores a read-only hash table built on a minimal perfect hash function, in the
+ * style of CHD (compress, hash, and displace): N keys occupy exactly N slots of dense key and value arrays, with no
+ * chains and no empty slots. The keys are hashed into buckets of about 4 keys each, and every bucket stores the one
+ * displacement that sends its keys to free slots, found when the table is built, largest buckets first. A lookup
+ * hashes the key, reads the displacement of its bucket, computes its slot, and compares the key stored there, so it
+ * needs no probing and no branching on the shape of the table. Besides the keys and values, the table costs about one
+ * int per 4 keys.
+ * The slot of a key depends on its hash code only, so keys whose hash codes equal those of other keys cannot be given
+ * slots of their own. They are stored in a small overflow Hash Table instead, which is only consulted on a miss.
+ *
+ * @param <K> Any type of the keys of the hash table
+ * @param <V> Any type to store in the hash table
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class FrozenHashTable<K, V> {
+
+    // Field to store the average number of keys per bucket
+    private static final int averageBucketSize = 4;
+
+    // Field to store the number of random seeds tried before the build gives up, each one being very likely to work
+    private static final int maximumNumberOfSeeds = 16;
+
+    // Field to store the source of the random seeds of all tables
+    private static final SecureRandom hashSeedSource = new SecureRandom();
+
+    // Field to store the strategy that hashes and compares the keys of this table
+    private final HashingStrategy<? super K> hashingStrategy;
+
+    // Field to store the random seed the hash codes of the keys are mixed with
+    private long hashSeed;
+
+    // Field to store the displacement of every bucket, which decides the slots of its keys
+    private int[] displacements;
+
+    // Fields to store the keys and the values of the slots
+    private K[] keys;
+    private V[] values;
+
+    // Field to store the keys whose hash codes equal those of other keys, or null if there are none
+    private HashTable<K, V> overflowTable;
+
+    /**
+     * A constructor that builds a frozen table out of every key of the array and the value at the same index, hashed
+     * and compared by the specified strategy.
+     * Time Complexity: O(N log N) expected where N is the number of keys
+     *
+     * @param keys The keys of the table, which must be distinct
+     * @param values The values of the keys, index for index
+     * @param hashingStrategy The strategy that hashes and compares the keys
+     * @throws IllegalArgumentException If the arrays have different lengths or a key appears twice, throw an
+     * IllegalArgumentException
+     */
+    public FrozenHashTable(K[] keys, V[] values, HashingStrategy<? super K> hashingStrategy) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The keys and the values must have the same length!");
+        }
+        this.hashingStrategy = hashingStrategy;
+        // Variable that stores the hash code of every key next to its index, sorted so that equal hash codes are adjacent
+        long[] sortedHashCodes = new long[keys.length];
+        for (int index = 0; index < keys.length; index = index + 1) {
+            sortedHashCodes[index] = ((long) hashingStrategy.hashCode(keys[index]) << 32) | index;
+        }
+        Arrays.sort(sortedHashCodes);
+        // Keep the first key of every hash code for the perfect hash, and move the others to the overflow table
+        int[] primaryIndexes = new int[keys.length];
+        int numberOfPrimaryKeys = 0;
+        for (int position = 0; position < sortedHashCodes.length; position = position + 1) {
+            int index = (int) sortedHashCodes[position];
+            if (position > 0 && (sortedHashCodes[position] >> 32) == (sortedHashCodes[position - 1] >> 32)) {
+                addToOverflowTable(keys[primaryIndexes[numberOfPrimaryKeys - 1]], keys[index], values[index]);
+            }
+            else {
+                primaryIndexes[numberOfPrimaryKeys] = index;
+                numberOfPrimaryKeys = numberOfPrimaryKeys + 1;
+            }
+        }
+        // Try random seeds until one gives every bucket a displacement
+        for (int attempt = 0; attempt < maximumNumberOfSeeds; attempt = attempt + 1) {
+            this.hashSeed = hashSeedSource.nextLong();
+            if (build(keys, values, primaryIndexes, numberOfPrimaryKeys)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("No perfect hash function was found for the keys");
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public V get(K key) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        return value;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or null if the key does not exist.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key, or null if the key does not exist
+     */
+    public V tryGet(K key) {
+        if (this.keys.length > 0) {
+            // Variables that store the mixed hash code of the key and the only slot it can be in
+            long mixedHash = mixedHashOf(this.hashingStrategy.hashCode(key));
+            int slot = slotOf(mixedHash, this.displacements[bucketOf(mixedHash)]);
+            if (this.hashingStrategy.equals(this.keys[slot], key)) {
+                return this.values[slot];
+            }
+        }
+        if (this.overflowTable != null) {
+            return this.overflowTable.tryGet(key);
+        }
+        return null;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or the specified default value if the key
+     * does not exist.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key to get the value with
+     * @param defaultValue The value to return if the key does not exist
+     * @return The value associated with the specified key, or the default value if the key does not exist
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * A method that checks whether the table contains the specified key.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key to look for
+     * @return True if the key exists in the table, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return tryGet(key) != null;
+    }
+
+    /**
+     * A method that returns the number of entries in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of entries in the table
+     */
+    public int size() {
+        return this.keys.length + (this.overflowTable == null ? 0 : this.overflowTable.size());
+    }
+
+    /**
+     * A method that performs the given action on every entry of the table, in slot order, then on the entries of the
+     * overflow table.
+     * Time Complexity: O(N) where N is the number of entries
+     *
+     * @param action The action to perform on every key and its value
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int slot = 0; slot < this.keys.length; slot = slot + 1) {
+            action.accept(this.keys[slot], this.values[slot]);
+        }
+        if (this.overflowTable != null) {
+            for (HashTable.HashNode<K, V> hashNode : this.overflowTable) {
+                action.accept(hashNode.getKey(), hashNode.getValue());
+            }
+        }
+    }
+
+    /**
+     * A helper method that stores a key whose hash code equals that of a key of the perfect hash in the overflow table.
+     * Time Complexity: O(1) average case
+     *
+     * @param primaryKey The key of the perfect hash with the same hash code
+     * @param key The key to store
+     * @param value The value of the key
+     * @throws IllegalArgumentException If the key appears twice, throw an IllegalArgumentException
+     */
+    private void addToOverflowTable(K primaryKey, K key, V value) {
+        if (this.overflowTable == null) {
+            this.overflowTable = new HashTable<K, V>(16, false, true, this.hashingStrategy);
+        }
+        if (this.hashingStrategy.equals(primaryKey, key) || this.overflowTable.putIfAbsent(key, value) != null) {
+            throw new IllegalArgumentException("The keys of a frozen hash table must be distinct!");
+        }
+    }
+
+    /**
+     * A helper method that tries to build the perfect hash of the given keys with the current seed: the buckets are
+     * visited from the largest to the smallest, and every bucket takes the first displacement that sends all of its
+     * keys to free slots.
+     * Time Complexity: O(N log N) expected where N is the number of keys
+     *
+     * @param allKeys The keys given to the constructor
+     * @param allValues The values given to the constructor
+     * @param primaryIndexes The indexes of the keys of the perfect hash
+     * @param numberOfKeys The number of keys of the perfect hash
+     * @return True if every bucket got a displacement, false if the seed should be replaced
+     */
+    private boolean build(K[] allKeys, V[] allValues, int[] primaryIndexes, int numberOfKeys) {
+        // Variables that store the new key and value arrays, which are only read back as their erased types
+        @SuppressWarnings("unchecked") K[] newKeys = (K[]) new Object[numberOfKeys];
+        @SuppressWarnings("unchecked") V[] newValues = (V[]) new Object[numberOfKeys];
+        this.keys = newKeys;
+        this.values = newValues;
+        this.displacements = new int[Math.max(1, (numberOfKeys + averageBucketSize - 1) / averageBucketSize)];
+        // Variables that store the mixed hash code of every key and the bucket it falls in
+        long[] mixedHashes = new long[numberOfKeys];
+        int[] bucketSizes = new int[this.displacements.length];
+        for (int key = 0; key < numberOfKeys; key = key + 1) {
+            mixedHashes[key] = mixedHashOf(this.hashingStrategy.hashCode(allKeys[primaryIndexes[key]]));
+            bucketSizes[bucketOf(mixedHashes[key])]++;
+        }
+        // Group the keys by bucket with a counting sort: bucketStarts[b] is where the keys of bucket b start
+        int[] bucketStarts = new int[this.displacements.length + 1];
+        int largestBucketSize = 0;
+        for (int bucket = 0; bucket < this.displacements.length; bucket = bucket + 1) {
+            bucketStarts[bucket + 1] = bucketStarts[bucket] + bucketSizes[bucket];
+            largestBucketSize = Math.max(largestBucketSize, bucketSizes[bucket]);
+        }
+        int[] keysByBucket = new int[numberOfKeys];
+        int[] nextPositions = Arrays.copyOf(bucketStarts, this.displacements.length);
+        for (int key = 0; key < numberOfKeys; key = key + 1) {
+            int bucket = bucketOf(mixedHashes[key]);
+            keysByBucket[nextPositions[bucket]] = key;
+            nextPositions[bucket]++;
+        }
+        // Order the buckets from the largest to the smallest with another counting sort
+        int[] sizeStarts = new int[largestBucketSize + 2];
+        for (int bucket = 0; bucket < this.displacements.length; bucket = bucket + 1) {
+            sizeStarts[largestBucketSize - bucketSizes[bucket] + 1]++;
+        }
+        for (int size = 1; size < sizeStarts.length; size = size + 1) {
+            sizeStarts[size] = sizeStarts[size] + sizeStarts[size - 1];
+        }
+        int[] bucketOrder = new int[this.displacements.length];
+        for (int bucket = 0; bucket < this.displacements.length; bucket = bucket + 1) {
+            bucketOrder[sizeStarts[largestBucketSize - bucketSizes[bucket]]++] = bucket;
+        }
+        // Variables that store which slots are taken, and the slots of the bucket being placed
+        long[] takenSlots = new long[(numberOfKeys + 63) / 64];
+        int[] bucketSlots = new int[largestBucketSize];
+        // Variable that stores the number of displacements tried per bucket before the seed is given up on
+        long maximumDisplacement = Math.min(16L * numberOfKeys + 1024, Integer.MAX_VALUE);
+        for (int bucket : bucketOrder) {
+            if (bucketSizes[bucket] == 0) {
+                break;
+            }
+            // Try the displacements in order until all the keys of the bucket land in free, distinct slots
+            int displacement = 0;
+            while (!tryPlaceBucket(mixedHashes, keysByBucket, bucketStarts[bucket], bucketStarts[bucket + 1],
+                    displacement, takenSlots, bucketSlots)) {
+                displacement = displacement + 1;
+                if (displacement >= maximumDisplacement) {
+                    return false;
+                }
+            }
+            this.displacements[bucket] = displacement;
+            for (int position = bucketStarts[bucket]; position < bucketStarts[bucket + 1]; position = position + 1) {
+                int index = primaryIndexes[keysByBucket[position]];
+                this.keys[bucketSlots[position - bucketStarts[bucket]]] = allKeys[index];
+                this.values[bucketSlots[position - bucketStarts[bucket]]] = allValues[index];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A helper method that tries to take the slots a displacement gives to the keys of a bucket. If one of them is
+     * taken, the slots taken so far are released.
+     * Time Complexity: O(B) where B is the number of keys in the bucket
+     *
+     * @param mixedHashes The mixed hash codes of the keys
+     * @param keysByBucket The keys grouped by bucket
+     * @param start The position in keysByBucket of the first key of the bucket
+     * @param end The position in keysByBucket after the last key of the bucket
+     * @param displacement The displacement to try
+     * @param takenSlots The bitmap of the slots taken
+     * @param bucketSlots The array that receives the slots of the keys of the bucket
+     * @return True if the slots have been taken, false otherwise
+     */
+    private boolean tryPlaceBucket(long[] mixedHashes, int[] keysByBucket, int start, int end, int displacement,
+                                   long[] takenSlots, int[] bucketSlots) {
+        for (int position = start; position < end; position = position + 1) {
+            int slot = slotOf(mixedHashes[keysByBucket[position]], displacement);
+            if ((takenSlots[slot >>> 6] & (1L << slot)) != 0) {
+                // Release the slots taken for the previous keys of the bucket
+                for (int previous = start; previous < position; previous = previous + 1) {
+                    int previousSlot = bucketSlots[previous - start];
+                    takenSlots[previousSlot >>> 6] &= ~(1L << previousSlot);
+                }
+                return false;
+            }
+            takenSlots[slot >>> 6] |= 1L << slot;
+            bucketSlots[position - start] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * A helper method that mixes a hash code with the seed of the table into 64 bits. Different hash codes always give
+     * different results, as the mix is a bijection.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @return The mixed hash code
+     */
+    private long mixedHashOf(int hashCode) {
+        return mix((hashCode & 0xFFFFFFFFL) ^ this.hashSeed);
+    }
+
+    /**
+     * A helper method that returns the bucket of a mixed hash code, from its high 32 bits.
+     * Time Complexity: O(1)
+     *
+     * @param mixedHash Any mixed hash code
+     * @return The bucket of the mixed hash code
+     */
+    private int bucketOf(long mixedHash) {
+        return (int) (((mixedHash >>> 32) * this.displacements.length) >>> 32);
+    }
+
+    /**
+     * A helper method that returns the slot a displacement gives to a mixed hash code.
+     * Time Complexity: O(1)
+     *
+     * @param mixedHash Any mixed hash code
+     * @param displacement The displacement of the bucket of the mixed hash code
+     * @return The slot
+     */
+    private int slotOf(long mixedHash, int displacement) {
+        // Variable that stores the mixed hash code mixed again with the displacement
+        long displacedHash = mix(mixedHash + displacement * 0x9E3779B97F4A7C15L);
+        return (int) (((displacedHash >>> 32) * this.keys.length) >>> 32);
+    }
+
+    /**
+     * A helper method that scrambles the bits of a 64-bit value (the finalizer of SplitMix64), a bijection.
+     * Time Complexity: O(1)
+     *
+     * @param value Any value
+     * @return The scrambled value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
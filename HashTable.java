@@ -1,15 +1,66 @@
-import java.util.LinkedList;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 
 /**
  * A class that represents, creates, and stores a Hash Table that utilizes Separate Chaining to handle collisions.
+ * The table can optionally rehash incrementally: instead of moving every node in one pass, it keeps the old and the
+ * new bucket arrays side by side and migrates a bounded number of buckets on every operation.
+ * The entries can be iterated (fail-fast) and streamed; the Spliterator splits the bucket array by index range, so
+ * parallel streams divide the table between cores.
+ * A bounded table caps the total weight of its entries (by default, one per entry). It threads an access-ordered list
+ * through its nodes and, when full, offers the least recently used entry to its EvictionPolicy for eviction.
+ * Entries can be given a time to live. Expired entries are treated as absent at once: lookups, iterators and streams
+ * skip them, and they are reaped by a TimerWheel, which every operation advances, size() included, so size() never
+ * counts an entry whose time to live ran out while the table was idle.
+ * Removals halve the capacity when the load factor falls below a low-water mark (but never below the initial capacity),
+ * and compact rebuilds the table at the smallest power-of-two capacity that holds its entries.
+ * Keys can be of any type: they are hashed and compared by a HashingStrategy, their own hashCode and equals by
+ * default, so composite keys need not be turned into Strings. IntKeyHashTable and LongKeyHashTable store primitive
+ * keys without boxing them.
+ * Hash codes are mixed with a random per-table seed, so keys cannot be prepared in advance to share a bucket, and a
+ * bucket of Strings, boxed primitives, BigIntegers or UUIDs that still grows past a threshold (e.g. keys with equal
+ * hash codes) is indexed by a balanced tree, which bounds lookups to O(log N).
  *
- * @param <T> Any type to store in the Hash Table
+ * @param <K> Any type of the keys of the Hash Table
+ * @param <V> Any type to store in the Hash Table
  * @author David Nguyen
  * @since 04/02/2023
  * @version 1.0
  */
-public class HashTable<T> {
+public class HashTable<K, V> implements Iterable<HashTable.HashNode<K, V>> {
 
     // Field to keep track of the capacity of the hash table
     private int capacity;
@@ -18,11 +69,134 @@ public class HashTable<T> {
     private int numElements;
 
     // Field to store the hash table
-    private LinkedList<HashNode<T>>[] hashTable;
+    private ArrayList<HashNode<K, V>>[] hashTable;
+
+    // Field to store the number of slots of a new bucket, which usually holds one or two nodes
+    private static final int initialBucketCapacity = 2;
 
     // Field to store the maximum load factor of this hash table
     private static final double maximumLoadFactor = 1.0;
 
+    // Field to store the largest capacity ensureCapacity and compact size the table to (the largest int power of two)
+    private static final int maximumCapacity = 1 << 30;
+
+    // Field to store the load factor below which removals halve the capacity, or 0 to never shrink
+    private double minimumLoadFactor = 0.125;
+
+    // Field to store the capacity the table never shrinks below, the capacity it was created with
+    private int minimumCapacity;
+
+    // Field to store the old hash table while an incremental rehash is migrating its buckets, null otherwise
+    private ArrayList<HashNode<K, V>>[] oldHashTable;
+
+    // Field to keep track of the next bucket of the old hash table to be migrated
+    private int migrationIndex;
+
+    // Field to keep track of whether this hash table rehashes incrementally
+    private boolean incrementalRehashing;
+
+    // Field to store the number of old buckets migrated by every operation during an incremental rehash
+    private static final int bucketsMigratedPerOperation = 4;
+
+    // Field to keep track of whether the capacity is kept at a power of two, so buckets are indexed with a bit mask
+    private boolean powerOfTwoCapacity;
+
+    // Field to store the strategy that hashes and compares the keys of this table
+    private HashingStrategy<? super K> hashingStrategy = HashingStrategy.natural();
+
+    // Field to store the source of the random hash seeds of all tables
+    private static final SecureRandom hashSeedSource = new SecureRandom();
+
+    // Fields to store the random seed of this table: a value to flip the bits of hash codes with, and an odd multiplier
+    private final long hashSeed = hashSeedSource.nextLong();
+    private final long hashMultiplier = hashSeedSource.nextLong() | 1;
+
+    // Fields to store the estimated sizes in bytes of a bucket with its empty array, one slot of its array, a hash
+    // node, a bucket tree, and one of its entries, assuming compressed references
+    private static final long estimatedBucketBytes = 40;
+    private static final long estimatedBucketSlotBytes = 4;
+    private static final long estimatedHashNodeBytes = 56;
+    private static final long estimatedTreeBytes = 48;
+    private static final long estimatedTreeNodeBytes = 40;
+
+    // Fields to store the first four bytes of every checkpoint ("HTCP") and the version of the checkpoint format
+    private static final int checkpointMagic = 0x48544350;
+    private static final int checkpointVersion = 1;
+
+    // Field to store the size of the buffers checkpoints are written and read through
+    private static final int checkpointBufferSize = 1 << 16;
+
+    // Field to store the largest number of entries a checkpoint being read presizes its table for
+    private static final int maximumPresizedEntries = 1 << 20;
+
+    // Field to store the number of keys below which a parallel loadFrom inserts the keys one by one all the same
+    private static final int parallelBuildThreshold = 1 << 14;
+
+    // Field to store the number of nodes above which a bucket of the current table is indexed by a tree
+    private static final int treeifyThreshold = 8;
+
+    /* Field to store the classes of the keys that can be indexed by a tree: JDK classes whose compareTo returns 0
+     * exactly when equals returns true. A tree matches keys by compareTo alone, so keys of any other Comparable class,
+     * e.g. BigDecimal (1.0 and 1.00) or a user class ordered by only some of its fields, would overwrite each other. */
+    private static final Class<?>[] treeSafeKeyClasses = {String.class, Integer.class, Long.class, Short.class,
+            Byte.class, Character.class, Boolean.class, Double.class, Float.class, BigInteger.class, UUID.class};
+
+    /* Field to store the trees that index the long buckets of the current table, null until a bucket needs one. Only
+     * buckets whose keys are all of the same tree-safe class, under the natural hashing strategy, get a tree. */
+    private TreeMap<K, HashNode<K, V>>[] bucketTrees;
+
+    // Field to keep track of whether the duration of every operation is being measured
+    private boolean pauseTrackingEnabled;
+
+    // Field to store the longest duration of a single operation measured so far, in nanoseconds
+    private long worstCasePauseNanos;
+
+    // Field to keep track of whether the probe lengths of lookups and the durations of resizes are being recorded
+    private boolean statisticsEnabled;
+
+    // Field to count the lookups of every probe length, allocated when statistics are first enabled
+    private long[] probeLengthCounts;
+
+    // Fields to count the resizes of the table and the time spent on them while statistics are enabled
+    private long resizeCount;
+    private long totalResizeNanos;
+
+    // Field to store the name the statistics of the table are registered under with JMX, null if they are not
+    private ObjectName statsMBeanName;
+
+    // Field to store the snapshots of the statistics published for JMX, null if they are not registered
+    private PublishedStats publishedStats;
+
+    // Field to count the insertions and removals of nodes, so iterators can detect modifications made while iterating
+    private int modificationCount;
+
+    // Field to store the maximum total weight of the entries of a bounded table, or 0 for an unbounded table
+    private long maximumWeight;
+
+    // Field to store the function that computes the weight of an entry in a bounded table
+    private ToLongBiFunction<? super K, ? super V> weigher;
+
+    // Field to store the policy that decides which entries a bounded table admits
+    private EvictionPolicy evictionPolicy;
+
+    // Field to keep track of the total weight of the entries of a bounded table
+    private long totalWeight;
+
+    // Fields to store the least and the most recently used nodes, the two ends of the access order of a bounded table
+    private HashNode<K, V> leastRecentlyUsedNode;
+    private HashNode<K, V> mostRecentlyUsedNode;
+
+    // Fields to count the lookups that found their key, the lookups that did not, and the evicted entries
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    // Field to store the timer wheel of the entries with a time to live, created by the first put with a time to live
+    private TimerWheel<HashNode<K, V>> expirationWheel;
+
+    // Field to store the clock that times to live are measured with, in nanoseconds
+    private LongSupplier clock = System::nanoTime;
+
     /**
      * A constructor that creates a Hash Table with a default capacity of 10.
      * Time Complexity: O(1)
@@ -31,160 +205,2078 @@ public class HashTable<T> {
     public HashTable() {
         // Initialize all variables and fields as appropriate
         this.capacity = 10;
+        this.minimumCapacity = 10;
         this.numElements = 0;
-        this.hashTable = new LinkedList[10];
+        this.hashTable = newBucketArray(10);
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public HashTable(int capacity) {
+        // When the capacity given is negative, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        // Initialize all variables and fields as appropriate
+        else {
+            this.capacity = capacity;
+            this.minimumCapacity = Math.max(capacity, 1);
+            this.numElements = 0;
+            this.hashTable = newBucketArray(capacity);
+        }
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity that either rehashes in one pass or
+     * incrementally. An incremental table migrates a few buckets per get, put, or remove, so no single operation pays
+     * for moving the whole table.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param incrementalRehashing True to rehash incrementally, false to rehash in one pass
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public HashTable(int capacity, boolean incrementalRehashing) {
+        this(capacity);
+        this.incrementalRehashing = incrementalRehashing;
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity, rehashing mode, and indexing mode. A
+     * power-of-two table rounds its capacity up to a power of two and finds the bucket of a key by spreading the
+     * key's hash code and masking it, instead of dividing by the capacity; doubling keeps the capacity a power of two.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param incrementalRehashing True to rehash incrementally, false to rehash in one pass
+     * @param powerOfTwoCapacity True to index buckets with a bit mask, false to index them with the modulo operator
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public HashTable(int capacity, boolean incrementalRehashing, boolean powerOfTwoCapacity) {
+        this(capacity, incrementalRehashing);
+        this.powerOfTwoCapacity = powerOfTwoCapacity;
+        // Round the capacity up to a power of two (at least 1) and allocate the table again with it
+        if (powerOfTwoCapacity) {
+            this.capacity = Integer.highestOneBit(Math.max(capacity, 1));
+            if (this.capacity < capacity) {
+                this.capacity = this.capacity * 2;
+            }
+            this.hashTable = newBucketArray(this.capacity);
+            this.minimumCapacity = this.capacity;
+        }
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity whose keys are hashed and compared by the
+     * specified strategy instead of their own hashCode and equals, e.g. to compare Strings ignoring case or arrays by
+     * their contents.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param hashingStrategy The strategy that hashes and compares the keys
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public HashTable(int capacity, HashingStrategy<? super K> hashingStrategy) {
+        this(capacity, false, false, hashingStrategy);
+    }
+
+    /**
+     * A constructor that creates a Hash Table with the specified capacity, rehashing mode, indexing mode, and strategy
+     * that hashes and compares the keys.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param incrementalRehashing True to rehash incrementally, false to rehash in one pass
+     * @param powerOfTwoCapacity True to index buckets with a bit mask, false to index them with the modulo operator
+     * @param hashingStrategy The strategy that hashes and compares the keys
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public HashTable(int capacity, boolean incrementalRehashing, boolean powerOfTwoCapacity,
+                     HashingStrategy<? super K> hashingStrategy) {
+        this(capacity, incrementalRehashing, powerOfTwoCapacity);
+        this.hashingStrategy = hashingStrategy;
+    }
+
+    /**
+     * A constructor that creates a bounded Hash Table that holds at most the specified number of entries. Once full,
+     * inserting a new key evicts the least recently used entry, if the eviction policy admits the new key.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param maximumSize The maximum number of entries
+     * @param evictionPolicy The policy that decides whether a new key replaces the least recently used entry
+     * @throws IllegalArgumentException When the capacity given is negative or the maximum size is not positive, throw an
+     * IllegalArgumentException
+     */
+    public HashTable(int capacity, int maximumSize, EvictionPolicy evictionPolicy) {
+        this(capacity, maximumSize, (key, value) -> 1, evictionPolicy);
+    }
+
+    /**
+     * A constructor that creates a bounded Hash Table whose entries weigh at most the specified total, for example a
+     * byte budget with a weigher that estimates the size of every entry. Once full, inserting a new key evicts least
+     * recently used entries until the new entry fits, as long as the eviction policy admits the new key.
+     * Time Complexity: O(1)
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param maximumWeight The maximum total weight of the entries
+     * @param weigher The function that computes the weight of an entry from its key and value
+     * @param evictionPolicy The policy that decides whether a new key replaces the least recently used entry
+     * @throws IllegalArgumentException When the capacity given is negative or the maximum weight is not positive, throw
+     * an IllegalArgumentException
+     */
+    public HashTable(int capacity, long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher,
+                     EvictionPolicy evictionPolicy) {
+        this(capacity, false, true);
+        // When the maximum weight given is not positive, throw an IllegalArgumentException
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("The maximum size of a bounded hash table must be greater than 0");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws IllegalArgumentException If the key does not exist, throw an IllegalArgumentException
+     */
+    public V get(K key) {
+        // Variable that keeps track of the return value
+        V returnValue = tryGet(key);
+        // Check one last time: if the return variable is null, throw an IllegalArgumentException
+        if (returnValue == null) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        // Return the value associated with the given key
+        return returnValue;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or null if the key does not exist. Unlike
+     * get, a miss neither throws nor allocates anything.
+     * Time Complexity: O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key, or null if the key does not exist
+     */
+    public V tryGet(K key) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // A variable that keeps track of the node of the key, searched in both tables during a migration
+        HashNode<K, V> node = findNode(key);
+        // Variable that keeps track of the return value
+        V returnValue = null;
+        if (node != null) {
+            returnValue = node.getValue();
+            this.hitCount = this.hitCount + 1;
+        }
+        else {
+            this.missCount = this.missCount + 1;
+        }
+        recordAccess(key, node);
+        stopPauseTimer(startTime);
+        return returnValue;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or the specified default value if the key
+     * does not exist.
+     * Time Complexity: O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to get the value with
+     * @param defaultValue The value to return if the key does not exist
+     * @return The value associated with the specified key, or the default value if the key does not exist
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        // Variable that keeps track of the value associated with the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * A method that checks whether the hash table contains the specified key.
+     * Time Complexity: O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to look for
+     * @return True if the key exists in the hash table, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return tryGet(key) != null;
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the hash table, replacing the value of an existing key.
+     * Also rehashes the table if necessary. To add to an existing Integer value instead, use merge, e.g.
+     * {@code table.merge(key, 1, Integer::sum)}.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     */
+    public void put(K key, V value) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> existingNode = findNode(key, hashCode);
+        // If the key already exists, simply replace its value with the new value
+        if (existingNode != null) {
+            recordAccess(key, existingNode);
+            replaceValue(existingNode, value);
+            clearExpirationTime(existingNode);
+        }
+        // Otherwise, add a new node to the table
+        else {
+            insertNewNode(hashCode, key, value);
+        }
+        stopPauseTimer(startTime);
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the hash table with a time to live, replacing the value and
+     * the time to live of an existing key. Once the time to live has run out, the key is treated as absent. A later
+     * put without a time to live makes the entry permanent again, while merge and compute keep its time to live.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     * @param timeToLive How long the entry lives, in the given unit
+     * @param unit The unit of the time to live
+     * @throws IllegalArgumentException If the time to live is not positive, throw an IllegalArgumentException
+     */
+    public void put(K key, V value, long timeToLive, TimeUnit unit) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("The time to live must be greater than 0");
+        }
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> node = findNode(key, hashCode);
+        // Variable to store the time the entry expires at
+        long expirationTime = this.clock.getAsLong() + unit.toNanos(timeToLive);
+        // Set the expiration time before replacing the value, since a bounded table may evict the node right away
+        if (node != null) {
+            recordAccess(key, node);
+            setExpirationTime(node, expirationTime);
+            replaceValue(node, value);
+        }
+        else {
+            node = insertNewNode(hashCode, key, value);
+            // Give the new node its expiration time, unless a bounded table did not admit it
+            if (node != null) {
+                setExpirationTime(node, expirationTime);
+            }
+        }
+        stopPauseTimer(startTime);
+    }
+
+    /**
+     * A method that stores the specified key-value pair only if the key does not exist yet.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     * @return The existing value of the key, or null if the key did not exist and the value has been stored
+     */
+    public V putIfAbsent(K key, V value) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> existingNode = findNode(key, hashCode);
+        // Variable to store the existing value to be returned
+        V existingValue = null;
+        if (existingNode != null) {
+            existingValue = existingNode.getValue();
+            recordAccess(key, existingNode);
+        }
+        else {
+            insertNewNode(hashCode, key, value);
+        }
+        stopPauseTimer(startTime);
+        return existingValue;
+    }
+
+    /**
+     * A method that combines the specified value with the existing value of the key using the remapping function,
+     * or stores the specified value if the key does not exist. If the function returns null, the key is removed.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to merge the value into
+     * @param value Any value to merge, stored as is if the key does not exist
+     * @param remappingFunction The function that combines the existing value and the given value
+     * @return The new value of the key, or null if the key has been removed
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> existingNode = findNode(key, hashCode);
+        // Variable to store the new value of the key
+        V newValue = value;
+        if (existingNode == null) {
+            insertNewNode(hashCode, key, value);
+        }
+        else {
+            recordAccess(key, existingNode);
+            newValue = remappingFunction.apply(existingNode.getValue(), value);
+            updateOrRemoveNode(existingNode, newValue);
+        }
+        stopPauseTimer(startTime);
+        return newValue;
+    }
+
+    /**
+     * A method that computes a new value for the key from the key and its existing value (null if the key does not
+     * exist). If the function returns null, the key is removed or not added.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to compute the value of
+     * @param remappingFunction The function that computes the new value from the key and its existing value
+     * @return The new value of the key, or null if the key does not exist anymore
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> existingNode = findNode(key, hashCode);
+        // Variable to store the new value of the key
+        V newValue;
+        if (existingNode == null) {
+            newValue = remappingFunction.apply(key, null);
+            if (newValue != null) {
+                insertNewNode(hashCode, key, newValue);
+            }
+        }
+        else {
+            recordAccess(key, existingNode);
+            newValue = remappingFunction.apply(key, existingNode.getValue());
+            updateOrRemoveNode(existingNode, newValue);
+        }
+        stopPauseTimer(startTime);
+        return newValue;
+    }
+
+    /**
+     * A method that returns the existing value of the key, or computes it with the mapping function and stores it if
+     * the key does not exist. If the function returns null, nothing is stored.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to get or compute the value of
+     * @param mappingFunction The function that computes the value of a key that does not exist
+     * @return The existing or newly computed value of the key, or null if the function returned null
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable to store the hash code of the given key, computed once for the lookup and the insertion
+        int hashCode = getHashCodeOfKey(key);
+        // Variable to store the node of the given key, if it already exists
+        HashNode<K, V> existingNode = findNode(key, hashCode);
+        // Variable to store the value of the key
+        V value;
+        if (existingNode != null) {
+            value = existingNode.getValue();
+            recordAccess(key, existingNode);
+        }
+        else {
+            value = mappingFunction.apply(key);
+            if (value != null) {
+                insertNewNode(hashCode, key, value);
+            }
+        }
+        stopPauseTimer(startTime);
+        return value;
+    }
+
+    /**
+     * A method that removes a key-value pair associated with the specified key and returns the associated value.
+     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the newly removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     */
+    public V remove(K key) {
+        // Variable that stores the start time of this operation, if pauses are being tracked
+        long startTime = startPauseTimer();
+        // Migrate a few buckets first if an incremental rehash is in progress
+        migrateBuckets();
+        // Reap the entries whose time to live has run out
+        expireEntries();
+        // Variable that keeps track of the removed node, searched in both tables during a migration
+        HashNode<K, V> removedNode = removeNode(key);
+        // An expired entry that had not been reaped yet counts as absent
+        if (removedNode != null && isExpired(removedNode)) {
+            removedNode = null;
+        }
+        // Shrink the table if it has become too sparse
+        shrinkIfSparse();
+        stopPauseTimer(startTime);
+        // Check one last time: if no node has been removed, throw an NoSuchElementException
+        if (removedNode == null || removedNode.getValue() == null) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        // Return the value associated with the given key
+        return removedNode.getValue();
+    }
+
+    /**
+     * A method that makes room for the specified number of elements with at most one rehash, so that inserting them
+     * does not double the capacity over and over. Does nothing if the table is already large enough.
+     * Time Complexity: O(N + C) when the table is rehashed, where N is the number of elements and C is the new capacity
+     *
+     * @param expectedSize The number of elements the table is expected to hold
+     * @throws IllegalArgumentException If the expected size needs more than 2^30 buckets, throw an
+     * IllegalArgumentException
+     */
+    public void ensureCapacity(int expectedSize) {
+        // If the expected size needs more than the largest capacity, throw an IllegalArgumentException
+        if (expectedSize >= maximumCapacity) {
+            throw new IllegalArgumentException("The expected size must be less than " + maximumCapacity);
+        }
+        // Variable that stores the smallest capacity that holds the expected number of elements without growing
+        int requiredCapacity = expectedSize + 1;
+        if (this.powerOfTwoCapacity) {
+            requiredCapacity = 1;
+            while (requiredCapacity <= expectedSize) {
+                requiredCapacity = requiredCapacity * 2;
+            }
+        }
+        if (requiredCapacity > this.capacity) {
+            finishMigration();
+            rebuildTable(requiredCapacity);
+            this.modificationCount = this.modificationCount + 1;
+        }
+    }
+
+    /**
+     * A method that stores every key of the array with the value at the same index, after sizing the table once for
+     * all of them. A key that appears more than once keeps its last value.
+     * Time Complexity: O(N) average case where N is the number of keys
+     *
+     * @param keys The keys to be added to the hash table
+     * @param values The values of the keys, index for index
+     * @throws IllegalArgumentException If the arrays have different lengths, throw an IllegalArgumentException
+     */
+    public void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The keys and the values must have the same length!");
+        }
+        ensureCapacity(this.numElements + keys.length);
+        for (int index = 0; index < keys.length; index = index + 1) {
+            put(keys[index], values[index]);
+        }
+    }
+
+    /**
+     * A method that stores every entry of the map, after sizing the table once for all of them.
+     * Time Complexity: O(N) average case where N is the number of entries of the map
+     *
+     * @param entries The map whose entries are to be added to the hash table
+     */
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        ensureCapacity(this.numElements + entries.size());
+        for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * A method that builds a power-of-two Hash Table out of every key of the array and the value at the same index,
+     * sized once for all of them. A parallel build splits the buckets into ranges (the prefixes of the hash codes),
+     * partitions the keys by range, and fills every range in a separate fork-join task; since the ranges are
+     * disjoint, the tasks never touch the same bucket and the table is done once they have all finished. A key that
+     * appears more than once keeps its last value either way.
+     * Time Complexity: O(N) average case where N is the number of keys, divided among the cores when parallel
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param keys The keys of the new hash table
+     * @param values The values of the keys, index for index
+     * @param parallel True to build the table in parallel, false to insert the keys one by one
+     * @return The new hash table
+     * @throws IllegalArgumentException If the arrays have different lengths, throw an IllegalArgumentException
+     */
+    public static <K, V> HashTable<K, V> loadFrom(K[] keys, V[] values, boolean parallel) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The keys and the values must have the same length!");
+        }
+        // Variable that stores the new table, whose capacity is the smallest power of two above the number of keys
+        HashTable<K, V> hashTable = new HashTable<K, V>(keys.length + 1, false, true);
+        if (parallel && keys.length >= parallelBuildThreshold) {
+            hashTable.buildInParallel(keys, values);
+        }
+        else {
+            hashTable.putAll(keys, values);
+        }
+        return hashTable;
+    }
+
+    /**
+     * A method that builds a power-of-two Hash Table out of the elements of a stream, sized once for the expected
+     * number of elements. A parallel stream is collected into arrays and built in parallel, like loadFrom with arrays.
+     * Time Complexity: O(N) average case where N is the number of elements, divided among the cores when parallel
+     *
+     * @param <E> Any type of the elements of the stream
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param elements The elements to build the table out of
+     * @param keyFunction The function that gives the key of an element
+     * @param valueFunction The function that gives the value of an element
+     * @param expectedSize The expected number of elements, used to size the table of a sequential stream
+     * @return The new hash table
+     */
+    public static <E, K, V> HashTable<K, V> loadFrom(Stream<E> elements, Function<? super E, ? extends K> keyFunction,
+                                                     Function<? super E, ? extends V> valueFunction, int expectedSize) {
+        if (elements.isParallel()) {
+            // Variables that store the elements, and their keys and values computed in parallel; the arrays are only
+            // read back as their erased types, so the unchecked casts are safe
+            @SuppressWarnings("unchecked") E[] elementArray = (E[]) elements.toArray();
+            @SuppressWarnings("unchecked") K[] keys = (K[]) new Object[elementArray.length];
+            @SuppressWarnings("unchecked") V[] values = (V[]) new Object[elementArray.length];
+            Arrays.parallelSetAll(keys, index -> keyFunction.apply(elementArray[index]));
+            Arrays.parallelSetAll(values, index -> valueFunction.apply(elementArray[index]));
+            return loadFrom(keys, values, true);
+        }
+        // Variable that stores the new table, whose capacity is the smallest power of two above the expected size
+        HashTable<K, V> hashTable = new HashTable<K, V>(expectedSize + 1, false, true);
+        elements.forEachOrdered(element -> hashTable.put(keyFunction.apply(element), valueFunction.apply(element)));
+        return hashTable;
+    }
+
+    /**
+     * A method that returns the number of elements currently in the hash table, after reaping the expired ones.
+     * Time Complexity: O(1) amortized per expired entry
+     *
+     * @return The number of elements currently in the hash table.
+     */
+    public int size() {
+        // Reap the expired entries first, so they are not counted even if the table has been idle
+        expireEntries();
+        // Variable that keeps track of the number of elements currently in the hash table
+        int numElements = this.numElements;
+        return numElements;
+    }
+
+    /**
+     * A method that returns the current capacity (number of buckets) of the hash table.
+     * Time Complexity: O(1)
+     *
+     * @return The capacity of the hash table
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * A method that sets the low-water load factor: when a removal leaves fewer than capacity * minimumLoadFactor
+     * elements, the capacity is halved, down to the capacity the table was created with. It is 0.125 by default.
+     * Time Complexity: O(1)
+     *
+     * @param minimumLoadFactor The new low-water load factor, or 0 to never shrink automatically
+     * @throws IllegalArgumentException If the load factor is negative or so high that a halved table would grow right
+     * back, throw an IllegalArgumentException
+     */
+    public void setMinimumLoadFactor(double minimumLoadFactor) {
+        if (minimumLoadFactor < 0 || minimumLoadFactor >= maximumLoadFactor / 2) {
+            throw new IllegalArgumentException("The minimum load factor must be at least 0 and below " + maximumLoadFactor / 2);
+        }
+        this.minimumLoadFactor = minimumLoadFactor;
+    }
+
+    /**
+     * A method that rebuilds the table at the smallest power-of-two capacity that holds its elements without growing,
+     * dropping the buckets that removals have emptied. An incremental rehash in progress is finished first, and the
+     * rebuild itself is done in one pass.
+     * Time Complexity: O(N + C) where N is the number of elements and C is the capacity
+     *
+     * @return The estimated number of bytes reclaimed from the bucket array and the empty buckets
+     */
+    public long compact() {
+        finishMigration();
+        // Variable that stores the estimated size of the table before compacting
+        long bytesBefore = estimatedTableBytes();
+        // Variable that stores the new capacity: the smallest power of two above the number of elements
+        int newCapacity = 1;
+        while (newCapacity <= this.numElements && newCapacity < maximumCapacity) {
+            newCapacity = newCapacity * 2;
+        }
+        rebuildTable(Math.min(newCapacity, Math.max(this.capacity, 1)));
+        this.modificationCount = this.modificationCount + 1;
+        return bytesBefore - estimatedTableBytes();
+    }
+
+    /**
+     * A method that compiles the entries of the table into a FrozenHashTable, a read-only table built on a minimal
+     * perfect hash function, which stores them in dense arrays without chains or empty buckets. The table itself is
+     * left unchanged.
+     * Time Complexity: O(N log N) expected where N is the number of elements
+     *
+     * @return The frozen copy of the table
+     */
+    public FrozenHashTable<K, V> freeze() {
+        // Variable that stores the iterator over the entries, created first as it reaps the expired ones
+        Iterator<HashNode<K, V>> entryIterator = iterator();
+        // Variables that store the keys and values of the entries, index for index, and the number of entries, which
+        // is less than the size if some expired entries have not been reaped yet
+        @SuppressWarnings("unchecked") K[] keys = (K[]) new Object[this.numElements];
+        @SuppressWarnings("unchecked") V[] values = (V[]) new Object[this.numElements];
+        int numberOfEntries = 0;
+        while (entryIterator.hasNext()) {
+            HashNode<K, V> hashNode = entryIterator.next();
+            keys[numberOfEntries] = hashNode.getKey();
+            values[numberOfEntries] = hashNode.getValue();
+            numberOfEntries = numberOfEntries + 1;
+        }
+        if (numberOfEntries < keys.length) {
+            keys = Arrays.copyOf(keys, numberOfEntries);
+            values = Arrays.copyOf(values, numberOfEntries);
+        }
+        return new FrozenHashTable<K, V>(keys, values, this.hashingStrategy);
+    }
+
+    /**
+     * A method that writes a checkpoint of the table to the output stream: a header holding the number of entries,
+     * then every key and its value, written by the given codecs. The stream is flushed but not closed.
+     * Time Complexity: O(N + C) where N is the number of elements and C is the capacity
+     *
+     * @param output The stream to write the checkpoint to
+     * @param keyCodec The codec that writes the keys
+     * @param valueCodec The codec that writes the values
+     * @throws IOException If the stream cannot be written to, throw an IOException
+     */
+    public void writeTo(OutputStream output, HashTableCodec<? super K> keyCodec, HashTableCodec<? super V> valueCodec)
+            throws IOException {
+        finishMigration();
+        expireEntries();
+        // Variable that stores the time the entries are written at, which the count and the entries agree on
+        long iterationTime = this.clock.getAsLong();
+        // Variable that stores the number of entries to write: every entry, less the expired ones not reaped yet
+        int numberOfEntries = this.numElements;
+        if (hasTimedEntries()) {
+            numberOfEntries = 0;
+            for (Iterator<HashNode<K, V>> counter = new EntryIterator(iterationTime); counter.hasNext(); counter.next()) {
+                numberOfEntries = numberOfEntries + 1;
+            }
+        }
+        // Variable that stores the iterator over the entries
+        Iterator<HashNode<K, V>> entryIterator = new EntryIterator(iterationTime);
+        // Variable that stores the buffered stream the checkpoint is written through
+        DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(output, checkpointBufferSize));
+        dataOutput.writeInt(checkpointMagic);
+        dataOutput.writeByte(checkpointVersion);
+        HashTableCodec.writeVarLong(dataOutput, numberOfEntries);
+        while (entryIterator.hasNext()) {
+            HashNode<K, V> hashNode = entryIterator.next();
+            keyCodec.write(hashNode.getKey(), dataOutput);
+            valueCodec.write(hashNode.getValue(), dataOutput);
+        }
+        dataOutput.flush();
+    }
+
+    /**
+     * A method that writes a checkpoint of the table to the file channel at its current position, like writeTo with
+     * an output stream. The channel is left open.
+     * Time Complexity: O(N + C) where N is the number of elements and C is the capacity
+     *
+     * @param channel The file channel to write the checkpoint to
+     * @param keyCodec The codec that writes the keys
+     * @param valueCodec The codec that writes the values
+     * @throws IOException If the channel cannot be written to, throw an IOException
+     */
+    public void writeTo(FileChannel channel, HashTableCodec<? super K> keyCodec, HashTableCodec<? super V> valueCodec)
+            throws IOException {
+        writeTo(Channels.newOutputStream(channel), keyCodec, valueCodec);
+    }
+
+    /**
+     * A method that reads a checkpoint written by writeTo into a new power-of-two Hash Table. The table is sized once
+     * from the number of entries in the header, so the entries are inserted without any rehash. The stream is read
+     * through a buffer, so it should hold nothing after the checkpoint; it is not closed.
+     * Time Complexity: O(N) average case where N is the number of entries
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param input The stream to read the checkpoint from
+     * @param keyCodec The codec that reads the keys
+     * @param valueCodec The codec that reads the values
+     * @return The new hash table
+     * @throws IOException If the stream cannot be read or does not hold a checkpoint, throw an IOException
+     */
+    public static <K, V> HashTable<K, V> readFrom(InputStream input, HashTableCodec<? extends K> keyCodec,
+                                                  HashTableCodec<? extends V> valueCodec) throws IOException {
+        return readCheckpoint(new DataInputStream(new BufferedInputStream(input, checkpointBufferSize)), Long.MAX_VALUE,
+                keyCodec, valueCodec);
+    }
+
+    /**
+     * A method that reads a checkpoint written by writeTo from the file channel, starting at its current position.
+     * When memory-mapped, the file is mapped and decoded in place, without copying it through the buffers of a stream
+     * or a read system call per buffer; a mapped checkpoint can be at most 2 GB. Either way, the position of the
+     * channel ends up right after the checkpoint.
+     * Time Complexity: O(N) average case where N is the number of entries
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param channel The file channel to read the checkpoint from
+     * @param keyCodec The codec that reads the keys
+     * @param valueCodec The codec that reads the values
+     * @param memoryMapped True to map the file into memory, false to read it through a stream
+     * @return The new hash table
+     * @throws IOException If the channel cannot be read or does not hold a checkpoint, throw an IOException
+     */
+    public static <K, V> HashTable<K, V> readFrom(FileChannel channel, HashTableCodec<? extends K> keyCodec,
+                                                  HashTableCodec<? extends V> valueCodec, boolean memoryMapped)
+            throws IOException {
+        // Variable that stores the position the checkpoint starts at
+        long startPosition = channel.position();
+        if (!memoryMapped) {
+            // Variable that stores the buffer the channel is read through
+            ByteBuffer buffer = ByteBuffer.allocate(checkpointBufferSize);
+            buffer.limit(0);
+            // Variable that stores the new table
+            HashTable<K, V> hashTable = readCheckpoint(new DataInputStream(new ByteBufferInputStream(buffer, channel)),
+                    channel.size() - startPosition, keyCodec, valueCodec);
+            // Give back the bytes that have been read ahead into the buffer
+            channel.position(channel.position() - buffer.remaining());
+            return hashTable;
+        }
+        // Variable that stores the mapped rest of the file
+        ByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, startPosition,
+                Math.min(channel.size() - startPosition, Integer.MAX_VALUE));
+        // Variable that stores the new table
+        HashTable<K, V> hashTable = readCheckpoint(new DataInputStream(new ByteBufferInputStream(mappedBuffer, null)),
+                mappedBuffer.remaining(), keyCodec, valueCodec);
+        channel.position(startPosition + mappedBuffer.position());
+        return hashTable;
+    }
+
+    /**
+     * A helper method that reads the header and the entries of a checkpoint into a new table sized for them. The
+     * number of entries in the header is not trusted: every entry takes at least one byte, so a count larger than the
+     * bytes left in the input is rejected, and the table is presized for at most maximumPresizedEntries entries and
+     * grows as usual beyond them, so a forged count cannot make it allocate a huge bucket array.
+     * Time Complexity: O(N) average case where N is the number of entries
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param dataInput The input to read the checkpoint from
+     * @param inputLength The number of bytes from the start of the checkpoint to the end of the input, or
+     * Long.MAX_VALUE if it is unknown
+     * @param keyCodec The codec that reads the keys
+     * @param valueCodec The codec that reads the values
+     * @return The new hash table
+     * @throws IOException If the input cannot be read or does not hold a checkpoint, throw an IOException
+     */
+    private static <K, V> HashTable<K, V> readCheckpoint(DataInputStream dataInput, long inputLength,
+                                                         HashTableCodec<? extends K> keyCodec,
+                                                         HashTableCodec<? extends V> valueCodec) throws IOException {
+        if (dataInput.readInt() != checkpointMagic) {
+            throw new IOException("The input does not hold a HashTable checkpoint");
+        }
+        // Variable that stores the version of the checkpoint format
+        int version = dataInput.readUnsignedByte();
+        if (version != checkpointVersion) {
+            throw new IOException("Unsupported HashTable checkpoint version " + version);
+        }
+        // Variable that stores the number of entries of the checkpoint
+        long numberOfEntries = HashTableCodec.readVarLong(dataInput);
+        // Variable that stores the number of bytes of the header: the magic number, the version, and the varint count
+        int headerLength = 5 + (64 - Long.numberOfLeadingZeros(numberOfEntries | 1) + 6) / 7;
+        if (numberOfEntries < 0 || numberOfEntries >= Integer.MAX_VALUE / 2
+                || numberOfEntries > inputLength - headerLength) {
+            throw new IOException("Invalid number of entries " + numberOfEntries);
+        }
+        // Variable that stores the new table, whose capacity is the smallest power of two above the number of entries
+        HashTable<K, V> hashTable = new HashTable<K, V>((int) Math.min(numberOfEntries, maximumPresizedEntries) + 1,
+                false, true);
+        for (long index = 0; index < numberOfEntries; index = index + 1) {
+            // Variable that stores the key of the current entry, read before its value
+            K key = keyCodec.read(dataInput);
+            hashTable.put(key, valueCodec.read(dataInput));
+        }
+        return hashTable;
+    }
+
+    /**
+     * A method that returns whether an incremental rehash is currently migrating buckets from the old table.
+     * Time Complexity: O(1)
+     *
+     * @return True if an incremental rehash is in progress, false otherwise
+     */
+    public boolean isRehashing() {
+        return this.oldHashTable != null;
+    }
+
+    /**
+     * A method that turns the measurement of the duration of every get, put, and remove on or off. Measuring costs
+     * two System.nanoTime() calls per operation; when it is off, only a boolean check is paid.
+     * Time Complexity: O(1)
+     *
+     * @param enabled True to measure every operation, false to stop measuring
+     */
+    public void setPauseTracking(boolean enabled) {
+        this.pauseTrackingEnabled = enabled;
+    }
+
+    /**
+     * A method that returns the longest duration of a single get, put, or remove measured since pause tracking was
+     * turned on or last reset. Comparing this between an eager and an incremental table shows the resize pause.
+     * Time Complexity: O(1)
+     *
+     * @return The worst-case per-operation pause in nanoseconds
+     */
+    public long worstCasePauseNanos() {
+        return this.worstCasePauseNanos;
+    }
+
+    /**
+     * A method that resets the worst-case per-operation pause measured so far.
+     * Time Complexity: O(1)
+     *
+     */
+    public void resetPauseTracking() {
+        this.worstCasePauseNanos = 0;
+    }
+
+    /**
+     * A method that turns the recording of the probe length of every lookup and of the duration of every resize on or
+     * off. When it is off, a lookup only pays a boolean check; the shape of the table (chain lengths, load factor,
+     * memory) is measured by stats() on demand and costs nothing in between.
+     * Time Complexity: O(1)
+     *
+     * @param enabled True to record probe lengths and resize durations, false to stop recording them
+     */
+    public void setStatisticsEnabled(boolean enabled) {
+        if (enabled && this.probeLengthCounts == null) {
+            this.probeLengthCounts = new long[HashTableStats.histogramLength];
+        }
+        this.statisticsEnabled = enabled;
+    }
+
+    /**
+     * A method that resets the probe lengths, resize count, and resize time recorded so far.
+     * Time Complexity: O(1)
+     *
+     */
+    public void resetStatistics() {
+        if (this.probeLengthCounts != null) {
+            Arrays.fill(this.probeLengthCounts, 0);
+        }
+        this.resizeCount = 0;
+        this.totalResizeNanos = 0;
+    }
+
+    /**
+     * A method that takes a snapshot of the internals of the table: the histogram of its bucket lengths, its longest
+     * bucket, its load factor, its resizes, its hits and misses, its estimated memory use, and the probe lengths
+     * recorded while statistics were enabled. During an incremental rehash, the buckets of both tables are counted.
+     * If the statistics are registered with JMX, the snapshot is published there as well.
+     * Time Complexity: O(N + C) where N is the number of elements and C is the capacity
+     *
+     * @return The snapshot of the statistics of the table
+     */
+    public HashTableStats stats() {
+        // Variables that store the histogram of the bucket lengths, the longest bucket, and the number of tree buckets
+        long[] chainLengthHistogram = new long[HashTableStats.histogramLength];
+        int maxChainLength = 0;
+        int treeifiedBucketCount = 0;
+        // Variable that accumulates the estimated memory used by the bucket arrays, the buckets, and the trees
+        long estimatedBytes = 0;
+        for (ArrayList<HashNode<K, V>>[] buckets : Arrays.asList(this.hashTable, this.oldHashTable)) {
+            if (buckets == null) {
+                continue;
+            }
+            estimatedBytes = estimatedBytes + 16 + 4L * buckets.length;
+            for (ArrayList<HashNode<K, V>> bucket : buckets) {
+                // Variable that stores the number of nodes in the current bucket
+                int chainLength = bucket == null ? 0 : bucket.size();
+                chainLengthHistogram[Math.min(chainLength, HashTableStats.histogramLength - 1)]++;
+                maxChainLength = Math.max(maxChainLength, chainLength);
+                if (bucket != null) {
+                    estimatedBytes = estimatedBytes + estimatedBucketBytes + estimatedBucketSlotBytes * chainLength;
+                }
+            }
+        }
+        if (this.bucketTrees != null) {
+            estimatedBytes = estimatedBytes + 16 + 4L * this.bucketTrees.length;
+            for (TreeMap<K, HashNode<K, V>> bucketTree : this.bucketTrees) {
+                if (bucketTree != null) {
+                    treeifiedBucketCount = treeifiedBucketCount + 1;
+                    estimatedBytes = estimatedBytes + estimatedTreeBytes + estimatedTreeNodeBytes * bucketTree.size();
+                }
+            }
+        }
+        estimatedBytes = estimatedBytes + estimatedHashNodeBytes * this.numElements;
+        // Variable that stores the snapshot
+        HashTableStats snapshot = new HashTableStats(this.numElements, this.capacity, chainLengthHistogram,
+                maxChainLength, treeifiedBucketCount, probeLengthHistogram(), this.resizeCount, this.totalResizeNanos,
+                this.hitCount, this.missCount, estimatedBytes);
+        if (this.publishedStats != null) {
+            this.publishedStats.publish(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * A helper method that returns the histogram of the probe lengths recorded while statistics were enabled.
+     * Time Complexity: O(1)
+     *
+     * @return The histogram of the probe lengths, all zeros if statistics have never been enabled
+     */
+    private long[] probeLengthHistogram() {
+        if (this.probeLengthCounts == null) {
+            return new long[HashTableStats.histogramLength];
+        }
+        return this.probeLengthCounts;
+    }
+
+    /**
+     * A method that registers the statistics of the table with the platform MBean server under the given name, e.g.
+     * "HashTable:type=Stats,name=wordRanks", so they can be watched in JConsole. JMX only ever reads an immutable
+     * snapshot, which the table publishes from its own thread: once a snapshot read through JMX is older than a second,
+     * the next operation on the table refreshes its counters, which takes O(1). The bucket lengths, trees and memory
+     * use take a scan of the whole table, so they are only refreshed by an explicit stats() call, never behind the
+     * back of an operation. The table needs no locking, and the registration does not keep the table alive.
+     * Registering again replaces the previous registration.
+     * Time Complexity: O(N + C) where N is the number of elements and C is the capacity
+     *
+     * @param name The JMX object name to register the statistics under
+     * @throws IllegalArgumentException If the name is malformed or already registered, throw an
+     * IllegalArgumentException
+     */
+    public void registerMBean(String name) {
+        unregisterMBean();
+        try {
+            // Variable that stores the parsed object name
+            ObjectName objectName = new ObjectName(name);
+            // Variable that stores the published snapshots, starting with a snapshot of the table as it is now
+            PublishedStats newPublishedStats = new PublishedStats(stats());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(newPublishedStats, HashTableStatsMXBean.class, true), objectName);
+            this.statsMBeanName = objectName;
+            this.publishedStats = newPublishedStats;
+        }
+        catch (JMException exception) {
+            throw new IllegalArgumentException("The statistics cannot be registered under the name " + name, exception);
+        }
+    }
+
+    /**
+     * A method that unregisters the statistics of the table from the platform MBean server, if they are registered.
+     * Time Complexity: O(1)
+     *
+     */
+    public void unregisterMBean() {
+        if (this.statsMBeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.statsMBeanName);
+        }
+        catch (JMException exception) {
+            // The registration has already been removed from the server, so there is nothing left to undo
+        }
+        this.statsMBeanName = null;
+        this.publishedStats = null;
+    }
+
+    /**
+     * A method that replaces the clock that times to live are measured with, e.g. to simulate time. It must be set
+     * before the first put with a time to live.
+     * Time Complexity: O(1)
+     *
+     * @param clock A clock that returns the current time in nanoseconds
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * A method that returns the number of lookups (get, tryGet, getOrDefault, containsKey) that found their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of hits
+     */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * A method that returns the number of lookups (get, tryGet, getOrDefault, containsKey) that did not find their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of misses
+     */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    /**
+     * A method that returns the number of entries a bounded table has evicted to stay within its maximum size.
+     * Time Complexity: O(1)
+     *
+     * @return The number of evictions
+     */
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * A method that returns the total weight of the entries of a bounded table (their number, without a weigher).
+     * Time Complexity: O(1)
+     *
+     * @return The total weight of the entries, or 0 for an unbounded table
+     */
+    public long totalWeight() {
+        return this.totalWeight;
+    }
+
+    /**
+     * A method that returns a fail-fast iterator over the entries of the hash table, in bucket order. Changing a value
+     * while iterating is allowed; inserting or removing a key other than through the iterator's own remove method
+     * makes the iterator throw a ConcurrentModificationException. Entries whose time to live had run out when the
+     * iterator was created are skipped.
+     * Time Complexity: O(1) to create, O(N + C) to iterate where N is the number of elements and C is the capacity
+     *
+     * @return An iterator over the entries of the hash table
+     */
+    @Override
+    public Iterator<HashNode<K, V>> iterator() {
+        finishMigration();
+        expireEntries();
+        return new EntryIterator(this.clock.getAsLong());
+    }
+
+    /**
+     * A method that returns the keys of the hash table, iterated by a fail-fast iterator in bucket order.
+     * Time Complexity: O(1)
+     *
+     * @return An Iterable over the keys of the hash table
+     */
+    public Iterable<K> keys() {
+        return () -> {
+            // Variable that stores the iterator over the entries whose keys are returned
+            Iterator<HashNode<K, V>> entryIterator = iterator();
+            return new Iterator<K>() {
+                public boolean hasNext() {
+                    return entryIterator.hasNext();
+                }
+
+                public K next() {
+                    return entryIterator.next().getKey();
+                }
+
+                public void remove() {
+                    entryIterator.remove();
+                }
+            };
+        };
+    }
+
+    /**
+     * A method that returns the values of the hash table, iterated by a fail-fast iterator in bucket order.
+     * Time Complexity: O(1)
+     *
+     * @return An Iterable over the values of the hash table
+     */
+    public Iterable<V> values() {
+        return () -> {
+            // Variable that stores the iterator over the entries whose values are returned
+            Iterator<HashNode<K, V>> entryIterator = iterator();
+            return new Iterator<V>() {
+                public boolean hasNext() {
+                    return entryIterator.hasNext();
+                }
+
+                public V next() {
+                    return entryIterator.next().getValue();
+                }
+
+                public void remove() {
+                    entryIterator.remove();
+                }
+            };
+        };
+    }
+
+    /**
+     * A method that returns a fail-fast Spliterator over the entries of the hash table. It splits by halving its range
+     * of bucket indexes, so every split is O(1) and the halves hold about the same number of entries. Entries whose
+     * time to live had run out when it was created are skipped, so its size is only exact if no entry can expire.
+     * Time Complexity: O(1)
+     *
+     * @return A Spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<HashNode<K, V>> spliterator() {
+        finishMigration();
+        expireEntries();
+        return new BucketSpliterator(this.hashTable, 0, this.hashTable.length, this.numElements, !hasTimedEntries(),
+                this.clock.getAsLong());
+    }
+
+    /**
+     * A method that returns a sequential stream over the entries of the hash table. Call parallel() on it to spread a
+     * whole-table aggregation across cores. The table must not be modified while the stream runs.
+     * Time Complexity: O(1)
+     *
+     * @return A stream over the entries of the hash table
+     */
+    public Stream<HashNode<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * A helper class that iterates over the entries of the hash table bucket by bucket, skipping the entries whose
+     * time to live had run out when it was created.
+     *
+     */
+    private class EntryIterator implements Iterator<HashNode<K, V>> {
+
+        // A field that stores the index of the bucket being walked
+        private int bucketIndex;
+
+        // A field that stores the position in the bucket being walked of the next node to look at
+        private int positionInBucket;
+
+        // Fields that store the next node to return, found ahead by hasNext, null if it has not been found yet, and
+        // its position in its bucket
+        private HashNode<K, V> nextNode;
+        private int nextNodePosition;
+
+        // A field that stores whether remove may be called, i.e. next has been called since the last remove
+        private boolean canRemove;
+
+        // A field that stores the node last returned by next
+        private HashNode<K, V> lastReturnedNode;
+
+        // Fields that store the index of the bucket of the node last returned by next, and its position in the bucket,
+        // which remove uses even if hasNext has moved on to the next bucket since
+        private int lastReturnedBucketIndex;
+        private int lastReturnedPosition;
+
+        // A field that stores the time the expired entries are skipped at
+        private final long iterationTime;
+
+        // A field that stores the modification count the table is expected to have
+        private int expectedModificationCount;
+
+        /**
+         * A constructor that creates an iterator positioned before the first entry, which skips the entries whose time
+         * to live had run out at the given time.
+         * Time Complexity: O(1)
+         *
+         * @param iterationTime The time the expired entries are skipped at, in nanoseconds
+         */
+        private EntryIterator(long iterationTime) {
+            this.bucketIndex = 0;
+            this.positionInBucket = 0;
+            this.nextNode = null;
+            this.canRemove = false;
+            this.iterationTime = iterationTime;
+            this.expectedModificationCount = HashTable.this.modificationCount;
+        }
+
+        /**
+         * A method that checks whether there is another entry, moving to the next non-empty bucket if necessary.
+         * Time Complexity: O(C) worst case where C is the capacity
+         *
+         * @return True if there is another entry, false otherwise
+         */
+        public boolean hasNext() {
+            checkForModification();
+            while (this.nextNode == null && this.bucketIndex < HashTable.this.hashTable.length) {
+                // Variable that stores the bucket being walked
+                ArrayList<HashNode<K, V>> bucket = HashTable.this.hashTable[this.bucketIndex];
+                if (bucket == null || this.positionInBucket >= bucket.size()) {
+                    this.bucketIndex = this.bucketIndex + 1;
+                    this.positionInBucket = 0;
+                }
+                else {
+                    // Variable that stores the node to look at, returned next unless it has expired
+                    HashNode<K, V> hashNode = bucket.get(this.positionInBucket);
+                    if (!HashTable.this.isExpiredAt(hashNode, this.iterationTime)) {
+                        this.nextNode = hashNode;
+                        this.nextNodePosition = this.positionInBucket;
+                    }
+                    this.positionInBucket = this.positionInBucket + 1;
+                }
+            }
+            return this.nextNode != null;
+        }
+
+        /**
+         * A method that returns the next entry.
+         * Time Complexity: O(C) worst case where C is the capacity
+         *
+         * @return The next entry
+         * @throws NoSuchElementException If there is no next entry, throw a NoSuchElementException
+         */
+        public HashNode<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more entries in the hash table!");
+            }
+            this.canRemove = true;
+            this.lastReturnedNode = this.nextNode;
+            this.lastReturnedBucketIndex = this.bucketIndex;
+            this.lastReturnedPosition = this.nextNodePosition;
+            this.nextNode = null;
+            return this.lastReturnedNode;
+        }
+
+        /**
+         * A method that removes the entry last returned by next from the hash table.
+         * Time Complexity: O(B) where B is the size of the bucket of the entry
+         *
+         * @throws IllegalStateException If next has not been called since the last remove, throw an IllegalStateException
+         */
+        public void remove() {
+            checkForModification();
+            if (!this.canRemove) {
+                throw new IllegalStateException("next must be called before remove!");
+            }
+            // Variable that stores the index of the bucket of the removed node, whose tree must forget it as well
+            int removedBucketIndex = this.lastReturnedBucketIndex;
+            HashTable.this.hashTable[removedBucketIndex].remove(this.lastReturnedPosition);
+            this.canRemove = false;
+            // The nodes after the removed one in its bucket have moved back by one position
+            if (this.bucketIndex == removedBucketIndex) {
+                this.positionInBucket = this.positionInBucket - 1;
+                if (this.nextNode != null) {
+                    this.nextNodePosition = this.nextNodePosition - 1;
+                }
+            }
+            if (HashTable.this.bucketTrees != null && HashTable.this.bucketTrees[removedBucketIndex] != null) {
+                HashTable.this.bucketTrees[removedBucketIndex].remove(this.lastReturnedNode.getKey());
+                HashTable.this.untreeifyIfShort(removedBucketIndex);
+            }
+            HashTable.this.nodeRemoved(this.lastReturnedNode);
+            this.expectedModificationCount = HashTable.this.modificationCount;
+        }
+
+        /**
+         * A method that throws if the table has been modified other than through this iterator.
+         * Time Complexity: O(1)
+         *
+         * @throws ConcurrentModificationException If the table has been modified, throw a ConcurrentModificationException
+         */
+        private void checkForModification() {
+            if (HashTable.this.modificationCount != this.expectedModificationCount) {
+                throw new ConcurrentModificationException("The hash table was modified while iterating!");
+            }
+        }
+
+    }
+
+    /**
+     * A helper class that traverses the entries of a range of buckets and splits by halving the range, skipping the
+     * entries whose time to live had run out when it was created.
+     *
+     */
+    private class BucketSpliterator implements Spliterator<HashNode<K, V>> {
+
+        // A field that stores the bucket array being traversed
+        private final ArrayList<HashNode<K, V>>[] buckets;
+
+        // A field that stores the index of the next bucket to traverse
+        private int nextBucketIndex;
+
+        // A field that stores the index after the last bucket to traverse
+        private int endBucketIndex;
+
+        // A field that stores the estimated number of entries left, exact while the spliterator has not been split
+        private long estimatedSize;
+
+        // A field that stores whether the estimated size is exact
+        private boolean sizeIsExact;
+
+        // A field that stores the iterator over the current bucket, null between buckets
+        private Iterator<HashNode<K, V>> bucketIterator;
+
+        // A field that stores the time the expired entries are skipped at
+        private final long iterationTime;
+
+        // A field that stores the modification count the table is expected to have
+        private final int expectedModificationCount;
+
+        /**
+         * A constructor that creates a Spliterator over the given range of buckets.
+         * Time Complexity: O(1)
+         *
+         * @param buckets The bucket array to traverse
+         * @param startBucketIndex The index of the first bucket to traverse
+         * @param endBucketIndex The index after the last bucket to traverse
+         * @param estimatedSize The estimated number of entries in the range
+         * @param sizeIsExact Whether the estimated size is exact
+         * @param iterationTime The time the expired entries are skipped at, in nanoseconds
+         */
+        private BucketSpliterator(ArrayList<HashNode<K, V>>[] buckets, int startBucketIndex, int endBucketIndex,
+                                  long estimatedSize, boolean sizeIsExact, long iterationTime) {
+            this.buckets = buckets;
+            this.nextBucketIndex = startBucketIndex;
+            this.endBucketIndex = endBucketIndex;
+            this.estimatedSize = estimatedSize;
+            this.sizeIsExact = sizeIsExact;
+            this.bucketIterator = null;
+            this.iterationTime = iterationTime;
+            this.expectedModificationCount = HashTable.this.modificationCount;
+        }
+
+        /**
+         * A method that hands the lower half of the remaining buckets to a new Spliterator and keeps the upper half.
+         * Time Complexity: O(1)
+         *
+         * @return A Spliterator over the lower half of the buckets, or null if the range is too small to split
+         */
+        public Spliterator<HashNode<K, V>> trySplit() {
+            // Variable that stores the index where the remaining range is split
+            int middleBucketIndex = (this.nextBucketIndex + this.endBucketIndex) >>> 1;
+            if (this.bucketIterator != null || middleBucketIndex <= this.nextBucketIndex) {
+                return null;
+            }
+            this.estimatedSize = this.estimatedSize >>> 1;
+            this.sizeIsExact = false;
+            BucketSpliterator lowerHalf = new BucketSpliterator(this.buckets, this.nextBucketIndex, middleBucketIndex,
+                    this.estimatedSize, false, this.iterationTime);
+            this.nextBucketIndex = middleBucketIndex;
+            return lowerHalf;
+        }
+
+        /**
+         * A method that performs the given action on the next entry, if there is one.
+         * Time Complexity: O(C) worst case where C is the number of buckets in the range
+         *
+         * @param action The action to perform
+         * @return True if an entry was found, false if the range is exhausted
+         */
+        public boolean tryAdvance(Consumer<? super HashNode<K, V>> action) {
+            // Variable that stores the next entry that has not expired, null until it is found
+            HashNode<K, V> hashNode = null;
+            while (hashNode == null) {
+                while (this.bucketIterator == null || !this.bucketIterator.hasNext()) {
+                    if (this.nextBucketIndex >= this.endBucketIndex) {
+                        this.bucketIterator = null;
+                        return false;
+                    }
+                    ArrayList<HashNode<K, V>> bucket = this.buckets[this.nextBucketIndex];
+                    this.nextBucketIndex = this.nextBucketIndex + 1;
+                    this.bucketIterator = bucket == null ? null : bucket.iterator();
+                }
+                hashNode = this.bucketIterator.next();
+                if (HashTable.this.isExpiredAt(hashNode, this.iterationTime)) {
+                    hashNode = null;
+                }
+            }
+            action.accept(hashNode);
+            if (HashTable.this.modificationCount != this.expectedModificationCount) {
+                throw new ConcurrentModificationException("The hash table was modified while iterating!");
+            }
+            return true;
+        }
+
+        /**
+         * A method that performs the given action on every remaining entry, checking for modifications once at the end.
+         * Time Complexity: O(N + C) where N is the number of entries and C is the number of buckets in the range
+         *
+         * @param action The action to perform
+         */
+        public void forEachRemaining(Consumer<? super HashNode<K, V>> action) {
+            // Finish the bucket that tryAdvance may have started
+            if (this.bucketIterator != null) {
+                while (this.bucketIterator.hasNext()) {
+                    acceptUnlessExpired(this.bucketIterator.next(), action);
+                }
+                this.bucketIterator = null;
+            }
+            for (int index = this.nextBucketIndex; index < this.endBucketIndex; index = index + 1) {
+                ArrayList<HashNode<K, V>> bucket = this.buckets[index];
+                if (bucket != null) {
+                    for (HashNode<K, V> hashNode : bucket) {
+                        acceptUnlessExpired(hashNode, action);
+                    }
+                }
+            }
+            this.nextBucketIndex = this.endBucketIndex;
+            if (HashTable.this.modificationCount != this.expectedModificationCount) {
+                throw new ConcurrentModificationException("The hash table was modified while iterating!");
+            }
+        }
+
+        /**
+         * A method that performs the given action on the given entry, unless it had expired when this Spliterator was
+         * created.
+         * Time Complexity: O(1)
+         *
+         * @param hashNode Any entry
+         * @param action The action to perform
+         */
+        private void acceptUnlessExpired(HashNode<K, V> hashNode, Consumer<? super HashNode<K, V>> action) {
+            if (!HashTable.this.isExpiredAt(hashNode, this.iterationTime)) {
+                action.accept(hashNode);
+            }
+        }
+
+        /**
+         * A method that returns the estimated number of entries left.
+         * Time Complexity: O(1)
+         *
+         * @return The estimated number of entries left
+         */
+        public long estimateSize() {
+            return this.estimatedSize;
+        }
+
+        /**
+         * A method that returns the characteristics of this Spliterator: keys are distinct and entries are never null,
+         * and the size is exact until the first split.
+         * Time Complexity: O(1)
+         *
+         * @return The characteristics of this Spliterator
+         */
+        public int characteristics() {
+            if (this.sizeIsExact) {
+                return Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED;
+            }
+            return Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+    }
+
+    /**
+     * A helper class that reads a byte buffer as an input stream: a memory-mapped checkpoint, decoded without copying
+     * it, or a buffer that is refilled from a file channel whenever it runs out. Reading moves the position of the
+     * buffer, so the bytes left in it are the ones read ahead from the channel.
+     *
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        // A field that stores the buffer to read
+        private final ByteBuffer buffer;
+
+        // A field that stores the channel to refill the buffer from, or null if the buffer holds every byte
+        private final FileChannel channel;
+
+        /**
+         * A constructor that creates a stream over the remaining bytes of the buffer, refilled from the channel.
+         * Time Complexity: O(1)
+         *
+         * @param buffer The buffer to read
+         * @param channel The channel to refill the buffer from, or null if the buffer holds every byte
+         */
+        private ByteBufferInputStream(ByteBuffer buffer, FileChannel channel) {
+            this.buffer = buffer;
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!hasRemaining()) {
+                return -1;
+            }
+            return this.buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasRemaining()) {
+                return -1;
+            }
+            // Variable that stores the number of bytes copied
+            int bytesRead = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, bytesRead);
+            return bytesRead;
+        }
+
+        /**
+         * A helper method that checks whether a byte is left to read, after refilling the buffer if it is empty.
+         * Time Complexity: O(B) when the buffer is refilled, where B is the size of the buffer, O(1) otherwise
+         *
+         * @return True if a byte is left to read, false at the end of the input
+         * @throws IOException If the channel cannot be read, throw an IOException
+         */
+        private boolean hasRemaining() throws IOException {
+            if (this.buffer.hasRemaining() || this.channel == null) {
+                return this.buffer.hasRemaining();
+            }
+            this.buffer.clear();
+            // Variable that stores the number of bytes read from the channel, -1 at its end
+            int bytesRead = this.channel.read(this.buffer);
+            this.buffer.flip();
+            return bytesRead > 0;
+        }
+
+    }
+
+    /**
+     * A helper class that exposes the statistics of a table through JMX. Every attribute is read from the latest
+     * snapshot published by the table; once that snapshot is older than a second, reading an attribute asks the table
+     * for new counters, which its next operation publishes. It holds no reference to the table.
+     *
+     */
+    private static class PublishedStats implements HashTableStatsMXBean {
+
+        // A field that stores the latest snapshot published by the table
+        private volatile HashTableStats snapshot;
+
+        // A field that stores the time the latest snapshot was published at, in nanoseconds
+        private volatile long snapshotTime;
+
+        // A field that stores whether a JMX client has asked for a newer snapshot
+        private volatile boolean refreshRequested;
+
+        /**
+         * A constructor that creates the published statistics of a table, starting with the given snapshot.
+         * Time Complexity: O(1)
+         *
+         * @param snapshot The first snapshot
+         */
+        private PublishedStats(HashTableStats snapshot) {
+            publish(snapshot);
+        }
+
+        /**
+         * A method that publishes a new snapshot. Called by the thread that uses the table.
+         * Time Complexity: O(1)
+         *
+         * @param newSnapshot The new snapshot
+         */
+        private void publish(HashTableStats newSnapshot) {
+            this.snapshotTime = System.nanoTime();
+            this.snapshot = newSnapshot;
+            this.refreshRequested = false;
+        }
+
+        /**
+         * A method that publishes the given counters, with the bucket lengths, trees and memory use of the latest
+         * snapshot. Called by the thread that uses the table.
+         * Time Complexity: O(1)
+         *
+         * @param size The number of elements
+         * @param capacity The number of buckets
+         * @param probeLengthHistogram The histogram of the probe lengths
+         * @param resizeCount The number of resizes
+         * @param totalResizeNanos The time spent on resizes, in nanoseconds
+         * @param hitCount The number of lookups that found their key
+         * @param missCount The number of lookups that did not find their key
+         */
+        private void publishCounters(int size, int capacity, long[] probeLengthHistogram, long resizeCount,
+                                     long totalResizeNanos, long hitCount, long missCount) {
+            publish(this.snapshot.withCounters(size, capacity, probeLengthHistogram, resizeCount, totalResizeNanos,
+                    hitCount, missCount));
+        }
+
+        /**
+         * A helper method that returns the latest snapshot, and asks the table for a new one if it is older than a
+         * second.
+         * Time Complexity: O(1)
+         *
+         * @return The latest snapshot
+         */
+        private HashTableStats snapshot() {
+            if (System.nanoTime() - this.snapshotTime > TimeUnit.SECONDS.toNanos(1)) {
+                this.refreshRequested = true;
+            }
+            return this.snapshot;
+        }
+
+        public int getSize() {
+            return snapshot().getSize();
+        }
+
+        public int getCapacity() {
+            return snapshot().getCapacity();
+        }
+
+        public double getLoadFactor() {
+            return snapshot().getLoadFactor();
+        }
+
+        public long[] getChainLengthHistogram() {
+            return snapshot().getChainLengthHistogram();
+        }
+
+        public int getMaxChainLength() {
+            return snapshot().getMaxChainLength();
+        }
+
+        public int getTreeifiedBucketCount() {
+            return snapshot().getTreeifiedBucketCount();
+        }
+
+        public long[] getProbeLengthHistogram() {
+            return snapshot().getProbeLengthHistogram();
+        }
+
+        public long getResizeCount() {
+            return snapshot().getResizeCount();
+        }
+
+        public long getTotalResizeNanos() {
+            return snapshot().getTotalResizeNanos();
+        }
+
+        public long getHitCount() {
+            return snapshot().getHitCount();
+        }
+
+        public long getMissCount() {
+            return snapshot().getMissCount();
+        }
+
+        public double getMissRatio() {
+            return snapshot().getMissRatio();
+        }
+
+        public long getEstimatedBytes() {
+            return snapshot().getEstimatedBytes();
+        }
+
+    }
+
+    /**
+     * A helper method that advances the timer wheel to the current time and removes every entry whose time to live
+     * has run out. Does nothing if no entry has a time to live. As every operation calls it, it also publishes new
+     * statistics counters when JMX has asked for them.
+     * Time Complexity: O(1) amortized per expired entry
+     *
+     */
+    private void expireEntries() {
+        // Publish new statistics counters from this thread if the registered MBean has asked for them
+        if (this.publishedStats != null && this.publishedStats.refreshRequested) {
+            this.publishedStats.publishCounters(this.numElements, this.capacity, probeLengthHistogram(),
+                    this.resizeCount, this.totalResizeNanos, this.hitCount, this.missCount);
+        }
+        if (this.expirationWheel != null && this.expirationWheel.size() > 0) {
+            this.expirationWheel.advance(this.clock.getAsLong(), expiredNode -> {
+                expiredNode.expirationTimer = null;
+                removeNode(expiredNode.getKey(), expiredNode.keyHashCode);
+            });
+            shrinkIfSparse();
+        }
+    }
+
+    /**
+     * A helper method that checks whether the time to live of a node has run out.
+     * Time Complexity: O(1)
+     *
+     * @param node Any node
+     * @return True if the node has a time to live that has run out, false otherwise
+     */
+    private boolean isExpired(HashNode<K, V> node) {
+        return node.expirationTimer != null && this.clock.getAsLong() - node.expirationTime >= 0;
+    }
+
+    /**
+     * A helper method that checks whether the time to live of a node had run out at the given time.
+     * Time Complexity: O(1)
+     *
+     * @param node Any node
+     * @param time Any time, in nanoseconds
+     * @return True if the node has a time to live that had run out at the given time, false otherwise
+     */
+    private boolean isExpiredAt(HashNode<K, V> node, long time) {
+        return node.expirationTimer != null && time - node.expirationTime >= 0;
+    }
+
+    /**
+     * A helper method that returns whether some entry of the table has a time to live, so that iterating it must skip
+     * the entries whose time to live has run out but that the timer wheel has not reaped yet.
+     * Time Complexity: O(1)
+     *
+     * @return True if some entry has a time to live, false otherwise
+     */
+    private boolean hasTimedEntries() {
+        return this.expirationWheel != null && this.expirationWheel.size() > 0;
+    }
+
+    /**
+     * A helper method that sets or moves the expiration time of a node.
+     * Time Complexity: O(1)
+     *
+     * @param node Any node in the table
+     * @param expirationTime The time the node expires at, in nanoseconds
+     */
+    private void setExpirationTime(HashNode<K, V> node, long expirationTime) {
+        if (this.expirationWheel == null) {
+            this.expirationWheel = new TimerWheel<HashNode<K, V>>(this.clock.getAsLong());
+        }
+        node.expirationTime = expirationTime;
+        if (node.expirationTimer == null) {
+            node.expirationTimer = this.expirationWheel.schedule(node, expirationTime);
+        }
+        else {
+            this.expirationWheel.reschedule(node.expirationTimer, expirationTime);
+        }
+    }
+
+    /**
+     * A helper method that removes the expiration time of a node, which then never expires.
+     * Time Complexity: O(1)
+     *
+     * @param node Any node in the table
+     */
+    private void clearExpirationTime(HashNode<K, V> node) {
+        if (node.expirationTimer != null) {
+            this.expirationWheel.cancel(node.expirationTimer);
+            node.expirationTimer = null;
+        }
+    }
+
+    /**
+     * A helper method that updates the bookkeeping of the table after a node has been unlinked from its bucket.
+     * Time Complexity: O(1)
+     *
+     * @param removedNode The node that has been removed
+     */
+    private void nodeRemoved(HashNode<K, V> removedNode) {
+        this.numElements = this.numElements - 1;
+        this.modificationCount = this.modificationCount + 1;
+        clearExpirationTime(removedNode);
+        if (this.maximumWeight > 0) {
+            unlinkFromAccessOrder(removedNode);
+            this.totalWeight = this.totalWeight - removedNode.weight;
+        }
+    }
+
+    /**
+     * A helper method that records an access to a key in a bounded table: the eviction policy is told about it and
+     * the node of the key, if any, becomes the most recently used one. Does nothing in an unbounded table.
+     * Time Complexity: O(1)
+     *
+     * @param key The key being accessed
+     * @param node The node of the key, or null if the key is not in the table
+     */
+    private void recordAccess(K key, HashNode<K, V> node) {
+        if (this.maximumWeight == 0) {
+            return;
+        }
+        this.evictionPolicy.recordAccess(key);
+        if (node != null && node != this.mostRecentlyUsedNode) {
+            unlinkFromAccessOrder(node);
+            linkAsMostRecentlyUsed(node);
+        }
+    }
+
+    /**
+     * A helper method that replaces the value of a node. In a bounded table, the weight of the node is updated and
+     * least recently used entries are evicted if the table has become too heavy.
+     * Time Complexity: O(1) amortized
+     *
+     * @param node The node to update
+     * @param value The new value of the node
+     */
+    private void replaceValue(HashNode<K, V> node, V value) {
+        node.setValue(value);
+        if (this.maximumWeight > 0) {
+            // Variable that stores the new weight of the node
+            long newWeight = this.weigher.applyAsLong(node.getKey(), value);
+            this.totalWeight = this.totalWeight + newWeight - node.weight;
+            node.weight = newWeight;
+            while (this.totalWeight > this.maximumWeight) {
+                evictLeastRecentlyUsedNode();
+            }
+        }
+    }
+
+    /**
+     * A helper method that evicts the least recently used entry of a bounded table.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket of the evicted key
+     *
+     */
+    private void evictLeastRecentlyUsedNode() {
+        removeNode(this.leastRecentlyUsedNode.getKey(), this.leastRecentlyUsedNode.keyHashCode);
+        this.evictionCount = this.evictionCount + 1;
+    }
+
+    /**
+     * A helper method that appends a node to the access order as the most recently used node.
+     * Time Complexity: O(1)
+     *
+     * @param node The node to append, which must not be in the access order
+     */
+    private void linkAsMostRecentlyUsed(HashNode<K, V> node) {
+        node.previousAccessedNode = this.mostRecentlyUsedNode;
+        node.nextAccessedNode = null;
+        if (this.mostRecentlyUsedNode == null) {
+            this.leastRecentlyUsedNode = node;
+        }
+        else {
+            this.mostRecentlyUsedNode.nextAccessedNode = node;
+        }
+        this.mostRecentlyUsedNode = node;
     }
 
     /**
-     * A constructor that creates a Hash Table with the specified capacity.
+     * A helper method that unlinks a node from the access order.
      * Time Complexity: O(1)
      *
-     * @param capacity Any specified capacity to create a Hash Table
-     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     * @param node The node to unlink
      */
-    public HashTable(int capacity) {
-        // When the capacity given is negative, throw an IllegalArgumentException
-        if (capacity < 0) {
-            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+    private void unlinkFromAccessOrder(HashNode<K, V> node) {
+        if (node.previousAccessedNode == null) {
+            this.leastRecentlyUsedNode = node.nextAccessedNode;
         }
-        // Initialize all variables and fields as appropriate
         else {
-            this.capacity = capacity;
-            this.numElements = 0;
-            this.hashTable = new LinkedList[capacity];
+            node.previousAccessedNode.nextAccessedNode = node.nextAccessedNode;
+        }
+        if (node.nextAccessedNode == null) {
+            this.mostRecentlyUsedNode = node.previousAccessedNode;
         }
+        else {
+            node.nextAccessedNode.previousAccessedNode = node.previousAccessedNode;
+        }
+        node.previousAccessedNode = null;
+        node.nextAccessedNode = null;
     }
 
     /**
-     * A method that returns the value associated with the specified key.
-     * Time Complexity: O(N) worst case where N is the number of elements in the table.
+     * A helper method that adds a node to its bucket of the current table, creating the bucket if necessary, and
+     * indexes the bucket with a tree once it is longer than the treeify threshold.
+     * Time Complexity: O(1), O(log N) in a bucket indexed by a tree, where N is the number of elements in the bucket
      *
-     * @param key Any key to get the value with
-     * @return The value associated with the specified key
-     * @throws IllegalArgumentException If the key does not exist, throw an IllegalArgumentException
+     * @param node The node to add, whose hash code is set
      */
-    public T get(String key) {
-        // A variable to keep track of the hash code of the given key
-        int indexToGet = getHashCodeOfKey(key);
-        // A variable that keeps track of the bucket of the key to search for it
-        LinkedList<HashNode<T>> currentBucket = this.hashTable[indexToGet];
-        // If the current bucket is null, throw an IllegalArgumentException as the key is likely not exist
-        if (currentBucket == null) {
-            throw new NoSuchElementException("The given key cannot be found in the hash table because the bucket is currently empty!");
+    private void addToBucket(HashNode<K, V> node) {
+        // Variable to store the bucket index of the node. If the bucket is null, add a new bucket to the current table
+        int bucketIndex = getBucketIndex(node.keyHashCode, this.hashTable.length);
+        ArrayList<HashNode<K, V>> bucket = this.hashTable[bucketIndex];
+        if (bucket == null) {
+            bucket = new ArrayList<HashNode<K, V>>(initialBucketCapacity);
+            this.hashTable[bucketIndex] = bucket;
         }
-        // Variable that keeps track of the return value
-        T returnValue = null;
-        // A loop that loops through the current bucket to find the value associated with the given key
-        for (HashNode<T> tempNode : currentBucket) {
-            // Variable to keep track of the current key of the current node to be searched
-            String currentKey = tempNode.getKey();
-            // If the current key is the same as the given key, return it
-            if (currentKey.equals(key)) {
-                returnValue = tempNode.getValue();
+        bucket.add(node);
+        // Variables that store the tree of the bucket before and after the node has been added
+        TreeMap<K, HashNode<K, V>> bucketTree = this.bucketTrees == null ? null : this.bucketTrees[bucketIndex];
+        TreeMap<K, HashNode<K, V>> updatedBucketTree = indexNodeInTree(bucket, bucketTree, node);
+        if (updatedBucketTree != bucketTree) {
+            if (this.bucketTrees == null) {
+                this.bucketTrees = newTreeArray(this.hashTable.length);
             }
+            this.bucketTrees[bucketIndex] = updatedBucketTree;
         }
-        // Check one last time: if the return variable is null, throw an IllegalArgumentException
-        if (returnValue == null) {
-            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+    }
+
+    /**
+     * A helper method that keeps the tree of a bucket up to date after a node has been appended to the bucket: the
+     * node is added to the tree, or the tree is dropped if it cannot order the new key, or a tree is built if the
+     * bucket has just become longer than the treeify threshold.
+     * Time Complexity: O(log N), O(N log N) when a tree is built, where N is the number of elements in the bucket
+     *
+     * @param bucket The bucket the node has been appended to
+     * @param bucketTree The tree of the bucket, or null if it has none
+     * @param node The node that has been appended
+     * @return The tree that now indexes the bucket, or null if it has none
+     */
+    private TreeMap<K, HashNode<K, V>> indexNodeInTree(ArrayList<HashNode<K, V>> bucket,
+                                                      TreeMap<K, HashNode<K, V>> bucketTree, HashNode<K, V> node) {
+        if (bucketTree != null) {
+            if (!canSearchTree(bucketTree, node.getKey())) {
+                return null;
+            }
+            bucketTree.put(node.getKey(), node);
+            return bucketTree;
         }
-        // Return the value associated with the given key
-        return returnValue;
+        if (bucket.size() > treeifyThreshold && canBeTreeified(bucket)) {
+            bucketTree = new TreeMap<K, HashNode<K, V>>();
+            for (HashNode<K, V> hashNode : bucket) {
+                bucketTree.put(hashNode.getKey(), hashNode);
+            }
+        }
+        return bucketTree;
     }
 
     /**
-     * A method that stores the specified key-value pair in the hash table. Also rehashes the table if necessary.
-     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     * A helper method that checks whether a key can be looked up in the tree of a bucket, i.e. it is of the class of
+     * the keys of the tree.
+     * Time Complexity: O(log N) where N is the number of elements in the tree
      *
-     * @param key Any key to be added to the hash table
-     * @param value Any value to be added to the hash table
+     * @param bucketTree The tree of a bucket, or null if the bucket has none
+     * @param key Any key
+     * @return True if there is a tree and the key can be looked up in it, false otherwise
+     */
+    private boolean canSearchTree(TreeMap<K, HashNode<K, V>> bucketTree, K key) {
+        return bucketTree != null && bucketTree.firstKey().getClass() == key.getClass();
+    }
+
+    /**
+     * A helper method that checks whether a bucket can be indexed by a tree: the keys must be hashed naturally, and
+     * they must all be of the same tree-safe class, whose compareTo agrees with its equals.
+     * Time Complexity: O(N) where N is the number of elements in the bucket
+     *
+     * @param bucket Any bucket of the current table
+     * @return True if the bucket can be indexed by a tree, false otherwise
      */
-    public void put(String key, T value) {
-        // Check if the value is an instance of Integer, call the appropriate helper method
-        if (value instanceof Integer) {
-            putInteger(key, value);
+    private boolean canBeTreeified(ArrayList<HashNode<K, V>> bucket) {
+        if (this.hashingStrategy != HashingStrategy.natural()) {
+            return false;
         }
-        // Check if the value is NOT an instance of Integer, call the appropriate helper method
-        else {
-            putElse(key, value);
+        // Variable that stores the class of the first key, which every other key must share
+        Class<?> keyClass = bucket.get(0).getKey().getClass();
+        if (!isTreeSafe(keyClass)) {
+            return false;
         }
-        // Variable that keeps track of the current load factor of the table
-        double currentLoadFactor;
-        currentLoadFactor = (double) (this.numElements / this.hashTable.length);
-        // If the current load factor is greater than or equal to 1.0, rehash the table
-        if (currentLoadFactor >= this.maximumLoadFactor) {
-            reHashTable();
+        for (HashNode<K, V> hashNode : bucket) {
+            if (hashNode.getKey().getClass() != keyClass) {
+                return false;
+            }
         }
-        else {
-            ;
+        return true;
+    }
+
+    /**
+     * A helper method that checks whether keys of the given class can be indexed by a tree.
+     * Time Complexity: O(1)
+     *
+     * @param keyClass Any class of keys
+     * @return True if the class is one of the tree-safe key classes, false otherwise
+     */
+    private static boolean isTreeSafe(Class<?> keyClass) {
+        for (Class<?> treeSafeKeyClass : treeSafeKeyClasses) {
+            if (treeSafeKeyClass == keyClass) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
-     * A method that removes a key-value pair associated with the specified key and returns the associated value.
-     * Time Complexity: O(N) worst case, where N is the size of the hash table.
+     * A helper method that drops the tree of a bucket once the bucket has become short again.
+     * Time Complexity: O(1)
      *
-     * @param key Any key to remove the key-value pair with
-     * @return The value of the newly removed key-value pair
-     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     * @param bucketIndex The index of a bucket of the current table that is indexed by a tree
      */
-    public T remove(String key) {
-        // Check if the value is an instance of Integer, call the appropriate helper method
-        int hashCode = getHashCodeOfKey(key);
-        // A variable that keeps track of the bucket of the key to search for it
-        LinkedList<HashNode<T>> currentBucket = this.hashTable[hashCode];
-        // If the current bucket is null, throw an IllegalArgumentException as the key is likely not exist
-        if (currentBucket == null) {
-            throw new NoSuchElementException("The hash table is empty!");
+    private void untreeifyIfShort(int bucketIndex) {
+        if (this.hashTable[bucketIndex].size() <= treeifyThreshold / 2) {
+            this.bucketTrees[bucketIndex] = null;
         }
-        // Variable that keeps track of the return value
-        T returnValue = null;
-        // A loop that loops through the current bucket to find the value associated with the given key
-        for (HashNode<T> hashNode : currentBucket) {
-            // Variable to keep track of the current key of the current node to be searched
-            String tempKey = hashNode.getKey();
-            // If the current key is the same as the given key, remove it and decrement the number of elements
-            if (tempKey.equals(key)) {
-                currentBucket.remove(hashNode);
-                this.numElements = this.numElements - 1;
-                returnValue = hashNode.getValue();
-                break;
-            }
+    }
+
+    /**
+     * A helper method that halves the capacity if the load factor has fallen below the low-water load factor.
+     * Time Complexity: O(1), O(N) when the table is rehashed, where N is the size of the table
+     *
+     */
+    private void shrinkIfSparse() {
+        if (this.minimumLoadFactor > 0 && this.capacity / 2 >= this.minimumCapacity
+                && this.numElements < this.capacity * this.minimumLoadFactor) {
+            reHashTable(this.capacity / 2);
         }
-        // Check one last time: if the return variable is null, throw an NoSuchElementException
-        if (returnValue == null) {
-            throw new NoSuchElementException("The given key is not found in the hash table!");
+    }
+
+    /**
+     * A helper method that estimates the memory used by the bucket array and the allocated buckets, assuming
+     * compressed references: a 16-byte array header, 4 bytes per bucket reference, and 40 bytes per empty bucket.
+     * The nodes themselves are not counted, as resizing never changes them.
+     * Time Complexity: O(C) where C is the capacity
+     *
+     * @return The estimated number of bytes
+     */
+    private long estimatedTableBytes() {
+        // Variable that accumulates the estimate
+        long bytes = 16 + 4L * this.hashTable.length;
+        for (ArrayList<HashNode<K, V>> bucket : this.hashTable) {
+            if (bucket != null) {
+                bytes = bytes + estimatedBucketBytes;
+            }
         }
-        // Return the value associated with the given key
-        return returnValue;
+        return bytes;
     }
 
     /**
-     * A method that returns the number of elements currently in the hash table.
-     * Time Complexity: O(1)
+     * A method that finishes an incremental rehash in progress, so that all entries are in the current table.
+     * Time Complexity: O(N) where N is the number of elements, O(1) when no rehash is in progress
      *
-     * @return The number of elements currently in the hash table.
      */
-    public int size() {
-        // Variable that keeps track of the number of elements currently in the hash table
-        int numElements = this.numElements;
-        return numElements;
+    private void finishMigration() {
+        while (this.oldHashTable != null) {
+            migrateBuckets();
+        }
     }
 
     /**
      * A helper class that creates a hash node in the hash table that contains a key, value pair.
      *
-     * @param <T> Any generic type to store in the Hash Table
+     * @param <K> Any type of the key of the node
+     * @param <V> Any generic type to store in the Hash Table
      */
-    public static class HashNode<T>{
+    public static class HashNode<K, V>{
 
         // A field that stores the key for the hash node
-        private String key;
+        private K key;
 
         // A field that stores the value for the hash node
-        private T value;
+        private V value;
 
         // A variable that stores the next node reference of the current hash node
-        private HashNode<T> nextNode;
+        private HashNode<K, V> nextNode;
+
+        // A variable that stores the hash code of the key, so that it is never computed again
+        private int keyHashCode;
+
+        // Variables that store the nodes used just before and just after this one, in the access order of a bounded table
+        private HashNode<K, V> previousAccessedNode;
+        private HashNode<K, V> nextAccessedNode;
+
+        // A variable that stores the weight of the node in a bounded table
+        private long weight;
+
+        // Variables that store the time the node expires at and its timer, the timer being null if it never expires
+        private long expirationTime;
+        private TimerWheel.Timer<HashNode<K, V>> expirationTimer;
 
         /**
          * A constructor that creates a hash node with the specified key, value pair.
@@ -193,7 +2285,7 @@ public class HashTable<T> {
          * @param key Any key to create a hash node with
          * @param value Any value to create a hash node with
          */
-        public HashNode(String key, T value) {
+        public HashNode(K key, V value) {
             this.key = key;
             this.value = value;
             this.nextNode = null;
@@ -205,7 +2297,7 @@ public class HashTable<T> {
          *
          * @return The key of the node
          */
-        public String getKey() {
+        public K getKey() {
             return this.key;
         }
 
@@ -215,7 +2307,7 @@ public class HashTable<T> {
          *
          * @return The value of the node
          */
-        public T getValue() {
+        public V getValue() {
             return this.value;
         }
 
@@ -225,187 +2317,329 @@ public class HashTable<T> {
          *
          * @param value The value of the node
          */
-        public void setValue(T value) {
+        public void setValue(V value) {
             this.value = value;
         }
 
     }
 
     /**
-     * A method that helps get and compute the hash code of the given key
-     * Time Complexity: O(1)
+     * A method that helps create an empty table of buckets of the given length. Java can only create an array of a
+     * generic type raw, so the unchecked conversion is kept to this one place.
+     * Time Complexity: O(N), where N is the length of the table
+     *
+     * @param length The number of buckets of the new table
+     * @return The new table, with every bucket empty
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ArrayList<HashNode<K, V>>[] newBucketArray(int length) {
+        return new ArrayList[length];
+    }
+
+    /**
+     * A method that helps create an empty array of bucket trees of the given length. Like the buckets, the array can
+     * only be created raw.
+     * Time Complexity: O(N), where N is the length of the array
+     *
+     * @param length The number of buckets the array covers
+     * @return The new array, with no bucket treeified
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TreeMap<K, HashNode<K, V>>[] newTreeArray(int length) {
+        return new TreeMap[length];
+    }
+
+    /**
+     * A method that helps get and compute the hash code of the given key: the hash code given by the hashing strategy
+     * (for a String, the hash code it caches) run through a multiply-shift hash seeded randomly for this table.
+     * Without the seed, the bucket of a key cannot be predicted, so keys cannot be crafted to pile up in one bucket
+     * unless their hash codes are equal, which the bucket trees take care of. The hash code is stored in the node of
+     * the key, so it is never computed again when rehashing.
+     * Time Complexity: O(1), plus the cost of the hashing strategy
      *
      * @param key Any key to find the hash code
      * @return The hash code of the key
      */
-    private int getHashCodeOfKey(String key) {
-        // Variable to keep track of the key's hash code generated by the hashCode() function of String
-        int tempCode = key.hashCode();
-        // Variable to keep track of the key's hash code
-        int hashCode = 0;
-        // Compute the hash code specifically for this table
-        hashCode = Math.abs(tempCode % this.hashTable.length);
-        return hashCode;
+    private int getHashCodeOfKey(K key) {
+        // Variable to keep track of the seeded product, whose high bits depend on every bit of the key's hash code
+        long seededCode = ((this.hashingStrategy.hashCode(key) & 0xFFFFFFFFL) ^ this.hashSeed) * this.hashMultiplier;
+        return (int) (seededCode >>> 32);
     }
 
     /**
-     * A method that helps and compute get the hash code of the given key when rehashing
+     * A method that helps compute the bucket of a hash code in a table of the given capacity
      * Time Complexity: O(1)
      *
-     * @param key Any key to find the hash code
-     * @param newCapacity The new capacity of the newly rehashed table
-     * @return The new hash code of the key
+     * @param hashCode The hash code of a key
+     * @param tableCapacity The capacity of the table
+     * @return The index of the bucket of the hash code
      */
-    private int getHashCodeOfKeyWhenRehashed(String key, int newCapacity) {
-        // Variable to keep track of the key's hash code generated by the hashCode() function of String
-        int tempCode = key.hashCode();
-        // Variable to keep track of the key's hash code
-        int hashCode = 0;
-        // Compute the hash code specifically for this table
-        hashCode = Math.abs(tempCode % newCapacity);
-        return hashCode;
+    private int getBucketIndex(int hashCode, int tableCapacity) {
+        if (this.powerOfTwoCapacity) {
+            return hashCode & (tableCapacity - 1);
+        }
+        return Math.abs(hashCode % tableCapacity);
     }
 
     /**
-     * A helper method that stores the specified key-value pair in the hash table. Also rehashes the table if necessary.
-     * Only used when the value is an instance of Integer.
-     * Time Complexity: O(N) where N is the size of the table
+     * A helper method that finds the node of the given key, in both tables during an incremental rehash.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
      *
-     * @param key Any key to be added to the hash table
-     * @param value Any value to be added to the hash table
+     * @param key Any key to find the node of
+     * @return The node of the key, or null if the key is not in the table
      */
-    private void putInteger(String key, T value){
-        // Variable to store the hash code of the given key
-        int hashCode = getHashCodeOfKey(key);
-        // Variable to store the bucket in which the given key currently is
-        LinkedList<HashNode<T>> currentBucket = this.hashTable[hashCode];
-        // If list is null, i.e. the key might not be in it, add a new bucket to the current table to account for the new node
-        if (currentBucket == null) {
-            currentBucket = new LinkedList<HashNode<T>>();
-            this.hashTable[hashCode] = currentBucket;
-        }
-        /* A loop that loops through the current bucket if there is any matching key in the bucket to set it new value
-         * to the given value. */
-        for (HashNode<T> currentNode : currentBucket) {
-            // Variable that stores the current key of the current node in the bucket
-            String tempKey = currentNode.getKey();
-            // If the key that is the same as the given key, it means that we have found the key-value pair. Update its value.
-            if (tempKey.equals(key)) {
-                // Check one more time to see if the values are instances of Integer
-                if ((currentNode.getValue() instanceof Integer) && (value instanceof Integer)) {
-                    // Variable to store the current node's value
-                    int tempValue = (Integer) currentNode.getValue();
-                    // Variable to store the value parsed in from the parameter
-                    int tempValue1 = (Integer) value;
-                    // Variable to store the value to be replaced with the existing key-value pair
-                    int valueToReplace = tempValue + tempValue1;
-                    // Cast it to Integer, then set the current node's value to this Integer instance
-                    Integer newValue = new Integer(valueToReplace);
-                    currentNode.setValue((T) newValue);
-                }
-                // If the values are not instances of Integer, simply replace its value with the new value
-                else if (!(currentNode.getValue() instanceof Integer) && !(value instanceof Integer)) {
-                    currentNode.setValue((T) value);
-                }
-                // Stops the function as necessary
-                return;
+    private HashNode<K, V> findNode(K key) {
+        return findNode(key, getHashCodeOfKey(key));
+    }
+
+    /**
+     * A helper method that finds the node of the given key, whose hash code in the current table is already known.
+     * While an incremental rehash is in progress, a key that has not been migrated yet is found in the old table.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param key Any key to find the node of
+     * @param hashCode The hash code of the key
+     * @return The node of the key, or null if the key is not in the table
+     */
+    private HashNode<K, V> findNode(K key, int hashCode) {
+        // Variable that stores the bucket index of the key in the current table
+        int bucketIndex = getBucketIndex(hashCode, this.hashTable.length);
+        // Variable that stores the node of the key in the current table, looked up in the tree of a long bucket
+        HashNode<K, V> node;
+        if (this.bucketTrees != null && canSearchTree(this.bucketTrees[bucketIndex], key)) {
+            node = this.bucketTrees[bucketIndex].get(key);
+        }
+        else {
+            node = findNodeInBucket(this.hashTable[bucketIndex], key, hashCode);
+        }
+        // If a migration is in progress and the key is not in the current table, look in the old table as well
+        if (node == null && this.oldHashTable != null) {
+            node = findNodeInBucket(this.oldHashTable[getBucketIndex(hashCode, this.oldHashTable.length)], key, hashCode);
+        }
+        if (this.statisticsEnabled) {
+            recordProbeLength(key, hashCode, node);
+        }
+        // An expired entry that has not been reaped yet is removed now and treated as absent
+        if (node != null && isExpired(node)) {
+            removeNode(key, hashCode);
+            return null;
+        }
+        return node;
+    }
+
+    /**
+     * A helper method that finds the node of the given key within a single bucket.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param bucket Any bucket, possibly null
+     * @param key Any key to find the node of
+     * @param hashCode The hash code of the key, compared before the keys themselves
+     * @return The node of the key, or null if the key is not in the bucket
+     */
+    private HashNode<K, V> findNodeInBucket(ArrayList<HashNode<K, V>> bucket, K key, int hashCode) {
+        // If the bucket is null, the key cannot be in it
+        if (bucket == null) {
+            return null;
+        }
+        // A loop that loops through the bucket by index to find the node with the given key, so that a lookup, even a
+        // miss, never allocates an iterator
+        for (int index = 0; index < bucket.size(); index = index + 1) {
+            HashNode<K, V> hashNode = bucket.get(index);
+            if (hashNode.keyHashCode == hashCode && this.hashingStrategy.equals(hashNode.getKey(), key)) {
+                return hashNode;
             }
         }
-        // Create a new hash node if no existing values is found in the bucket or table
-        HashNode<T> newNode = new HashNode<T>(key, (T) value);
-        // Then add that new node
-        currentBucket.add(newNode);
-        // Update the number of elements count by 1
-        this.numElements = this.numElements + 1;
-        // Variable to store the load factor of the current table to check for the need for rehashing
-        double currentLoadFactor;
-        currentLoadFactor = (double) (this.numElements / this.hashTable.length);
-        // If current load factor is greater than or equal to 1.0, rehash it
-        if (currentLoadFactor >= this.maximumLoadFactor) {
-            reHashTable();
+        return null;
+    }
+
+    /**
+     * A helper method that removes the node of the given key, from the old table if it has not been migrated yet.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param key Any key to remove the node of
+     * @return The removed node, or null if the key is not in the table
+     */
+    private HashNode<K, V> removeNode(K key) {
+        return removeNode(key, getHashCodeOfKey(key));
+    }
+
+    /**
+     * A helper method that removes the node of the given key, whose hash code is already known.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param key Any key to remove the node of
+     * @param hashCode The hash code of the key
+     * @return The removed node, or null if the key is not in the table
+     */
+    private HashNode<K, V> removeNode(K key, int hashCode) {
+        // Variable that stores the bucket index of the key in the current table
+        int bucketIndex = getBucketIndex(hashCode, this.hashTable.length);
+        // Variable that stores the removed node, searched in the current table first
+        HashNode<K, V> removedNode;
+        if (this.bucketTrees != null && canSearchTree(this.bucketTrees[bucketIndex], key)) {
+            // In a long bucket, find the node with the tree, then unlink it from the bucket by identity
+            removedNode = this.bucketTrees[bucketIndex].remove(key);
+            if (removedNode != null) {
+                this.hashTable[bucketIndex].remove(removedNode);
+                untreeifyIfShort(bucketIndex);
+            }
         }
-        // Otherwise, stops the function as necessary
         else {
-            return;
+            removedNode = removeNodeFromBucket(this.hashTable[bucketIndex], key, hashCode);
+            // A key of another class can still be equal to a key of a tree, in which case the tree is dropped
+            if (removedNode != null && this.bucketTrees != null && this.bucketTrees[bucketIndex] != null) {
+                this.bucketTrees[bucketIndex] = null;
+            }
+        }
+        // If a migration is in progress and the key is not in the current table, look in the old table as well
+        if (removedNode == null && this.oldHashTable != null) {
+            removedNode = removeNodeFromBucket(this.oldHashTable[getBucketIndex(hashCode, this.oldHashTable.length)], key, hashCode);
         }
+        // If a node has been removed, decrement the number of elements
+        if (removedNode != null) {
+            nodeRemoved(removedNode);
+        }
+        return removedNode;
     }
 
     /**
-     * A helper method that stores the specified key-value pair in the hash table. Also rehashes the table if necessary.
-     * Only used when the value is NOT an instance of Integer.
-     * Time Complexity: O(N) where N is the size of the table
+     * A helper method that removes the node of the given key from a single bucket.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param bucket Any bucket, possibly null
+     * @param key Any key to remove the node of
+     * @param hashCode The hash code of the key, compared before the keys themselves
+     * @return The removed node, or null if the key is not in the bucket
+     */
+    private HashNode<K, V> removeNodeFromBucket(ArrayList<HashNode<K, V>> bucket, K key, int hashCode) {
+        // If the bucket is null, the key cannot be in it
+        if (bucket == null) {
+            return null;
+        }
+        // A loop that loops through the bucket by index to find and unlink the node with the given key
+        for (int index = 0; index < bucket.size(); index = index + 1) {
+            HashNode<K, V> hashNode = bucket.get(index);
+            if (hashNode.keyHashCode == hashCode && this.hashingStrategy.equals(hashNode.getKey(), key)) {
+                bucket.remove(index);
+                return hashNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A helper method that sets the value of an existing node, or removes the node if the new value is null.
+     * Time Complexity: O(1), O(N) worst case when removing, where N is the number of elements in the bucket.
+     *
+     * @param existingNode The node to update
+     * @param newValue The new value of the node, or null to remove it
+     */
+    private void updateOrRemoveNode(HashNode<K, V> existingNode, V newValue) {
+        if (newValue == null) {
+            removeNode(existingNode.getKey(), existingNode.keyHashCode);
+            shrinkIfSparse();
+        }
+        else {
+            replaceValue(existingNode, newValue);
+        }
+    }
+
+    /**
+     * A helper method that adds a new node for a key which is known not to be in the table. Also rehashes the table
+     * if necessary.
+     * Time Complexity: O(1), O(N) when the table is rehashed, where N is the size of the table
      *
+     * @param hashCode The hash code of the key
      * @param key Any key to be added to the hash table
      * @param value Any value to be added to the hash table
+     * @return The new node, or null if a bounded table did not admit it
      */
-    private void putElse(String key, T value) {
-        // Variable to store the hash code of the given key
-        int hashCode = getHashCodeOfKey(key);
-        // Variable to store the bucket in which the given key currently is
-        LinkedList<HashNode<T>> currentBucket = this.hashTable[hashCode];
-        // If list is null, i.e. the key might not be in it, add a new bucket to the current table to account for the new node
-        if (currentBucket == null) {
-            currentBucket = new LinkedList<HashNode<T>>();
-            this.hashTable[hashCode] = currentBucket;
-        }
-        /* A loop that loops through the current bucket if there is any matching key in the bucket to set it new value
-         * to the given value. */
-        for (HashNode<T> tempNode : currentBucket) {
-            // Variable that stores the current key of the current node in the bucket
-            String tempKey = tempNode.getKey();
-            // If value with the key same as the given key is found, simply replace its value with the new value
-            if (tempKey.equals(key)) {
-                tempNode.setValue((T) value);
-                return;
-            }
-        }
-        // Create a new hash node if no existing values is found in the bucket or table
-        HashNode<T> newNode = new HashNode<T>(key, (T) value);
-        // Then add that new node
-        currentBucket.add(newNode);
-        // Update the number of elements count by 1
+    private HashNode<K, V> insertNewNode(int hashCode, K key, V value) {
+        // Variable to store the weight of the new entry in a bounded table
+        long weight = 0;
+        // In a bounded table, evict least recently used entries until the new entry fits, unless the policy rejects it
+        if (this.maximumWeight > 0) {
+            this.evictionPolicy.recordAccess(key);
+            weight = this.weigher.applyAsLong(key, value);
+            if (weight > this.maximumWeight) {
+                return null;
+            }
+            while (this.totalWeight + weight > this.maximumWeight) {
+                if (!this.evictionPolicy.admit(key, this.leastRecentlyUsedNode.getKey())) {
+                    return null;
+                }
+                evictLeastRecentlyUsedNode();
+            }
+        }
+        // Add the new node to its bucket and update the number of elements count by 1
+        HashNode<K, V> newNode = new HashNode<K, V>(key, value);
+        newNode.keyHashCode = hashCode;
+        addToBucket(newNode);
         this.numElements = this.numElements + 1;
+        this.modificationCount = this.modificationCount + 1;
+        // In a bounded table, the new node is the most recently used one
+        if (this.maximumWeight > 0) {
+            newNode.weight = weight;
+            this.totalWeight = this.totalWeight + weight;
+            linkAsMostRecentlyUsed(newNode);
+        }
         // Variable to store the load factor of the current table to check for the need for rehashing
         double currentLoadFactor;
         currentLoadFactor = (double) (this.numElements / this.hashTable.length);
         // If current load factor is greater than or equal to 1.0, rehash it
         if (currentLoadFactor >= this.maximumLoadFactor) {
-            reHashTable();
+            reHashTable(this.capacity * 2);
         }
-        // Otherwise, stops the function as necessary
-        else {
+        return newNode;
+    }
+
+    /**
+     * A method that rehash the table when called by changing its size and update the positions of its values
+     * Time Complexity: O(N) where N is the size of the table
+     *
+     * @param newCapacity The new capacity of the table
+     */
+    private void reHashTable(int newCapacity) {
+        // If the previous incremental rehash has not finished yet, finish it before starting a new one
+        finishMigration();
+        // When rehashing incrementally, only swap in the empty new table and let later operations migrate the buckets
+        if (this.incrementalRehashing) {
+            this.resizeCount = this.resizeCount + 1;
+            this.oldHashTable = this.hashTable;
+            this.migrationIndex = 0;
+            this.hashTable = newBucketArray(newCapacity);
+            this.bucketTrees = null;
+            this.capacity = newCapacity;
             return;
         }
+        rebuildTable(newCapacity);
     }
 
     /**
-     * A method that rehash the table when called by increasing its size and update the positions of its values
+     * A method that moves every node into a new table of the given capacity in one pass. Buckets are only allocated
+     * for the hash codes that receive a node, so empty buckets of the old table are not carried over.
      * Time Complexity: O(N) where N is the size of the table
      *
+     * @param newCapacity The new capacity of the table
      */
-    private void reHashTable() {
-        // Variable to store the new capacity of the hash table
-        int newCapacity = this.capacity * 2;
+    private void rebuildTable(int newCapacity) {
+        // Variable that stores the start time of the resize, if statistics are being recorded
+        long startTime = this.statisticsEnabled ? System.nanoTime() : 0;
+        this.resizeCount = this.resizeCount + 1;
         // Variable to store the current copy of the hash table
-        LinkedList<HashNode<T>>[] currentHashTable = this.hashTable;
-        // Variable to store the new hash table with the new capacity
-        LinkedList<HashNode<T>>[] newHashTable = new LinkedList[newCapacity];
-        // Update the field capacity to the new capacity
+        ArrayList<HashNode<K, V>>[] currentHashTable = this.hashTable;
+        // Swap in the new, empty hash table with the new capacity, and update the field capacity to the new capacity
+        this.hashTable = newBucketArray(newCapacity);
+        this.bucketTrees = null;
         this.capacity = newCapacity;
-        // A loop that updates the new table with new buckets as necessary
-        for (int i = 0; i < newCapacity; i = i + 1) {
-            newHashTable[i] = new LinkedList<HashNode<T>>();
-        }
         // A loop that updates the new table with the existing nodes as necessary
-        for (LinkedList<HashNode<T>> hashBucket : currentHashTable) {
+        for (ArrayList<HashNode<K, V>> hashBucket : currentHashTable) {
             /* If the hash bucket is not null, calls another loop that would compute new hash codes for the key and add
              * nodes with the new positions into the table */
             if (hashBucket != null) {
-                // A loop that would compute new hash codes for the key and add nodes with the new positions into the table
-                for (HashNode<T> hashNode : hashBucket) {
-                    // Variable to store a new hash code for each key when rehashed
-                    int hashCode = getHashCodeOfKeyWhenRehashed(hashNode.getKey(), newCapacity);
-                    newHashTable[hashCode].add(hashNode);
+                // A loop that would add the nodes into the table at the new positions of their stored hash codes
+                for (HashNode<K, V> hashNode : hashBucket) {
+                    addToBucket(hashNode);
                 }
             }
             // If the current bucket is not null, do nothing and ignore it
@@ -413,8 +2647,279 @@ public class HashTable<T> {
                 ;
             }
         }
-        // Update the current hash table to be the new hash table
-        this.hashTable = newHashTable;
+        recordResizeTime(startTime);
+    }
+
+    /**
+     * A method that fills this empty power-of-two table with the given keys and values in parallel. The hash codes are
+     * computed in parallel, then the keys are partitioned by the range of buckets they fall in with a parallel
+     * counting sort that keeps their order, and every range is filled by its own task. The trees of the long buckets
+     * of every range are collected by its task and installed once all the tasks have finished.
+     * Time Complexity: O(N + P^2) where N is the number of keys and P is the number of partitions
+     *
+     * @param keys The keys to insert
+     * @param values The values of the keys, index for index
+     */
+    private void buildInParallel(K[] keys, V[] values) {
+        // Variable that stores the number of keys to insert
+        int numberOfKeys = keys.length;
+        // Compute the hash code of every key in parallel
+        int[] hashCodes = new int[numberOfKeys];
+        IntStream.range(0, numberOfKeys).parallel().forEach(index -> hashCodes[index] = getHashCodeOfKey(keys[index]));
+        // Variables that store the number of partitions, a power of two, and the shift from a bucket to its partition
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int numberOfPartitions = Math.min(Integer.highestOneBit(parallelism) * 8, this.capacity);
+        int partitionShift = Integer.numberOfTrailingZeros(this.capacity)
+                - Integer.numberOfTrailingZeros(numberOfPartitions);
+        // Variables that store the number of chunks the keys are split into for the counting sort, and their size
+        int numberOfChunks = numberOfPartitions;
+        int chunkSize = (numberOfKeys + numberOfChunks - 1) / numberOfChunks;
+        // Count the keys of every partition in every chunk, in parallel
+        int[][] chunkPositions = new int[numberOfChunks][numberOfPartitions];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            int chunkEnd = Math.min(numberOfKeys, (chunk + 1) * chunkSize);
+            for (int index = chunk * chunkSize; index < chunkEnd; index = index + 1) {
+                chunkPositions[chunk][(hashCodes[index] & (this.capacity - 1)) >>> partitionShift]++;
+            }
+        });
+        // Turn the counts into the position where every chunk writes the keys of every partition
+        int[] partitionStarts = new int[numberOfPartitions + 1];
+        int position = 0;
+        for (int partition = 0; partition < numberOfPartitions; partition = partition + 1) {
+            partitionStarts[partition] = position;
+            for (int chunk = 0; chunk < numberOfChunks; chunk = chunk + 1) {
+                int count = chunkPositions[chunk][partition];
+                chunkPositions[chunk][partition] = position;
+                position = position + count;
+            }
+        }
+        partitionStarts[numberOfPartitions] = position;
+        // Write the index of every key at its position, so the keys of every partition are contiguous and in order
+        int[] order = new int[numberOfKeys];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            int chunkEnd = Math.min(numberOfKeys, (chunk + 1) * chunkSize);
+            for (int index = chunk * chunkSize; index < chunkEnd; index = index + 1) {
+                int partition = (hashCodes[index] & (this.capacity - 1)) >>> partitionShift;
+                order[chunkPositions[chunk][partition]] = index;
+                chunkPositions[chunk][partition]++;
+            }
+        });
+        // Fill every partition in its own task, each one counting its new keys and collecting the trees of its buckets
+        int[] insertedCounts = new int[numberOfPartitions];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        IntKeyHashTable<TreeMap<K, HashNode<K, V>>>[] partitionTrees = new IntKeyHashTable[numberOfPartitions];
+        IntStream.range(0, numberOfPartitions).parallel().forEach(partition -> {
+            partitionTrees[partition] = new IntKeyHashTable<TreeMap<K, HashNode<K, V>>>(0);
+            insertedCounts[partition] = insertPartition(keys, values, hashCodes, order, partitionStarts[partition],
+                    partitionStarts[partition + 1], partitionTrees[partition]);
+        });
+        // Stitch the partitions together: add up the new keys and install the trees
+        for (int partition = 0; partition < numberOfPartitions; partition = partition + 1) {
+            this.numElements = this.numElements + insertedCounts[partition];
+            if (partitionTrees[partition].size() > 0) {
+                if (this.bucketTrees == null) {
+                    this.bucketTrees = newTreeArray(this.hashTable.length);
+                }
+                partitionTrees[partition].forEach((bucketTree, bucketIndex) ->
+                        this.bucketTrees[bucketIndex] = bucketTree);
+            }
+        }
+        this.modificationCount = this.modificationCount + 1;
+    }
+
+    /**
+     * A helper method that inserts the keys of one partition of a parallel build into their buckets, which no other
+     * partition touches. The trees of long buckets are kept in the given table rather than in the shared tree array.
+     * Time Complexity: O(K) average case where K is the number of keys of the partition
+     *
+     * @param keys The keys of the build
+     * @param values The values of the keys, index for index
+     * @param hashCodes The hash codes of the keys, index for index
+     * @param order The indexes of the keys, grouped by partition
+     * @param start The position in order of the first key of the partition
+     * @param end The position in order after the last key of the partition
+     * @param partitionTrees The trees of the long buckets of the partition, by bucket index
+     * @return The number of keys that were not in the table yet
+     */
+    private int insertPartition(K[] keys, V[] values, int[] hashCodes, int[] order, int start, int end,
+                                IntKeyHashTable<TreeMap<K, HashNode<K, V>>> partitionTrees) {
+        // Variable that counts the keys that were not in the table yet
+        int numberInserted = 0;
+        for (int position = start; position < end; position = position + 1) {
+            // Variables that store the index of the key and its bucket, created if necessary
+            int index = order[position];
+            int bucketIndex = hashCodes[index] & (this.capacity - 1);
+            ArrayList<HashNode<K, V>> bucket = this.hashTable[bucketIndex];
+            if (bucket == null) {
+                bucket = new ArrayList<HashNode<K, V>>(initialBucketCapacity);
+                this.hashTable[bucketIndex] = bucket;
+            }
+            // Variables that store the tree of the bucket, if any, and the node of a key that appeared before
+            TreeMap<K, HashNode<K, V>> bucketTree = partitionTrees.tryGet(bucketIndex);
+            HashNode<K, V> existingNode;
+            if (canSearchTree(bucketTree, keys[index])) {
+                existingNode = bucketTree.get(keys[index]);
+            }
+            else {
+                existingNode = findNodeInBucket(bucket, keys[index], hashCodes[index]);
+            }
+            if (existingNode != null) {
+                existingNode.setValue(values[index]);
+                continue;
+            }
+            HashNode<K, V> newNode = new HashNode<K, V>(keys[index], values[index]);
+            newNode.keyHashCode = hashCodes[index];
+            bucket.add(newNode);
+            numberInserted = numberInserted + 1;
+            // Variable that stores the tree of the bucket now that the node has been added
+            TreeMap<K, HashNode<K, V>> updatedBucketTree = indexNodeInTree(bucket, bucketTree, newNode);
+            if (updatedBucketTree != bucketTree) {
+                if (updatedBucketTree == null) {
+                    partitionTrees.remove(bucketIndex);
+                }
+                else {
+                    partitionTrees.put(bucketIndex, updatedBucketTree);
+                }
+            }
+        }
+        return numberInserted;
+    }
+
+    /**
+     * A method that moves a bounded number of buckets from the old table into the current table while an incremental
+     * rehash is in progress, and ends the rehash once every old bucket has been moved. Does nothing otherwise.
+     * Time Complexity: O(B) where B is the number of elements in the migrated buckets
+     *
+     */
+    private void migrateBuckets() {
+        // If no incremental rehash is in progress, do nothing
+        if (this.oldHashTable == null) {
+            return;
+        }
+        // Variable that stores the start time of the migration, if statistics are being recorded
+        long startTime = this.statisticsEnabled ? System.nanoTime() : 0;
+        // Variable to store the number of non-empty buckets migrated so far, and a bound on empty buckets visited
+        int bucketsMigrated = 0;
+        int emptyBucketsToVisit = bucketsMigratedPerOperation * 10;
+        // A loop that moves buckets until the bound is reached or the old table is exhausted
+        while (bucketsMigrated < bucketsMigratedPerOperation && emptyBucketsToVisit > 0
+                && this.migrationIndex < this.oldHashTable.length) {
+            // Variable to store the old bucket being migrated
+            ArrayList<HashNode<K, V>> oldBucket = this.oldHashTable[this.migrationIndex];
+            if (oldBucket == null || oldBucket.isEmpty()) {
+                emptyBucketsToVisit = emptyBucketsToVisit - 1;
+            }
+            else {
+                // Move every node of the old bucket to its bucket in the current table
+                for (HashNode<K, V> hashNode : oldBucket) {
+                    addToBucket(hashNode);
+                }
+                bucketsMigrated = bucketsMigrated + 1;
+            }
+            this.oldHashTable[this.migrationIndex] = null;
+            this.migrationIndex = this.migrationIndex + 1;
+        }
+        // If every old bucket has been moved, the incremental rehash is over
+        if (this.migrationIndex == this.oldHashTable.length) {
+            this.oldHashTable = null;
+        }
+        recordResizeTime(startTime);
+    }
+
+    /**
+     * A method that returns the current time if pause tracking is enabled, to be passed to stopPauseTimer.
+     * Time Complexity: O(1)
+     *
+     * @return The current time in nanoseconds, or 0 if pause tracking is disabled
+     */
+    private long startPauseTimer() {
+        if (this.pauseTrackingEnabled) {
+            return System.nanoTime();
+        }
+        return 0;
+    }
+
+    /**
+     * A method that records the duration of an operation started at the given time as the worst-case pause, if it is
+     * the longest one seen so far.
+     * Time Complexity: O(1)
+     *
+     * @param startTime The value returned by startPauseTimer when the operation started
+     */
+    private void stopPauseTimer(long startTime) {
+        if (this.pauseTrackingEnabled) {
+            this.worstCasePauseNanos = Math.max(this.worstCasePauseNanos, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * A method that adds the duration of a resize started at the given time to the total resize time, if statistics
+     * are being recorded.
+     * Time Complexity: O(1)
+     *
+     * @param startTime The time the resize started at, 0 if statistics were not being recorded
+     */
+    private void recordResizeTime(long startTime) {
+        if (this.statisticsEnabled && startTime != 0) {
+            this.totalResizeNanos = this.totalResizeNanos + (System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * A helper method that records the probe length of a lookup of the given key: the number of nodes of its bucket
+     * compared up to its node, or the whole bucket for a miss, plus its bucket in the old table during a migration. A
+     * tree lookup is counted as the height of a balanced tree of the same size.
+     * Time Complexity: O(N) worst case where N is the number of elements in the bucket.
+     *
+     * @param key The key that has been looked up
+     * @param hashCode The hash code of the key
+     * @param node The node that has been found, or null for a miss
+     */
+    private void recordProbeLength(K key, int hashCode, HashNode<K, V> node) {
+        // Variable that stores the bucket index of the key in the current table
+        int bucketIndex = getBucketIndex(hashCode, this.hashTable.length);
+        // Variable that stores the number of nodes compared
+        int probeLength;
+        // Variable that stores whether the node has been found in the current table
+        boolean foundInCurrentTable;
+        if (this.bucketTrees != null && canSearchTree(this.bucketTrees[bucketIndex], key)) {
+            probeLength = 32 - Integer.numberOfLeadingZeros(this.bucketTrees[bucketIndex].size());
+            foundInCurrentTable = node != null && this.bucketTrees[bucketIndex].get(key) == node;
+        }
+        else {
+            probeLength = probesInBucket(this.hashTable[bucketIndex], node);
+            foundInCurrentTable = node != null && this.hashTable[bucketIndex] != null
+                    && this.hashTable[bucketIndex].contains(node);
+        }
+        if (!foundInCurrentTable && this.oldHashTable != null) {
+            probeLength = probeLength
+                    + probesInBucket(this.oldHashTable[getBucketIndex(hashCode, this.oldHashTable.length)], node);
+        }
+        this.probeLengthCounts[Math.min(probeLength, HashTableStats.histogramLength - 1)]++;
+    }
+
+    /**
+     * A helper method that counts the nodes of a bucket a lookup compares: the nodes up to and including the given
+     * node, or every node if the node is not in the bucket.
+     * Time Complexity: O(N) where N is the number of elements in the bucket.
+     *
+     * @param bucket Any bucket, possibly null
+     * @param node The node looked for, possibly null
+     * @return The number of nodes compared
+     */
+    private int probesInBucket(ArrayList<HashNode<K, V>> bucket, HashNode<K, V> node) {
+        if (bucket == null) {
+            return 0;
+        }
+        // Variable that counts the nodes compared
+        int probes = 0;
+        for (HashNode<K, V> hashNode : bucket) {
+            probes = probes + 1;
+            if (hashNode == node) {
+                break;
+            }
+        }
+        return probes;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * A class that benchmarks the lookup throughput of the Hash Table with modulo indexing against power-of-two (bit mask)
+ * indexing. The words come from a text file given on the command line, tokenized the same way WordStat does, or from
+ * a generated Zipf-distributed stream of English-like words when no file is given.
+ * Usage: java HashTableBenchmark [path/to/textfile.txt]
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class HashTableBenchmark {
+
+    // Field to store the number of measured rounds per table
+    private static final int measuredRounds = 5;
+
+    // Field to store the number of warm-up rounds per table, so the JIT has compiled the lookup path
+    private static final int warmUpRounds = 5;
+
+    /**
+     * The entry point of the benchmark.
+     * Time Complexity: O(R * W) where R is the number of rounds and W is the number of words
+     *
+     * @param args An optional path to a text file to read the words from
+     */
+    public static void main(String[] args) {
+        // Variable that stores the stream of words to look up
+        String[] words;
+        if (args.length > 0) {
+            words = new Tokenizer(args[0]).wordList().toArray(new String[0]);
+        }
+        else {
+            words = generateWords(2_000_000, 50_000, new Random(42));
+        }
+        // Variable that stores the distinct words, which are the keys of the benchmarked tables
+        IntCounterTable distinctWords = new IntCounterTable();
+        ArrayList<String> vocabulary = new ArrayList<String>();
+        for (String word : words) {
+            if (distinctWords.increment(word) == 1) {
+                vocabulary.add(word);
+            }
+        }
+        System.out.println("Words: " + words.length + ", distinct: " + vocabulary.size());
+        // Benchmark both indexing modes, alternating them so that neither one always runs on a warmer machine
+        for (int round = 0; round < 2; round = round + 1) {
+            benchmark("modulo  ", new HashTable<String, Integer>(10, false, false), vocabulary, words);
+            benchmark("bit mask", new HashTable<String, Integer>(10, false, true), vocabulary, words);
+        }
+    }
+
+    /**
+     * A method that fills the given table with the vocabulary and prints its lookup throughput over the word stream.
+     * Time Complexity: O(R * W) where R is the number of rounds and W is the number of words
+     *
+     * @param label The label to print for this table
+     * @param hashTable The empty table to benchmark
+     * @param vocabulary The distinct words to insert
+     * @param words The stream of words to look up
+     */
+    private static void benchmark(String label, HashTable<String, Integer> hashTable, ArrayList<String> vocabulary, String[] words) {
+        for (int index = 0; index < vocabulary.size(); index = index + 1) {
+            hashTable.put(vocabulary.get(index), index + 1);
+        }
+        // Variable that accumulates the looked up values, printed so the JIT cannot drop the lookups
+        long checksum = 0;
+        for (int round = 0; round < warmUpRounds; round = round + 1) {
+            checksum = checksum + lookUpAll(hashTable, words);
+        }
+        // Variable that stores the fastest measured round, the least disturbed by GC and other processes
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < measuredRounds; round = round + 1) {
+            long startTime = System.nanoTime();
+            checksum = checksum + lookUpAll(hashTable, words);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startTime);
+        }
+        // Variable that stores the throughput in millions of lookups per second
+        double millionsPerSecond = words.length / (bestNanos / 1000.0);
+        System.out.printf("%s: %.1f M lookups/s (checksum %d)%n", label, millionsPerSecond, checksum);
+    }
+
+    /**
+     * A method that looks up every word of the stream in the given table.
+     * Time Complexity: O(W) average case where W is the number of words
+     *
+     * @param hashTable The table to look the words up in
+     * @param words The stream of words to look up
+     * @return The sum of the looked up values
+     */
+    private static long lookUpAll(HashTable<String, Integer> hashTable, String[] words) {
+        long sum = 0;
+        for (String word : words) {
+            sum = sum + hashTable.get(word);
+        }
+        return sum;
+    }
+
+    /**
+     * A method that generates a stream of English-like words whose frequencies follow Zipf's law, like natural text.
+     * Time Complexity: O(W + V) where W is the number of words and V is the vocabulary size
+     *
+     * @param numberOfWords The length of the stream
+     * @param vocabularySize The number of distinct words to draw from
+     * @param random The random number generator
+     * @return The generated stream of words
+     */
+    private static String[] generateWords(int numberOfWords, int vocabularySize, Random random) {
+        // Variable that stores the syllables the words are built from
+        String[] syllables = {"the", "an", "re", "in", "er", "on", "at", "en", "ed", "ing", "st", "or", "ti", "al",
+                "ar", "es", "to", "it", "co", "de", "ma", "pro", "con", "ment", "ly", "ous", "ble", "ver", "sta", "tion"};
+        // Build the vocabulary out of 1 to 4 random syllables per word, skipping duplicates
+        IntCounterTable seen = new IntCounterTable(vocabularySize);
+        String[] vocabulary = new String[vocabularySize];
+        int numberOfDistinctWords = 0;
+        while (numberOfDistinctWords < vocabularySize) {
+            StringBuilder word = new StringBuilder();
+            int numberOfSyllables = 1 + random.nextInt(4);
+            for (int index = 0; index < numberOfSyllables; index = index + 1) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            if (numberOfDistinctWords >= syllables.length * syllables.length) {
+                word.append(numberOfDistinctWords % 97);
+            }
+            if (seen.increment(word.toString()) == 1) {
+                vocabulary[numberOfDistinctWords] = word.toString();
+                numberOfDistinctWords = numberOfDistinctWords + 1;
+            }
+        }
+        // Build the cumulative Zipf distribution (weight 1/rank) over the vocabulary
+        double[] cumulativeWeights = new double[vocabularySize];
+        double totalWeight = 0;
+        for (int rank = 0; rank < vocabularySize; rank = rank + 1) {
+            totalWeight = totalWeight + 1.0 / (rank + 1);
+            cumulativeWeights[rank] = totalWeight;
+        }
+        // Draw every word of the stream from the distribution with a binary search
+        String[] words = new String[numberOfWords];
+        for (int index = 0; index < numberOfWords; index = index + 1) {
+            double target = random.nextDouble() * totalWeight;
+            int low = 0;
+            int high = vocabularySize - 1;
+            while (low < high) {
+                int middle = (low + high) / 2;
+                if (cumulativeWeights[middle] < target) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            words[index] = vocabulary[low];
+        }
+        return words;
+    }
+
+}
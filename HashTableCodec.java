@@ -0,0 +1,183 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An interface for the way a Hash Table checkpoint writes and reads its keys or its values. The codecs of this
+ * interface keep checkpoints compact: integers are written as variable-length integers (7 bits per byte, zig-zag
+ * encoded so that small negative numbers stay short as well), and Strings as the variable-length number of their UTF-8
+ * bytes followed by the bytes. The varint helpers can be used by codecs of other types in the same way.
+ *
+ * @param <T> Any type of the keys or values to write and read
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public interface HashTableCodec<T> {
+
+    /**
+     * A method that writes a key or a value.
+     * Time Complexity: Depends on the codec
+     *
+     * @param value Any key or value to write
+     * @param output The output to write to
+     * @throws IOException If the output cannot be written to, throw an IOException
+     */
+    void write(T value, DataOutput output) throws IOException;
+
+    /**
+     * A method that reads a key or a value written by the write method.
+     * Time Complexity: Depends on the codec
+     *
+     * @param input The input to read from
+     * @return The key or value read
+     * @throws IOException If the input cannot be read or is malformed, throw an IOException
+     */
+    T read(DataInput input) throws IOException;
+
+    /**
+     * A method that returns the codec of Strings: the number of UTF-8 bytes as a varint, then the bytes.
+     * Time Complexity: O(1)
+     *
+     * @return The String codec
+     */
+    static HashTableCodec<String> strings() {
+        return new HashTableCodec<String>() {
+            public void write(String value, DataOutput output) throws IOException {
+                // Variable that stores the UTF-8 encoding of the String
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(output, bytes.length);
+                output.write(bytes);
+            }
+
+            public String read(DataInput input) throws IOException {
+                // Variable that stores the number of UTF-8 bytes of the String
+                long length = readVarLong(input);
+                if (length < 0 || length > Integer.MAX_VALUE) {
+                    throw new IOException("Invalid String length " + length);
+                }
+                byte[] bytes = new byte[(int) length];
+                input.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * A method that returns the codec of Integers: a zig-zag varint of one to five bytes.
+     * Time Complexity: O(1)
+     *
+     * @return The Integer codec
+     */
+    static HashTableCodec<Integer> integers() {
+        return new HashTableCodec<Integer>() {
+            public void write(Integer value, DataOutput output) throws IOException {
+                writeVarLong(output, zigZagEncode(value));
+            }
+
+            public Integer read(DataInput input) throws IOException {
+                return (int) zigZagDecode(readVarLong(input));
+            }
+        };
+    }
+
+    /**
+     * A method that returns the codec of Longs: a zig-zag varint of one to ten bytes.
+     * Time Complexity: O(1)
+     *
+     * @return The Long codec
+     */
+    static HashTableCodec<Long> longs() {
+        return new HashTableCodec<Long>() {
+            public void write(Long value, DataOutput output) throws IOException {
+                writeVarLong(output, zigZagEncode(value));
+            }
+
+            public Long read(DataInput input) throws IOException {
+                return zigZagDecode(readVarLong(input));
+            }
+        };
+    }
+
+    /**
+     * A method that returns the codec of Doubles: their eight IEEE 754 bytes.
+     * Time Complexity: O(1)
+     *
+     * @return The Double codec
+     */
+    static HashTableCodec<Double> doubles() {
+        return new HashTableCodec<Double>() {
+            public void write(Double value, DataOutput output) throws IOException {
+                output.writeDouble(value);
+            }
+
+            public Double read(DataInput input) throws IOException {
+                return input.readDouble();
+            }
+        };
+    }
+
+    /**
+     * A method that writes a non-negative number as a varint: 7 bits per byte, lowest bits first, with the high bit of
+     * every byte but the last one set.
+     * Time Complexity: O(1)
+     *
+     * @param output The output to write to
+     * @param value Any number, read as unsigned
+     * @throws IOException If the output cannot be written to, throw an IOException
+     */
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value = value >>> 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    /**
+     * A method that reads a varint written by writeVarLong.
+     * Time Complexity: O(1)
+     *
+     * @param input The input to read from
+     * @return The number read
+     * @throws IOException If the input cannot be read or the varint is longer than ten bytes, throw an IOException
+     */
+    static long readVarLong(DataInput input) throws IOException {
+        // Variable that accumulates the number
+        long value = 0;
+        for (int shift = 0; shift < 64; shift = shift + 7) {
+            // Variable that stores the current byte
+            int currentByte = input.readUnsignedByte();
+            value = value | ((long) (currentByte & 0x7F) << shift);
+            if ((currentByte & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("A varint is longer than ten bytes");
+    }
+
+    /**
+     * A method that maps a signed number to an unsigned one so that numbers close to zero stay small: 0, -1, 1, -2,
+     * 2 become 0, 1, 2, 3, 4.
+     * Time Complexity: O(1)
+     *
+     * @param value Any number
+     * @return The zig-zag encoding of the number
+     */
+    static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * A method that reverses zigZagEncode.
+     * Time Complexity: O(1)
+     *
+     * @param value Any zig-zag encoded number
+     * @return The original number
+     */
+    static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
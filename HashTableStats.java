@@ -0,0 +1,282 @@
+import java.util.Arrays;
+
+/**
+ * A class that represents a snapshot of the internals of a Hash Table, taken by HashTable.stats(): its load, the
+ * lengths of its buckets and of its lookups, its resizes, its hits and misses, and its memory use. A table whose keys
+ * cluster into a few buckets, e.g. because of a poor hash function, shows up as a long tail of the chain and probe
+ * length histograms and a maximum chain length far above the load factor.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class HashTableStats implements HashTableStatsMXBean {
+
+    // A field that stores the number of elements of the histograms, the last one counting every longer length
+    public static final int histogramLength = 16;
+
+    // Fields that store the number of elements and the number of buckets of the table
+    private final int size;
+    private final int capacity;
+
+    // Fields that store the histogram of the bucket lengths, the longest bucket, and the number of tree buckets
+    private final long[] chainLengthHistogram;
+    private final int maxChainLength;
+    private final int treeifiedBucketCount;
+
+    // Field that stores the histogram of the probe lengths of the lookups recorded while statistics were enabled
+    private final long[] probeLengthHistogram;
+
+    // Fields that store the number of resizes and the time spent on them
+    private final long resizeCount;
+    private final long totalResizeNanos;
+
+    // Fields that store the number of lookups that found their key and that did not
+    private final long hitCount;
+    private final long missCount;
+
+    // Field that stores the estimated memory used by the table
+    private final long estimatedBytes;
+
+    /**
+     * A constructor that creates a snapshot out of the given values; the histograms are copied.
+     * Time Complexity: O(1)
+     *
+     * @param size The number of elements
+     * @param capacity The number of buckets
+     * @param chainLengthHistogram The histogram of the bucket lengths
+     * @param maxChainLength The number of nodes in the longest bucket
+     * @param treeifiedBucketCount The number of buckets indexed by a tree
+     * @param probeLengthHistogram The histogram of the probe lengths
+     * @param resizeCount The number of resizes
+     * @param totalResizeNanos The time spent on resizes, in nanoseconds
+     * @param hitCount The number of lookups that found their key
+     * @param missCount The number of lookups that did not find their key
+     * @param estimatedBytes The estimated memory used by the table
+     */
+    HashTableStats(int size, int capacity, long[] chainLengthHistogram, int maxChainLength, int treeifiedBucketCount,
+                   long[] probeLengthHistogram, long resizeCount, long totalResizeNanos, long hitCount, long missCount,
+                   long estimatedBytes) {
+        this.size = size;
+        this.capacity = capacity;
+        this.chainLengthHistogram = chainLengthHistogram.clone();
+        this.maxChainLength = maxChainLength;
+        this.treeifiedBucketCount = treeifiedBucketCount;
+        this.probeLengthHistogram = probeLengthHistogram.clone();
+        this.resizeCount = resizeCount;
+        this.totalResizeNanos = totalResizeNanos;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * A method that returns the number of elements in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * A method that returns the number of buckets of the table.
+     * Time Complexity: O(1)
+     *
+     * @return The capacity
+     */
+    @Override
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * A method that returns the number of elements per bucket.
+     * Time Complexity: O(1)
+     *
+     * @return The load factor
+     */
+    @Override
+    public double getLoadFactor() {
+        if (this.capacity == 0) {
+            return 0;
+        }
+        return (double) this.size / this.capacity;
+    }
+
+    /**
+     * A method that returns a copy of the histogram of the bucket lengths.
+     * Time Complexity: O(1)
+     *
+     * @return The histogram of the bucket lengths
+     */
+    @Override
+    public long[] getChainLengthHistogram() {
+        return this.chainLengthHistogram.clone();
+    }
+
+    /**
+     * A method that returns the number of nodes in the longest bucket.
+     * Time Complexity: O(1)
+     *
+     * @return The longest chain length
+     */
+    @Override
+    public int getMaxChainLength() {
+        return this.maxChainLength;
+    }
+
+    /**
+     * A method that returns the number of buckets indexed by a tree.
+     * Time Complexity: O(1)
+     *
+     * @return The number of tree buckets
+     */
+    @Override
+    public int getTreeifiedBucketCount() {
+        return this.treeifiedBucketCount;
+    }
+
+    /**
+     * A method that returns a copy of the histogram of the probe lengths.
+     * Time Complexity: O(1)
+     *
+     * @return The histogram of the probe lengths
+     */
+    @Override
+    public long[] getProbeLengthHistogram() {
+        return this.probeLengthHistogram.clone();
+    }
+
+    /**
+     * A method that returns the mean number of nodes compared per recorded lookup, counting the lookups of the last
+     * histogram element at its lower bound.
+     * Time Complexity: O(1)
+     *
+     * @return The mean probe length, or 0 if no lookup has been recorded
+     */
+    public double meanProbeLength() {
+        // Variables that accumulate the number of lookups and the number of nodes they compared
+        long lookups = 0;
+        long probes = 0;
+        for (int length = 0; length < histogramLength; length = length + 1) {
+            lookups = lookups + this.probeLengthHistogram[length];
+            probes = probes + length * this.probeLengthHistogram[length];
+        }
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double) probes / lookups;
+    }
+
+    /**
+     * A method that returns the number of resizes.
+     * Time Complexity: O(1)
+     *
+     * @return The number of resizes
+     */
+    @Override
+    public long getResizeCount() {
+        return this.resizeCount;
+    }
+
+    /**
+     * A method that returns the time spent on resizes while statistics were enabled.
+     * Time Complexity: O(1)
+     *
+     * @return The total resize time in nanoseconds
+     */
+    @Override
+    public long getTotalResizeNanos() {
+        return this.totalResizeNanos;
+    }
+
+    /**
+     * A method that returns the number of lookups that found their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of hits
+     */
+    @Override
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * A method that returns the number of lookups that did not find their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of misses
+     */
+    @Override
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * A method that returns the share of the lookups that did not find their key.
+     * Time Complexity: O(1)
+     *
+     * @return The miss ratio between 0 and 1, or 0 if there has been no lookup
+     */
+    @Override
+    public double getMissRatio() {
+        if (this.hitCount + this.missCount == 0) {
+            return 0;
+        }
+        return (double) this.missCount / (this.hitCount + this.missCount);
+    }
+
+    /**
+     * A method that returns the estimated memory used by the table, without its keys and values.
+     * Time Complexity: O(1)
+     *
+     * @return The estimated number of bytes
+     */
+    @Override
+    public long getEstimatedBytes() {
+        return this.estimatedBytes;
+    }
+
+    /**
+     * A method that returns a copy of this snapshot with the given counters, and the bucket lengths, trees and
+     * memory use of this snapshot, so the counters can be refreshed without scanning the table again.
+     * Time Complexity: O(1)
+     *
+     * @param size The number of elements
+     * @param capacity The number of buckets
+     * @param probeLengthHistogram The histogram of the probe lengths
+     * @param resizeCount The number of resizes
+     * @param totalResizeNanos The time spent on resizes, in nanoseconds
+     * @param hitCount The number of lookups that found their key
+     * @param missCount The number of lookups that did not find their key
+     * @return The snapshot with the given counters
+     */
+    HashTableStats withCounters(int size, int capacity, long[] probeLengthHistogram, long resizeCount,
+                                long totalResizeNanos, long hitCount, long missCount) {
+        return new HashTableStats(size, capacity, this.chainLengthHistogram, this.maxChainLength,
+                this.treeifiedBucketCount, probeLengthHistogram, resizeCount, totalResizeNanos, hitCount, missCount,
+                this.estimatedBytes);
+    }
+
+    /**
+     * A method that returns a one-line summary of the snapshot, e.g. for a log.
+     * Time Complexity: O(1)
+     *
+     * @return The summary of the snapshot
+     */
+    @Override
+    public String toString() {
+        return "HashTableStats{size=" + this.size + ", capacity=" + this.capacity
+                + ", loadFactor=" + String.format("%.3f", getLoadFactor())
+                + ", maxChainLength=" + this.maxChainLength + ", treeifiedBuckets=" + this.treeifiedBucketCount
+                + ", chainLengths=" + Arrays.toString(this.chainLengthHistogram)
+                + ", probeLengths=" + Arrays.toString(this.probeLengthHistogram)
+                + ", resizes=" + this.resizeCount + ", resizeNanos=" + this.totalResizeNanos
+                + ", missRatio=" + String.format("%.3f", getMissRatio())
+                + ", estimatedBytes=" + this.estimatedBytes + "}";
+    }
+
+}
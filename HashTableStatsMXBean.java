@@ -0,0 +1,123 @@
+/**
+ * An interface for the statistics of a Hash Table that are exposed through JMX, so that they can be watched in e.g.
+ * JConsole or collected by a monitoring agent. HashTableStats implements it as a snapshot, and HashTable.registerMBean
+ * registers a view of the snapshots the table publishes, which asks the table for a new one when it is out of date.
+ * The counters (size, capacity, lookups, probes and resizes) are then refreshed by the next operation on the table;
+ * the bucket lengths, trees and memory use, which take a scan of the whole table, only by an explicit stats() call.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public interface HashTableStatsMXBean {
+
+    /**
+     * A method that returns the number of elements in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements
+     */
+    int getSize();
+
+    /**
+     * A method that returns the number of buckets of the table.
+     * Time Complexity: O(1)
+     *
+     * @return The capacity
+     */
+    int getCapacity();
+
+    /**
+     * A method that returns the number of elements per bucket.
+     * Time Complexity: O(1)
+     *
+     * @return The load factor
+     */
+    double getLoadFactor();
+
+    /**
+     * A method that returns the number of buckets of every length: element i is the number of buckets with i nodes,
+     * and the last element the number of buckets with at least that many nodes.
+     * Time Complexity: O(1)
+     *
+     * @return The histogram of the bucket lengths
+     */
+    long[] getChainLengthHistogram();
+
+    /**
+     * A method that returns the number of nodes in the longest bucket.
+     * Time Complexity: O(1)
+     *
+     * @return The longest chain length
+     */
+    int getMaxChainLength();
+
+    /**
+     * A method that returns the number of buckets indexed by a tree because they grew too long.
+     * Time Complexity: O(1)
+     *
+     * @return The number of tree buckets
+     */
+    int getTreeifiedBucketCount();
+
+    /**
+     * A method that returns the number of key lookups of every probe length, that is the number of nodes compared:
+     * element i is the number of lookups that compared i nodes, and the last element the number of lookups that
+     * compared at least that many. Lookups are only recorded while statistics are enabled.
+     * Time Complexity: O(1)
+     *
+     * @return The histogram of the probe lengths
+     */
+    long[] getProbeLengthHistogram();
+
+    /**
+     * A method that returns the number of times the table has been resized (grown, shrunk, or compacted).
+     * Time Complexity: O(1)
+     *
+     * @return The number of resizes
+     */
+    long getResizeCount();
+
+    /**
+     * A method that returns the total time spent resizing the table while statistics were enabled, including the
+     * bucket migrations of an incremental rehash.
+     * Time Complexity: O(1)
+     *
+     * @return The total resize time in nanoseconds
+     */
+    long getTotalResizeNanos();
+
+    /**
+     * A method that returns the number of lookups that found their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of hits
+     */
+    long getHitCount();
+
+    /**
+     * A method that returns the number of lookups that did not find their key.
+     * Time Complexity: O(1)
+     *
+     * @return The number of misses
+     */
+    long getMissCount();
+
+    /**
+     * A method that returns the share of the lookups that did not find their key.
+     * Time Complexity: O(1)
+     *
+     * @return The miss ratio between 0 and 1, or 0 if there has been no lookup
+     */
+    double getMissRatio();
+
+    /**
+     * A method that returns an estimate of the memory used by the table: its bucket arrays, buckets, trees, and
+     * nodes, but not the keys and values themselves.
+     * Time Complexity: O(1)
+     *
+     * @return The estimated number of bytes
+     */
+    long getEstimatedBytes();
+
+}
@@ -0,0 +1,106 @@
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * An interface for the strategy a Hash Table hashes and compares its keys with. Two keys that the strategy considers
+ * equal must get the same hash code. The natural strategy uses the keys' own hashCode and equals; other strategies let
+ * keys be compared in another way, e.g. Strings ignoring case or arrays by their contents, without wrapping them.
+ *
+ * @param <K> Any type of the keys to hash and compare
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public interface HashingStrategy<K> {
+
+    /**
+     * A method that computes the hash code of a key.
+     * Time Complexity: Depends on the strategy
+     *
+     * @param key Any key
+     * @return The hash code of the key
+     */
+    int hashCode(K key);
+
+    /**
+     * A method that checks whether two keys are equal.
+     * Time Complexity: Depends on the strategy
+     *
+     * @param key1 Any key
+     * @param key2 Any other key
+     * @return True if the keys are equal, false otherwise
+     */
+    boolean equals(K key1, K key2);
+
+    /**
+     * A method that returns the natural strategy, which uses the hashCode and equals methods of the keys.
+     * Time Complexity: O(1)
+     *
+     * @param <K> Any type of the keys
+     * @return The natural hashing strategy
+     */
+    @SuppressWarnings("unchecked")
+    static <K> HashingStrategy<K> natural() {
+        return (HashingStrategy<K>) NaturalHashingStrategy.instance;
+    }
+
+    /**
+     * A method that returns the identity strategy, which considers two keys equal only if they are the same object.
+     * Time Complexity: O(1)
+     *
+     * @param <K> Any type of the keys
+     * @return The identity hashing strategy
+     */
+    static <K> HashingStrategy<K> identity() {
+        return of(System::identityHashCode, (key1, key2) -> key1 == key2);
+    }
+
+    /**
+     * A method that creates a strategy out of a hash function and an equality test, which must agree with each other.
+     * Time Complexity: O(1)
+     *
+     * @param <K> Any type of the keys
+     * @param hashFunction The function that computes the hash code of a key
+     * @param equality The test that checks whether two keys are equal
+     * @return The hashing strategy
+     */
+    static <K> HashingStrategy<K> of(ToIntFunction<? super K> hashFunction, BiPredicate<? super K, ? super K> equality) {
+        return new HashingStrategy<K>() {
+            public int hashCode(K key) {
+                return hashFunction.applyAsInt(key);
+            }
+
+            public boolean equals(K key1, K key2) {
+                return equality.test(key1, key2);
+            }
+        };
+    }
+
+    /**
+     * A helper class that holds the single instance of the natural strategy, so a table can recognize it.
+     *
+     */
+    final class NaturalHashingStrategy implements HashingStrategy<Object> {
+
+        // A field that stores the single instance of the natural strategy
+        private static final NaturalHashingStrategy instance = new NaturalHashingStrategy();
+
+        /**
+         * A constructor that is private, so the single instance is the only one.
+         * Time Complexity: O(1)
+         *
+         */
+        private NaturalHashingStrategy() {
+        }
+
+        public int hashCode(Object key) {
+            return key.hashCode();
+        }
+
+        public boolean equals(Object key1, Object key2) {
+            return key1.equals(key2);
+        }
+
+    }
+
+}
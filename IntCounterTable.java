@@ -0,0 +1,246 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents, creates, and stores a hash table that maps String keys to primitive int counts.
+ * Counts live in an int array, so counting never boxes an Integer. Entries are stored densely in insertion order and
+ * are located through a separate open-addressing index of entry positions (linear probing).
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class IntCounterTable {
+
+    // Field that stores the index of the table: each slot holds an entry position + 1, or 0 for an empty slot
+    private int[] slotIndex;
+
+    // Field that stores the mask used to turn a hash code into a slot (slotIndex.length - 1)
+    private int mask;
+
+    // Field that stores the keys of the entries, in insertion order
+    private String[] keys;
+
+    // Field that stores the hash codes of the entries, parallel to the keys array
+    private int[] hashes;
+
+    // Field that stores the counts of the entries, parallel to the keys array
+    private int[] counts;
+
+    // Field to keep track of the total number of entries currently in the table
+    private int numElements;
+
+    // Field to store the maximum load factor of the index
+    private static final double maximumLoadFactor = 0.75;
+
+    // Field to store the largest length of the index, the largest power of two an int holds
+    private static final int maximumIndexLength = 1 << 30;
+
+    /**
+     * A constructor that creates a counter table with a default capacity of 10.
+     * Time Complexity: O(1)
+     *
+     */
+    public IntCounterTable() {
+        this(10);
+    }
+
+    /**
+     * A constructor that creates a counter table that can hold the specified number of keys without growing.
+     * Time Complexity: O(N) where N is the specified capacity
+     *
+     * @param capacity Any specified capacity to create the table with
+     * @throws IllegalArgumentException When the capacity given is negative or needs an index of more than 2^30 slots,
+     * throw an IllegalArgumentException
+     */
+    public IntCounterTable(int capacity) {
+        // When the capacity given is negative, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        // When the capacity given needs a longer index than the largest index length, throw an IllegalArgumentException
+        if (capacity > maximumIndexLength * maximumLoadFactor) {
+            throw new IllegalArgumentException("The entered capacity is too large. It must be at most " + (int) (maximumIndexLength * maximumLoadFactor));
+        }
+        // Variable that stores the length of the index, a power of two large enough for the given capacity
+        int indexLength = 2;
+        while (indexLength * maximumLoadFactor < capacity) {
+            indexLength = indexLength * 2;
+        }
+        this.slotIndex = new int[indexLength];
+        this.mask = indexLength - 1;
+        this.keys = new String[Math.max(capacity, 1)];
+        this.hashes = new int[this.keys.length];
+        this.counts = new int[this.keys.length];
+        this.numElements = 0;
+    }
+
+    /**
+     * A method that adds 1 to the count of the specified key, starting from 0 if the key is not in the table yet.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key Any key to count
+     * @return The new count of the key
+     */
+    public int increment(String key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * A method that adds the specified delta to the count of the specified key, starting from 0 if the key is not in
+     * the table yet.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key Any key to count
+     * @param delta The amount to add to the count
+     * @return The new count of the key
+     */
+    public int addTo(String key, int delta) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        // Variable that stores the slot currently being probed
+        int slot = hash & this.mask;
+        // A loop that walks the probe sequence until the key or an empty slot is found
+        while (this.slotIndex[slot] != 0) {
+            // Variable that stores the position of the entry referenced by this slot
+            int entry = this.slotIndex[slot] - 1;
+            // If the key is found, add the delta in place and return the new count
+            if (this.hashes[entry] == hash && this.keys[entry].equals(key)) {
+                this.counts[entry] = this.counts[entry] + delta;
+                return this.counts[entry];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        // The key is new: append the entry and reference it from the empty slot
+        if (this.numElements == this.keys.length) {
+            growEntries();
+        }
+        this.keys[this.numElements] = key;
+        this.hashes[this.numElements] = hash;
+        this.counts[this.numElements] = delta;
+        this.slotIndex[slot] = this.numElements + 1;
+        this.numElements = this.numElements + 1;
+        // Grow the index if the load factor is now exceeded
+        if (this.numElements > this.slotIndex.length * maximumLoadFactor) {
+            growIndex();
+        }
+        return delta;
+    }
+
+    /**
+     * A method that returns the count of the specified key, or 0 if the key is not in the table.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to get the count of
+     * @return The count of the key, or 0 if the key is not in the table
+     */
+    public int getOrZero(String key) {
+        // Variable that stores the hash code of the key
+        int hash = spreadHash(key.hashCode());
+        // Variable that stores the slot currently being probed
+        int slot = hash & this.mask;
+        // A loop that walks the probe sequence until the key or an empty slot is found
+        while (this.slotIndex[slot] != 0) {
+            // Variable that stores the position of the entry referenced by this slot
+            int entry = this.slotIndex[slot] - 1;
+            if (this.hashes[entry] == hash && this.keys[entry].equals(key)) {
+                return this.counts[entry];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return 0;
+    }
+
+    /**
+     * A method that returns the number of distinct keys currently in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of distinct keys currently in the table.
+     */
+    public int size() {
+        return this.numElements;
+    }
+
+    /**
+     * A method that returns the keys of the table in insertion order, i.e. in the order of their first count. The
+     * iterator is fail-fast: counting a new key while iterating makes it throw a ConcurrentModificationException,
+     * while updating the count of an existing key is allowed.
+     * Time Complexity: O(1)
+     *
+     * @return An Iterable over the keys of the table, in insertion order
+     */
+    public Iterable<String> keys() {
+        return () -> new Iterator<String>() {
+
+            // Variable that stores the position of the next entry to return
+            private int nextEntry = 0;
+
+            // Variable that stores the number of entries the table is expected to have
+            private final int expectedNumElements = IntCounterTable.this.numElements;
+
+            public boolean hasNext() {
+                if (IntCounterTable.this.numElements != this.expectedNumElements) {
+                    throw new ConcurrentModificationException("The table was modified while iterating!");
+                }
+                return this.nextEntry < this.expectedNumElements;
+            }
+
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("There are no more keys in the table!");
+                }
+                this.nextEntry = this.nextEntry + 1;
+                return IntCounterTable.this.keys[this.nextEntry - 1];
+            }
+        };
+    }
+
+    /**
+     * A method that spreads the higher bits of a hash code into the lower bits used for indexing.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @return The spread hash code
+     */
+    private static int spreadHash(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * A method that doubles the length of the dense entry arrays.
+     * Time Complexity: O(N) where N is the number of entries
+     *
+     */
+    private void growEntries() {
+        // Variable that stores the new length of the entry arrays
+        int newLength = this.keys.length * 2;
+        this.keys = Arrays.copyOf(this.keys, newLength);
+        this.hashes = Arrays.copyOf(this.hashes, newLength);
+        this.counts = Arrays.copyOf(this.counts, newLength);
+    }
+
+    /**
+     * A method that doubles the length of the index and re-registers every entry from its cached hash code.
+     * The dense entry arrays are not touched.
+     * Time Complexity: O(N) where N is the number of entries
+     *
+     */
+    private void growIndex() {
+        // Variables that store the new index and its mask
+        int[] newSlotIndex = new int[this.slotIndex.length * 2];
+        int newMask = newSlotIndex.length - 1;
+        // A loop that places every entry into the new index
+        for (int entry = 0; entry < this.numElements; entry = entry + 1) {
+            int slot = this.hashes[entry] & newMask;
+            while (newSlotIndex[slot] != 0) {
+                slot = (slot + 1) & newMask;
+            }
+            newSlotIndex[slot] = entry + 1;
+        }
+        this.slotIndex = newSlotIndex;
+        this.mask = newMask;
+    }
+
+}
@@ -0,0 +1,348 @@
+import java.security.SecureRandom;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A class that represents, creates, and stores a hash table that maps primitive long keys to values, so that keys are
+ * never boxed into Longs. Two int ids can be packed into one long key with pack, e.g. the word ids of a bigram.
+ * Keys and values live in parallel arrays indexed by open addressing (linear probing); a removal shifts the rest of
+ * its probe run back, so no tombstones are left behind. A slot is empty when its value is null, hence null values
+ * cannot be stored.
+ *
+ * @param <V> Any type to store in the hash table
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class LongKeyHashTable<V> {
+
+    // Field that stores the keys of the slots
+    private long[] keys;
+
+    // Field that stores the values of the slots, null for an empty slot
+    private V[] values;
+
+    // Field that stores the mask used to turn a hash code into a slot (keys.length - 1)
+    private int mask;
+
+    // Field to keep track of the total number of entries currently in the table
+    private int numElements;
+
+    // Field to store the maximum load factor of the table
+    private static final double maximumLoadFactor = 0.75;
+
+    // Field to store the source of the random hash seeds of all tables
+    private static final SecureRandom hashSeedSource = new SecureRandom();
+
+    // Field to store the random seed of this table, so keys cannot be prepared in advance to collide
+    private final long hashSeed = hashSeedSource.nextLong();
+
+    /**
+     * A constructor that creates a table with a default capacity of 10.
+     * Time Complexity: O(1)
+     *
+     */
+    public LongKeyHashTable() {
+        this(10);
+    }
+
+    /**
+     * A constructor that creates a table that can hold the specified number of keys without growing.
+     * Time Complexity: O(N) where N is the specified capacity
+     *
+     * @param capacity Any specified capacity to create the table with
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public LongKeyHashTable(int capacity) {
+        // When the capacity given is negative, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        // Variable that stores the number of slots, a power of two large enough for the given capacity
+        int numberOfSlots = 2;
+        while (numberOfSlots * maximumLoadFactor < capacity) {
+            numberOfSlots = numberOfSlots * 2;
+        }
+        allocateSlots(numberOfSlots);
+        this.numElements = 0;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public V get(long key) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        return value;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or null if the key does not exist.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key, or null if the key does not exist
+     */
+    public V tryGet(long key) {
+        return this.values[findSlot(key)];
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or the specified default value if the key
+     * does not exist.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to get the value with
+     * @param defaultValue The value to return if the key does not exist
+     * @return The value associated with the specified key, or the default value if the key does not exist
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * A method that checks whether the table contains the specified key.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to look for
+     * @return True if the key exists in the table, false otherwise
+     */
+    public boolean containsKey(long key) {
+        return tryGet(key) != null;
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the table, replacing the value of an existing key.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key Any key to be added to the table
+     * @param value Any value to be added to the table
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The hash table cannot store null values!");
+        }
+        // Variable that stores the slot of the key, or the empty slot where it belongs
+        int slot = findSlot(key);
+        if (this.values[slot] == null) {
+            insertAt(slot, key, value);
+        }
+        else {
+            this.values[slot] = value;
+        }
+    }
+
+    /**
+     * A method that combines the specified value with the existing value of the key using the remapping function,
+     * or stores the specified value if the key does not exist. If the function returns null, the key is removed. To
+     * count keys, use e.g. {@code table.merge(key, 1, Integer::sum)}.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key Any key to merge the value into
+     * @param value Any value to merge, stored as is if the key does not exist
+     * @param remappingFunction The function that combines the existing value and the given value
+     * @return The new value of the key, or null if the key has been removed
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException
+     */
+    public V merge(long key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException("The hash table cannot store null values!");
+        }
+        // Variable that stores the slot of the key, or the empty slot where it belongs
+        int slot = findSlot(key);
+        if (this.values[slot] == null) {
+            insertAt(slot, key, value);
+            return value;
+        }
+        // Variable that stores the new value of the key
+        V newValue = remappingFunction.apply(this.values[slot], value);
+        if (newValue == null) {
+            removeSlot(slot);
+        }
+        else {
+            this.values[slot] = newValue;
+        }
+        return newValue;
+    }
+
+    /**
+     * A method that removes the key-value pair associated with the specified key and returns the associated value.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public V remove(long key) {
+        // Variable that stores the slot of the key
+        int slot = findSlot(key);
+        // Variable that stores the value to be returned
+        V removedValue = this.values[slot];
+        if (removedValue == null) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        removeSlot(slot);
+        return removedValue;
+    }
+
+    /**
+     * A method that returns the number of entries currently in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of entries currently in the table
+     */
+    public int size() {
+        return this.numElements;
+    }
+
+    /**
+     * A method that performs the given action on every entry of the table, in slot order, without boxing the keys.
+     * The table must not be modified while the action runs.
+     * Time Complexity: O(C) where C is the number of slots
+     *
+     * @param action The action to perform on every value and its key
+     */
+    public void forEach(ObjLongConsumer<? super V> action) {
+        for (int slot = 0; slot < this.values.length; slot = slot + 1) {
+            if (this.values[slot] != null) {
+                action.accept(this.values[slot], this.keys[slot]);
+            }
+        }
+    }
+
+    /**
+     * A method that packs two ints into one long key, the first one in the high half.
+     * Time Complexity: O(1)
+     *
+     * @param high The int to store in the high half of the key
+     * @param low The int to store in the low half of the key
+     * @return The packed key
+     */
+    public static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A helper method that computes the home slot of a key: a multiply-shift hash of the key and the seed, whose
+     * halves are folded together first so that the high half of the key reaches the bits of the slot.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key
+     * @return The home slot of the key
+     */
+    private int homeSlot(long key) {
+        // Variable that stores the seeded key with its high half folded into its low half
+        long seededKey = key ^ this.hashSeed;
+        seededKey = seededKey ^ (seededKey >>> 32);
+        return (int) ((seededKey * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+    }
+
+    /**
+     * A helper method that walks the probe sequence of a key until the key or an empty slot is found.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key
+     * @return The slot of the key, or the empty slot where it belongs
+     */
+    private int findSlot(long key) {
+        // Variable that stores the slot currently being probed
+        int slot = homeSlot(key);
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    /**
+     * A helper method that stores a new entry in an empty slot, and grows the table if the load factor is exceeded.
+     * Time Complexity: O(1), O(N) when the table grows, where N is the number of entries
+     *
+     * @param slot The empty slot where the key belongs
+     * @param key The new key
+     * @param value The value of the new key
+     */
+    private void insertAt(int slot, long key, V value) {
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.numElements = this.numElements + 1;
+        if (this.numElements > this.keys.length * maximumLoadFactor) {
+            reHashTable(this.keys.length * 2);
+        }
+    }
+
+    /**
+     * A helper method that empties a slot and shifts back the entries after it in the same probe run, so that every
+     * entry stays reachable from its home slot.
+     * Time Complexity: O(1) average case
+     *
+     * @param slot The slot to empty
+     */
+    private void removeSlot(int slot) {
+        // Variable that stores the slot that has just been emptied
+        int emptySlot = slot;
+        // Variable that stores the slot currently being examined
+        int nextSlot = (slot + 1) & this.mask;
+        while (this.values[nextSlot] != null) {
+            // Move the entry back if its home slot is not cyclically between the empty slot and its current slot
+            int home = homeSlot(this.keys[nextSlot]);
+            if (((nextSlot - home) & this.mask) >= ((nextSlot - emptySlot) & this.mask)) {
+                this.keys[emptySlot] = this.keys[nextSlot];
+                this.values[emptySlot] = this.values[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & this.mask;
+        }
+        this.values[emptySlot] = null;
+        this.numElements = this.numElements - 1;
+    }
+
+    /**
+     * A helper method that allocates empty key and value arrays with the given number of slots.
+     * Time Complexity: O(C) where C is the number of slots
+     *
+     * @param numberOfSlots The number of slots, a power of two
+     */
+    private void allocateSlots(int numberOfSlots) {
+        this.keys = new long[numberOfSlots];
+        // Variable that stores the new value array, which is only read back as its erased type
+        @SuppressWarnings("unchecked") V[] newValues = (V[]) new Object[numberOfSlots];
+        this.values = newValues;
+        this.mask = numberOfSlots - 1;
+    }
+
+    /**
+     * A helper method that moves every entry into new arrays with the given number of slots.
+     * Time Complexity: O(N + C) where N is the number of entries and C is the number of slots
+     *
+     * @param numberOfSlots The new number of slots, a power of two
+     */
+    private void reHashTable(int numberOfSlots) {
+        // Variables that store the current arrays
+        long[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        allocateSlots(numberOfSlots);
+        for (int index = 0; index < oldValues.length; index = index + 1) {
+            if (oldValues[index] != null) {
+                int slot = findSlot(oldKeys[index]);
+                this.keys[slot] = oldKeys[index];
+                this.values[slot] = oldValues[index];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,680 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents, creates, and stores a Priority Queue whose keys are primitive longs, e.g. timestamps or
+ * scores. It has the same API and the same d-ary heap as PriorityQueue, but its keys live in a long[] and are compared
+ * inline, so no key is ever boxed and sifting never calls compareTo. DoublePriorityQueue stores its keys in this class.
+ * The heap is d-ary: every node has up to d children (2 by default), so a heap of N nodes is only log_d(N) levels
+ * deep. The keys are stored in a contiguous array of their own, apart from the values, so sifting down compares the
+ * d children of a node in a single run of the key array; a 4-ary or 8-ary heap thus reaches fewer cache lines per poll
+ * on a large queue than a binary one.
+ * The values are stored as they are, with no node per element, until the first update or poll(value). That call indexes
+ * the heap: every value is wrapped in a node that knows its position in the heap, which every move keeps up to date,
+ * and a HashTable maps every value to its node, so update and poll(value) find their element in O(1) and fix the heap
+ * in O(log N). A queue that is only added to and polled never pays for the index.
+ * Unlike PriorityQueue, this class does not keep the order in which elements that share a value were added, so that
+ * the heap holds nothing but keys and values. If several elements share a value, update and poll(value) affect the
+ * one added most recently since the heap was indexed; among those already in the heap when it was indexed, they
+ * affect the one that sat last in the heap array, which need not be the one added last.
+ *
+ * @param <V> Any types to be parsed into the priority queue
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class LongPriorityQueue<V> {
+
+    // A field that stores the keys of the current priority, max-Heap, in heap order
+    private long[] heapKeys;
+
+    // A field that stores the values of the heap, or the nodes holding them once the heap is indexed, index for index
+    // with the keys
+    private Object[] heapEntries;
+
+    // A field that stores the number of children of every node of the heap
+    private final int arity;
+
+    // A field that stores the arity of a priority queue created without one
+    private static final int defaultArity = 2;
+
+    // A field that stores the number of slots of the heap arrays of a new, empty priority queue
+    private static final int initialCapacity = 16;
+
+    // A field that stores the current size of the queue (i.e. the number of elements currently in the queue)
+    private int queueSize;
+
+    /* A field that maps every value to its node, null until the first update or poll(value) indexes the heap. Nodes
+     * that share a value are chained from the most recently indexed one, which is the one update and poll(value)
+     * affect. */
+    private HashTable<V, QueueNode<V>> valueIndex;
+
+    // A field that stores the auxiliary heap of candidate heap indices used by peek(k), reused from one call to the next
+    private int[] peekCandidates = new int[0];
+
+    /**
+     * A constructor that creates this instance of Priority Queue that takes no parameters.
+     * Time Complexity: O(1)
+     */
+    public LongPriorityQueue() {
+        this(defaultArity);
+    }
+
+    /**
+     * A constructor that creates an empty Priority Queue whose nodes have the specified number of children. An arity
+     * of 4 or 8 keeps the heap shallow, which pays off on large queues; add and update are then slightly cheaper and
+     * poll compares more keys per level.
+     * Time Complexity: O(1)
+     *
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the arity is less than 2, throw an IllegalArgumentException.
+     */
+    public LongPriorityQueue(int arity) {
+        // If the arity is less than 2, throw an IllegalArgumentException.
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of the heap must be at least 2");
+        }
+        this.arity = arity;
+        this.heapKeys = new long[initialCapacity];
+        this.heapEntries = new Object[initialCapacity];
+        this.queueSize = 0;
+    }
+
+    /**
+     * A constructor that creates an instance of Priority Queue with the specified key and value arrays.
+     * Time Complexity: O(N), where N is the length of the specified arrays.
+     *
+     * @param keys Any array of keys
+     * @param values Any array of values
+     * @throws IllegalArgumentException If the specified arrays differ in length or a value is null, throw an
+     * IllegalArgumentException.
+     */
+    public LongPriorityQueue(long[] keys, V[] values) {
+        this(keys, values, defaultArity);
+    }
+
+    /**
+     * A constructor that creates an instance of Priority Queue with the specified key and value arrays, whose nodes
+     * have the specified number of children.
+     * Time Complexity: O(N), where N is the length of the specified arrays.
+     *
+     * @param keys Any array of keys
+     * @param values Any array of values
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the specified arrays differ in length, a value is null, or the arity is less
+     * than 2, throw an IllegalArgumentException.
+     */
+    public LongPriorityQueue(long[] keys, V[] values, int arity) {
+        // If the specified arrays differ in length, throw an IllegalArgumentException.
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values arrays have different lengths");
+        }
+        // Else, do nothing
+        else {
+            ;
+        }
+        // If a value is null, it cannot be indexed, so throw an IllegalArgumentException.
+        for (int index = 0; index < values.length; index = index + 1) {
+            if (values[index] == null) {
+                throw new IllegalArgumentException("The priority queue cannot store null values");
+            }
+        }
+        // If the arity is less than 2, throw an IllegalArgumentException.
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of the heap must be at least 2");
+        }
+        this.arity = arity;
+        // Initialize this priority, max-heap
+        this.heapKeys = Arrays.copyOf(keys, Math.max(keys.length, 1));
+        this.heapEntries = Arrays.copyOf(values, Math.max(values.length, 1), Object[].class);
+        // Initialize the size of this queue
+        this.queueSize = keys.length;
+        // Variable that stores the index for heap fixing (max-Heapifying): the parent of the last node, if any
+        int fixingHeapIndex = -1;
+        if (this.queueSize > 1) {
+            fixingHeapIndex = findIndexOfParent(this.queueSize - 1);
+        }
+        // A loop that loops through the entire queue to fix the current max heap
+        for (int index = fixingHeapIndex; index >= 0; index = index - 1) {
+            fixMaxHeap(index);
+        }
+    }
+
+    /**
+     * A method that adds the specified key-value pair to the priority queue.
+     * Time Complexity: O(log N) average case, O(N) worst case, where N is the size of the priority queue.
+     *
+     * @param key Any key to be added to the priority queue
+     * @param value Any value to be added to the priority queue
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException.
+     */
+    public void add(long key, V value) {
+        // If the value is null, it cannot be indexed, so throw an IllegalArgumentException
+        if (value == null) {
+            throw new IllegalArgumentException("The priority queue cannot store null values");
+        }
+        // Grow the heap arrays if they are full
+        if (this.queueSize == this.heapKeys.length) {
+            this.heapKeys = Arrays.copyOf(this.heapKeys, this.queueSize * 2);
+            this.heapEntries = Arrays.copyOf(this.heapEntries, this.queueSize * 2);
+        }
+        // Variable to store the new entry: the value itself, or a new indexed node holding it once the heap is indexed
+        Object newEntry = value;
+        if (this.valueIndex != null) {
+            QueueNode<V> newNode = new QueueNode<V>(value);
+            indexValue(newNode);
+            newEntry = newNode;
+        }
+        // Increase the queue size by 1, then move the new entry up from the end of the queue to its place (max-heapify)
+        this.queueSize = this.queueSize + 1;
+        siftUp(this.queueSize - 1, key, newEntry);
+    }
+
+    /**
+     * A method that updates a key corresponding to an element in the priority queue with the specified value, such that
+     * it has the new specified key. The key may grow or shrink; the element moves up or down the heap accordingly.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue; O(N) the first time, which
+     * indexes the heap.
+     *
+     * @param key Any key to update with
+     * @param value Any value to update with
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     */
+    public void update(long key, V value) {
+        // Variable to store the node to update, found through the index of the values
+        QueueNode<V> nodeToUpdate = findNode(value);
+        // Move the node with its new key up if the key has grown, or down if it has shrunk (max-heapify)
+        fixMaxHeap(siftUp(nodeToUpdate.heapIndex, key, nodeToUpdate));
+    }
+
+    /**
+     * A method that returns the value corresponding to the greatest key from the priority queue.
+     * Time Complexity: O(1)
+     *
+     * @return the value corresponding to the greatest key from the priority queue.
+     * @throws NoSuchElementException If the priority queue is empty, throw an NoSuchElementException.
+     */
+    public V peek() {
+        // If the priority queue is empty, throw an NoSuchElementException
+        if (this.queueSize == 0) {
+            throw new NoSuchElementException("Priority queue is empty");
+        }
+        // Do thing if otherwise and let the method continue normally
+        else {
+            ;
+        }
+        // Variable to store the current greatest key from the priority queue.
+        V returnValue = valueAt(0);
+        // Return it
+        return returnValue;
+    }
+
+    /**
+     * A method that returns an array containing the k values corresponding to the greatest k keys from the priority queue.
+     * The queue is left unchanged; equal keys come out in the order of their positions in the heap.
+     * Time Complexity: O(k log k)
+     * Space Complexity: O(k).
+     *
+     * @param k The k to find the values with
+     * @return An array containing the k values corresponding to the greatest k keys from the priority queue.
+     * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0.
+     */
+    public V[] peek(int k) {
+        // Variable to store the result array, sized within the queue so that an invalid k is rejected before allocating
+        Object[] tempResult = new Object[Math.max(0, Math.min(k, this.queueSize))];
+        // Type-cast the above array, fill it, and return it; the values of the queue are the only elements it gets
+        @SuppressWarnings("unchecked")
+        V[] resultArray = (V[]) tempResult;
+        return peek(k, resultArray);
+    }
+
+    /**
+     * A method that fills the first k elements of the specified array with the values corresponding to the greatest k
+     * keys from the priority queue, greatest first, and returns the array. The queue is left unchanged, and once the
+     * auxiliary heap has grown to its largest size nothing is allocated, so the top of the queue can be sampled often.
+     * The heap is walked best first: the root is the first candidate, and every time the greatest candidate is taken
+     * out, its children become candidates, so at most k * (d - 1) + 1 candidates are ever compared.
+     * Time Complexity: O(k log k)
+     *
+     * @param k The k to find the values with
+     * @param destination The array to fill, at least k long
+     * @return The specified array
+     * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0, or the array is
+     * shorter than k.
+     */
+    public V[] peek(int k, V[] destination) {
+        // If k is greater than the priority queue's size or less than 0, throw an IllegalArgumentException.
+        if (k > this.queueSize) {
+            throw new IllegalArgumentException("k must be less than or equal to the priority queue's size");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be greater than or equal to 0!");
+        }
+        // If the array cannot hold k values, throw an IllegalArgumentException.
+        if (destination.length < k) {
+            throw new IllegalArgumentException("The destination array must hold at least k values");
+        }
+        if (k == 0) {
+            return destination;
+        }
+        // Grow the auxiliary heap if needed, which holds at most k * (d - 1) + 1 candidates
+        if (this.peekCandidates.length < k * (this.arity - 1) + 1) {
+            this.peekCandidates = new int[k * (this.arity - 1) + 1];
+        }
+        // Variable that stores the auxiliary heap, and the number of candidates in it, starting with the root
+        int[] candidates = this.peekCandidates;
+        int numCandidates = 1;
+        candidates[0] = 0;
+        // A loop that takes the greatest candidate out k times, making its children candidates
+        for (int index = 0; index < k; index = index + 1) {
+            // Variable that stores the heap index of the greatest candidate
+            int bestIndex = candidates[0];
+            destination[index] = valueAt(bestIndex);
+            // Replace the greatest candidate by the last one and move it down the auxiliary heap
+            numCandidates = numCandidates - 1;
+            candidates[0] = candidates[numCandidates];
+            siftDownCandidate(candidates, numCandidates, 0);
+            // Add the children of the taken node as candidates
+            for (int childIndex = findIndexOfFirstChild(bestIndex);
+                 childIndex < findIndexOfFirstChild(bestIndex) + this.arity && childIndex < this.queueSize;
+                 childIndex = childIndex + 1) {
+                candidates[numCandidates] = childIndex;
+                numCandidates = numCandidates + 1;
+                siftUpCandidate(candidates, numCandidates - 1);
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * A method that removes the element corresponding to the greatest key from the priority queue, and returns its
+     * corresponding value.
+     * Time Complexity: O(log N), where N is the size of the priority queue.
+     *
+     * @return The element corresponding to the greatest key from the priority queue.
+     * @throws NoSuchElementException If no elements exist, throw a NoSuchElementException.
+     */
+    public V poll() {
+        // If no elements exist, throw a NoSuchElementException.
+        if (this.queueSize == 0) {
+            throw new NoSuchElementException("Priority queue is empty");
+        }
+        // Else, do nothing.
+        else {
+            ;
+        }
+        // Variable to store the max value of the queue
+        V maxValue = valueAt(0);
+        // Remove the root, then return the value associated with the greatest key
+        removeAt(0);
+        return maxValue;
+    }
+
+    /**
+     * A method that removes an element from the priority queue corresponding to the specified value and returns its
+     * corresponding key.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue; O(N) the first time, which
+     * indexes the heap.
+     *
+     * @param value Any value to find the element with.
+     * @return The value's corresponding key.
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     */
+    public long poll(V value) {
+        // Variable to store the node to be removed, found through the index of the values
+        QueueNode<V> nodeToRemove = findNode(value);
+        // Variable to store the key associated with the given value
+        long key = this.heapKeys[nodeToRemove.heapIndex];
+        // Remove the node, then return the key
+        removeAt(nodeToRemove.heapIndex);
+        return key;
+    }
+
+    /**
+     * A method that returns the number of elements currently being stored in the priority queue.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements currently being stored in the priority queue.
+     */
+    public int size() {
+        // Variable to store the number of elements currently being stored in the priority queue.
+        int returnVal = this.queueSize;
+        return returnVal;
+    }
+
+    /**
+     * A private class to store and create a node of an indexed priority queue. Its key is stored in the key array of
+     * the heap, at the position of the node.
+     *
+     * @param <V> Any value.
+     * @author David Nguyen
+     * @since 04/02/2023
+     * @version 1.0
+     */
+    private static class QueueNode<V> {
+
+        // A field that stores the value of the node
+        private V value;
+
+        // A field that stores the position of the node in the heap, kept up to date by every move
+        private int heapIndex;
+
+        // A field that stores the next node with the same value, added before this one
+        private QueueNode<V> nextNodeWithSameValue;
+
+        /**
+         * A constructor to create a Queue Node with the specified value.
+         * Time Complexity: O(1)
+         *
+         * @param value Value to create a node with.
+         */
+        public QueueNode(V value) {
+            // Initialize the fields
+            this.value = value;
+        }
+
+        /**
+         * A method that gets the value of this queue node.
+         * Time Complexity: O(1)
+         *
+         * @return The value of this queue node
+         */
+        public V getValue() {
+            return value;
+        }
+
+    }
+
+    /**
+     * A method that helps find the index of the parent of this index.
+     * Time Complexity: O(1)
+     *
+     * @param index The index from which the parent will be found.
+     * @return The index of the parent of this index.
+     */
+    private int findIndexOfParent(int index) {
+        // Variable that stores the index of the parent of this index and return it.
+        int indexOfParent = (index - 1) / this.arity;
+        return indexOfParent;
+    }
+
+    /**
+     * A method that helps find the index of the first child of this index; the other children follow it.
+     * Time Complexity: O(1)
+     *
+     * @param index The index from which the first child will be found.
+     * @return The index of the first child of this index.
+     */
+    private int findIndexOfFirstChild(int index) {
+        // Variable that stores the index of the first child of this index and return it.
+        int indexOfFirstChild = (this.arity * index) + 1;
+        return indexOfFirstChild;
+    }
+
+    /**
+     * A method that stores the given key and entry at the given index of the heap, and records the index in the entry
+     * if it is an indexed node.
+     * Time Complexity: O(1)
+     *
+     * @param index The index to store the key and entry at
+     * @param key The key of the entry
+     * @param entry The value, or the node holding it if the heap is indexed
+     */
+    private void place(int index, long key, Object entry) {
+        this.heapKeys[index] = key;
+        this.heapEntries[index] = entry;
+        if (this.valueIndex != null) {
+            asNode(entry).heapIndex = index;
+        }
+    }
+
+    /**
+     * A method that returns the value stored at the given index of the heap.
+     * Time Complexity: O(1)
+     *
+     * @param index Any index of the heap
+     * @return The value at the index
+     */
+    private V valueAt(int index) {
+        if (this.valueIndex != null) {
+            return asNode(this.heapEntries[index]).getValue();
+        }
+        return asValue(this.heapEntries[index]);
+    }
+
+    /**
+     * A method that returns an entry of an indexed heap as the node it is.
+     * Time Complexity: O(1)
+     *
+     * @param entry Any entry of the heap, once it is indexed
+     * @return The entry, as a node
+     */
+    @SuppressWarnings("unchecked")
+    private QueueNode<V> asNode(Object entry) {
+        return (QueueNode<V>) entry;
+    }
+
+    /**
+     * A method that returns an entry of a heap that is not indexed as the value it is.
+     * Time Complexity: O(1)
+     *
+     * @param entry Any entry of the heap, before it is indexed
+     * @return The entry, as a value
+     */
+    @SuppressWarnings("unchecked")
+    private V asValue(Object entry) {
+        return (V) entry;
+    }
+
+    /**
+     * A method that checks whether the node at the first heap index comes before the node at the second one in a
+     * best-first walk: its key is greater, or equal with a smaller heap index.
+     * Time Complexity: O(1)
+     *
+     * @param index1 Any heap index
+     * @param index2 Any other heap index
+     * @return True if the first node comes first, false otherwise
+     */
+    private boolean comesBefore(int index1, int index2) {
+        return this.heapKeys[index1] > this.heapKeys[index2]
+                || (this.heapKeys[index1] == this.heapKeys[index2] && index1 < index2);
+    }
+
+    /**
+     * A method that moves the candidate at the given position of the auxiliary heap, a binary heap, up to its place.
+     * Time Complexity: O(log k) where k is the number of candidates
+     *
+     * @param candidates The auxiliary heap of heap indices
+     * @param position The position of the candidate to move up
+     */
+    private void siftUpCandidate(int[] candidates, int position) {
+        while (position > 0 && comesBefore(candidates[position], candidates[(position - 1) / 2])) {
+            // Variable that stores the candidate being moved up
+            int candidate = candidates[position];
+            candidates[position] = candidates[(position - 1) / 2];
+            candidates[(position - 1) / 2] = candidate;
+            position = (position - 1) / 2;
+        }
+    }
+
+    /**
+     * A method that moves the candidate at the given position of the auxiliary heap down to its place.
+     * Time Complexity: O(log k) where k is the number of candidates
+     *
+     * @param candidates The auxiliary heap of heap indices
+     * @param numCandidates The number of candidates in the auxiliary heap
+     * @param position The position of the candidate to move down
+     */
+    private void siftDownCandidate(int[] candidates, int numCandidates, int position) {
+        while (2 * position + 1 < numCandidates) {
+            // Variable that stores the position of the child that comes first
+            int bestChild = 2 * position + 1;
+            if (bestChild + 1 < numCandidates && comesBefore(candidates[bestChild + 1], candidates[bestChild])) {
+                bestChild = bestChild + 1;
+            }
+            if (!comesBefore(candidates[bestChild], candidates[position])) {
+                return;
+            }
+            // Variable that stores the candidate being moved down
+            int candidate = candidates[position];
+            candidates[position] = candidates[bestChild];
+            candidates[bestChild] = candidate;
+            position = bestChild;
+        }
+    }
+
+    /**
+     * A method that moves the given key and entry up from the given index while the key is greater than its parent's,
+     * moving every smaller parent down one level, and stores them where they stop.
+     * Time Complexity: O(log N) where N is the size of the priority queue.
+     *
+     * @param index The index to start from, whose slot may be overwritten
+     * @param key The key of the entry
+     * @param entry The entry to move up
+     * @return The index the entry has been stored at
+     */
+    private int siftUp(int index, long key, Object entry) {
+        // Loops through the list to fix the heap as necessary (max-heapify)
+        while (index > 0 && this.heapKeys[findIndexOfParent(index)] < key) {
+            place(index, this.heapKeys[findIndexOfParent(index)], this.heapEntries[findIndexOfParent(index)]);
+            index = findIndexOfParent(index);
+        }
+        place(index, key, entry);
+        return index;
+    }
+
+    /**
+     * A method that removes the entry at the given index: the last entry takes its place and is moved up or down to
+     * fix the heap, and the entry is dropped from the index of the values, if any.
+     * Time Complexity: O(log N) average case where N is the size of the priority queue.
+     *
+     * @param index The index of the entry to remove
+     */
+    private void removeAt(int index) {
+        if (this.valueIndex != null) {
+            unindexValue(asNode(this.heapEntries[index]));
+        }
+        this.queueSize = this.queueSize - 1;
+        // Variables to store the last key and entry, which take the place of the removed one
+        long lastKey = this.heapKeys[this.queueSize];
+        Object lastEntry = this.heapEntries[this.queueSize];
+        // Clear the last slot, so the heap does not keep its entry alive
+        this.heapEntries[this.queueSize] = null;
+        // If the removed entry was not the last one, move the last entry into its place and fix the heap around it
+        if (index != this.queueSize) {
+            fixMaxHeap(siftUp(index, lastKey, lastEntry));
+        }
+    }
+
+    /**
+     * A method that finds the node of the given value through the index of the values, indexing the heap first if it
+     * is not indexed yet.
+     * Time Complexity: O(1) average case, O(N) the first time, where N is the size of the priority queue.
+     *
+     * @param value Any value to find the node of
+     * @return The most recently indexed node with the value
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     */
+    private QueueNode<V> findNode(V value) {
+        if (this.valueIndex == null) {
+            indexHeap();
+        }
+        // Variable to store the node of the value, null if the value does not exist
+        QueueNode<V> node = value == null ? null : this.valueIndex.tryGet(value);
+        if (node == null) {
+            throw new NoSuchElementException("Value not found in the priority queue");
+        }
+        return node;
+    }
+
+    /**
+     * A method that indexes the heap: every value is replaced by a node holding it and its position, and the nodes are
+     * added to a new index of the values, sized once for all of them. The heap does not know the order the values were
+     * added in, so nodes that share a value are chained in the order of the heap array, the last one first.
+     * Time Complexity: O(N) average case, where N is the size of the priority queue.
+     */
+    private void indexHeap() {
+        this.valueIndex = new HashTable<V, QueueNode<V>>();
+        this.valueIndex.ensureCapacity(this.queueSize);
+        for (int index = 0; index < this.queueSize; index = index + 1) {
+            // Variable that stores the node of the value at the current index
+            QueueNode<V> node = new QueueNode<V>(asValue(this.heapEntries[index]));
+            node.heapIndex = index;
+            this.heapEntries[index] = node;
+            indexValue(node);
+        }
+    }
+
+    /**
+     * A method that adds a node to the index of the values, in front of the nodes that already have its value.
+     * Time Complexity: O(1) average case
+     *
+     * @param node The node to index
+     */
+    private void indexValue(QueueNode<V> node) {
+        node.nextNodeWithSameValue = this.valueIndex.tryGet(node.getValue());
+        this.valueIndex.put(node.getValue(), node);
+    }
+
+    /**
+     * A method that removes a node from the index of the values.
+     * Time Complexity: O(1) average case, O(D) where D is the number of other nodes with the same value
+     *
+     * @param node The node to remove from the index
+     */
+    private void unindexValue(QueueNode<V> node) {
+        // Variable to store the first node with the value of the node
+        QueueNode<V> firstNode = this.valueIndex.tryGet(node.getValue());
+        if (firstNode == node) {
+            if (node.nextNodeWithSameValue == null) {
+                this.valueIndex.remove(node.getValue());
+            }
+            else {
+                this.valueIndex.put(node.getValue(), node.nextNodeWithSameValue);
+            }
+            return;
+        }
+        // Otherwise, unlink the node from the chain of the nodes with the same value
+        while (firstNode.nextNodeWithSameValue != node) {
+            firstNode = firstNode.nextNodeWithSameValue;
+        }
+        firstNode.nextNodeWithSameValue = node.nextNodeWithSameValue;
+    }
+
+    /**
+     * A method that fixes the max-heap by moving the node at the given index down while one of its children has a
+     * greater key. The node is held aside while the greatest child of every level moves up into the hole, so every
+     * level costs one pass over the contiguous keys of the children and a single write.
+     * Time Complexity: O(d log_d N) where N is the number of words in the priority queue and d is the arity.
+     *
+     * @param index Any given index to fix the heap with
+     */
+    private void fixMaxHeap(int index) {
+        // Variables that store the key and entry being moved down
+        long key = this.heapKeys[index];
+        Object entry = this.heapEntries[index];
+        // Variable that stores the index of the first child of the hole
+        int indexOfFirstChild = findIndexOfFirstChild(index);
+        while (indexOfFirstChild < this.queueSize) {
+            // Variable that stores the index of the child with the greatest key, the first one among equal keys
+            int indexOfGreatestChild = indexOfFirstChild;
+            // Variable that stores the index after the last child
+            int indexAfterLastChild = Math.min(indexOfFirstChild + this.arity, this.queueSize);
+            for (int childIndex = indexOfFirstChild + 1; childIndex < indexAfterLastChild; childIndex = childIndex + 1) {
+                if (this.heapKeys[childIndex] > this.heapKeys[indexOfGreatestChild]) {
+                    indexOfGreatestChild = childIndex;
+                }
+            }
+            // If no child is greater than the node, the node belongs in the hole
+            if (this.heapKeys[indexOfGreatestChild] <= key) {
+                break;
+            }
+            // Otherwise, move the greatest child up into the hole and continue from its old place
+            place(index, this.heapKeys[indexOfGreatestChild], this.heapEntries[indexOfGreatestChild]);
+            index = indexOfGreatestChild;
+            indexOfFirstChild = findIndexOfFirstChild(index);
+        }
+        place(index, key, entry);
+    }
+
+}
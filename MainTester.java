@@ -1,12 +1,14 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -14,6 +16,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.junit.Assert.assertThrows;
 
@@ -195,14 +198,14 @@ public class MainTester {
     // TESTING THE CONSTRUCTORS AND METHODS OF THE HASHTABLE<T> CLASS:
 
     // Represents a test table
-    private HashTable<String> testTable;
+    private HashTable<String, String> testTable;
 
     /**
      * Sets up the table for testing
      */
     @Before
     public void setUpHashTable() {
-        testTable = new HashTable<String>();
+        testTable = new HashTable<String, String>();
     }
 
     /**
@@ -218,7 +221,7 @@ public class MainTester {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testConstructorNegativeCapacity() {
-        new HashTable<String>(-1);
+        new HashTable<String, String>(-1);
     }
 
     /**
@@ -235,7 +238,7 @@ public class MainTester {
      */
     @Test
     public void testGetWhenEmpty() {
-        HashTable<Integer> hashTable = new HashTable<>();
+        HashTable<String, Integer> hashTable = new HashTable<>();
         boolean thrown = false;
         try {
             hashTable.get("test");
@@ -252,7 +255,7 @@ public class MainTester {
      */
     @Test
     public void testGetNonExistingKey() {
-        HashTable<Integer> table = new HashTable<Integer>();
+        HashTable<String, Integer> table = new HashTable<String, Integer>();
         table.put("banana", 2);
         table.put("pineapple", 3);
         assertThrows(NoSuchElementException.class, () -> table.get("apple"));
@@ -264,17 +267,17 @@ public class MainTester {
     @Test
     public void testPutExistingKey() {
         // Case 1: Specified value is an instance of Integer
-        HashTable<Integer> table = new HashTable<Integer>();
+        HashTable<String, Integer> table = new HashTable<String, Integer>();
         table.put("apple", 1);
         table.put("banana", 2);
         table.put("pineapple", 3);
-        table.put("apple", 4);
+        table.merge("apple", 4, Integer::sum);
         assertEquals(Integer.valueOf(2), table.get("banana"));
         assertEquals(Integer.valueOf(3), table.get("pineapple"));
         assertEquals(Integer.valueOf(5), table.get("apple"));
         assertEquals(3, table.size());
         // Case 2: Specified value is not an instance of Integer
-        HashTable<String> table1 = new HashTable<String>();
+        HashTable<String, String> table1 = new HashTable<String, String>();
         table1.put("apple", "One");
         table1.put("banana", "Two");
         table1.put("pineapple", "Three");
@@ -290,7 +293,7 @@ public class MainTester {
      */
     @Test
     public void testPutWithCollision() {
-        HashTable<Integer> table = new HashTable<Integer>(1);
+        HashTable<String, Integer> table = new HashTable<String, Integer>(1);
         table.put("a", 1);
         table.put("b", 2);
         assertEquals(1, (int) table.get("a"));
@@ -310,10 +313,12 @@ public class MainTester {
      */
     @Test
     public void testPutAndUpdateWithInteger() {
-        HashTable<Integer> intTable = new HashTable<>();
+        HashTable<String, Integer> intTable = new HashTable<>();
         intTable.put("key1", 1);
-        intTable.put("key1", 2);
+        intTable.merge("key1", 2, Integer::sum);
         assertEquals(Integer.valueOf(3), intTable.get("key1"));
+        intTable.put("key1", 2);
+        assertEquals(Integer.valueOf(2), intTable.get("key1"));
     }
 
     /**
@@ -354,7 +359,7 @@ public class MainTester {
      */
     @Test
     public void testRemoveEmpty() {
-        HashTable<Integer> table = new HashTable<Integer>();
+        HashTable<String, Integer> table = new HashTable<String, Integer>();
         boolean thrown = false;
         try {
             table.remove("test");
@@ -395,7 +400,7 @@ public class MainTester {
     @Test
     public void extraTestCollisionsAndRehash() {
         int capacity = 10;
-        HashTable<String> customTable = new HashTable<>(capacity);
+        HashTable<String, String> customTable = new HashTable<>(capacity);
         for (int i = 0; i < capacity + 1; i++) {
             customTable.put("key" + i, "value" + i);
         }
@@ -829,6 +834,36 @@ public class MainTester {
         assertArrayEquals(expected, priorityQueue.peek(3));
     }
 
+    /**
+     * Test that peek(int k) leaves the queue unchanged
+     */
+    @Test
+    public void testPeekIsNonDestructive() {
+        for (int i = 1; i <= 20; i++) {
+            priorityQueue.add(i * 7 % 20, "V" + (i * 7 % 20));
+        }
+        assertArrayEquals(new String[]{"V19", "V18", "V17", "V16"}, priorityQueue.peek(4));
+        assertArrayEquals(new String[]{"V19", "V18", "V17", "V16"}, priorityQueue.peek(4));
+        assertEquals(20, priorityQueue.size());
+        for (int i = 19; i >= 0; i--) {
+            assertEquals("V" + i, priorityQueue.poll());
+        }
+    }
+
+    /**
+     * Test peek(int k, V[] destination) method filling a larger array
+     */
+    @Test
+    public void testPeekIntoArray() {
+        priorityQueue.add(1, "One");
+        priorityQueue.add(3, "Three");
+        priorityQueue.add(2, "Two");
+        String[] destination = {"a", "b", "c", "d"};
+        assertSame(destination, priorityQueue.peek(2, destination));
+        assertArrayEquals(new String[]{"Three", "Two", "c", "d"}, destination);
+        assertThrows(IllegalArgumentException.class, () -> priorityQueue.peek(3, new String[2]));
+    }
+
     /**
      * Test peek() with zero inputs
      */
@@ -904,6 +939,250 @@ public class MainTester {
         priorityQueue.poll("Two");
     }
 
+    /**
+     * Test update() method lowering a key
+     */
+    @Test
+    public void testUpdateDecreasesKey() {
+        priorityQueue.add(3, "Three");
+        priorityQueue.add(1, "One");
+        priorityQueue.add(2, "Two");
+        priorityQueue.update(0, "Three");
+        assertEquals("Two", priorityQueue.poll());
+        assertEquals("One", priorityQueue.poll());
+        assertEquals("Three", priorityQueue.poll());
+    }
+
+    /**
+     * Test that poll() and poll(V value) keep the heap in order when elements are added afterwards
+     */
+    @Test
+    public void testPollThenAdd() {
+        for (int i = 1; i <= 10; i++) {
+            priorityQueue.add(i, "V" + i);
+        }
+        assertEquals("V10", priorityQueue.poll());
+        assertEquals(Integer.valueOf(4), priorityQueue.poll("V4"));
+        priorityQueue.add(7, "W7");
+        priorityQueue.add(0, "W0");
+        assertEquals(10, priorityQueue.size());
+        String[] expected = {"V9", "V8", "V7", "W7", "V6", "V5", "V3", "V2", "V1", "W0"};
+        for (String value : expected) {
+            String polled = priorityQueue.poll();
+            if (value.endsWith("7")) {
+                assertTrue(polled.endsWith("7"));
+            }
+            else {
+                assertEquals(value, polled);
+            }
+        }
+        assertEquals(0, priorityQueue.size());
+    }
+
+    /**
+     * Test update() and poll(V value) with a value stored twice
+     */
+    @Test
+    public void testDuplicateValues() {
+        priorityQueue.add(1, "Same");
+        priorityQueue.add(5, "Five");
+        priorityQueue.add(3, "Same");
+        assertEquals(Integer.valueOf(3), priorityQueue.poll("Same"));
+        priorityQueue.update(9, "Same");
+        assertEquals("Same", priorityQueue.poll());
+        assertEquals("Five", priorityQueue.poll());
+        assertEquals(0, priorityQueue.size());
+    }
+
+    /**
+     * Test 4-ary and 8-ary heaps
+     */
+    @Test
+    public void testArity() {
+        for (int arity : new int[]{4, 8}) {
+            Integer[] keys = new Integer[50];
+            String[] values = new String[50];
+            for (int i = 0; i < 50; i++) {
+                keys[i] = i * 37 % 50;
+                values[i] = "V" + keys[i];
+            }
+            PriorityQueue<Integer, String> pq = new PriorityQueue<>(keys, values, arity);
+            pq.update(100, "V3");
+            pq.update(-1, "V49");
+            assertEquals(Integer.valueOf(20), pq.poll("V20"));
+            assertArrayEquals(new String[]{"V3", "V48", "V47"}, pq.peek(3));
+            assertEquals("V3", pq.poll());
+            for (int i = 48; i >= 0; i--) {
+                if (i != 3 && i != 20) {
+                    assertEquals("V" + i, pq.poll());
+                }
+            }
+            assertEquals("V49", pq.poll());
+            assertEquals(0, pq.size());
+        }
+    }
+
+    /**
+     * Test if the arity constructor will throw an exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testArityThrowsIllegalArgumentException() {
+        new PriorityQueue<Integer, String>(1);
+    }
+
+    /**
+     * Test the long-keyed priority queue: add(), update(), poll(value), peek(k) and poll()
+     */
+    @Test
+    public void testLongPriorityQueue() {
+        for (int arity : new int[]{2, 4}) {
+            long[] keys = new long[50];
+            String[] values = new String[50];
+            for (int i = 0; i < 50; i++) {
+                keys[i] = (i * 37 % 50) * 10_000_000_000L;
+                values[i] = "V" + (i * 37 % 50);
+            }
+            LongPriorityQueue<String> pq = new LongPriorityQueue<>(keys, values, arity);
+            pq.add(Long.MIN_VALUE, "Min");
+            pq.update(Long.MAX_VALUE, "V3");
+            assertEquals(200_000_000_000L, pq.poll("V20"));
+            assertArrayEquals(new String[]{"V3", "V49", "V48"}, pq.peek(3));
+            assertEquals(50, pq.size());
+            assertEquals("V3", pq.poll());
+            for (int i = 49; i >= 0; i--) {
+                if (i != 3 && i != 20) {
+                    assertEquals("V" + i, pq.poll());
+                }
+            }
+            assertEquals("Min", pq.poll());
+            assertThrows(NoSuchElementException.class, () -> pq.poll());
+        }
+    }
+
+    /**
+     * Test the double-keyed priority queue, including equal and NaN keys
+     */
+    @Test
+    public void testDoublePriorityQueue() {
+        DoublePriorityQueue<String> pq = new DoublePriorityQueue<>(4);
+        pq.add(0.5, "Half");
+        pq.add(-2.25, "Negative");
+        pq.add(Double.POSITIVE_INFINITY, "Infinity");
+        pq.add(0.5, "OtherHalf");
+        pq.update(3.0, "Negative");
+        assertEquals("Infinity", pq.peek());
+        assertEquals(Double.POSITIVE_INFINITY, pq.poll("Infinity"), 0.0);
+        assertEquals("Negative", pq.poll());
+        assertEquals(2, pq.size());
+        assertThrows(IllegalArgumentException.class, () -> pq.add(Double.NaN, "NaN"));
+        assertThrows(IllegalArgumentException.class, () -> pq.update(Double.NaN, "Half"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DoublePriorityQueue<>(new double[]{1.0, Double.NaN}, new String[]{"One", "NaN"}));
+        assertEquals(2, pq.size());
+        assertEquals(0.5, pq.poll("Half"), 0.0);
+        assertEquals("OtherHalf", pq.poll());
+        pq.add(-0.0, "NegativeZero");
+        pq.add(0.0, "Zero");
+        pq.add(-Double.MIN_VALUE, "Tiny");
+        assertEquals(0.0, pq.poll("NegativeZero"), 0.0);
+        assertEquals("Zero", pq.poll());
+        assertEquals(-Double.MIN_VALUE, pq.poll("Tiny"), 0.0);
+    }
+
+    /**
+     * Test that the long-keyed priority queue keeps its order when update indexes a heap already added to and polled
+     */
+    @Test
+    public void testLongPriorityQueueIndexedLater() {
+        LongPriorityQueue<String> pq = new LongPriorityQueue<>(3);
+        for (int i = 0; i < 30; i++) {
+            pq.add(i * 7 % 30, "V" + (i * 7 % 30));
+        }
+        assertEquals("V29", pq.poll());
+        assertEquals("V28", pq.poll());
+        pq.update(100, "V5");
+        pq.add(50, "Fifty");
+        assertEquals(27, pq.poll("V27"));
+        assertEquals("V5", pq.poll());
+        assertEquals("Fifty", pq.poll());
+        for (int i = 26; i >= 0; i--) {
+            if (i != 5) {
+                assertEquals("V" + i, pq.poll());
+            }
+        }
+        assertEquals(0, pq.size());
+        assertThrows(NoSuchElementException.class, () -> pq.poll("V5"));
+        pq.add(1, "Same");
+        pq.add(2, "Same");
+        pq.add(3, "Other");
+        pq.add(4, "Other");
+        pq.add(0, "Same");
+        assertEquals(0, pq.poll("Same"));
+        assertEquals(4, pq.poll("Other"));
+        assertEquals(3, pq.poll("Other"));
+    }
+
+    /**
+     * Test that a concurrent priority queue with a single shard is strictly ordered, and that an empty one throws or
+     * times out
+     */
+    @Test
+    public void testConcurrentPriorityQueueSingleShard() throws InterruptedException {
+        ConcurrentPriorityQueue<Integer, String> pq = new ConcurrentPriorityQueue<>(1);
+        pq.add(2, "Two");
+        pq.add(5, "Five");
+        pq.add(1, "One");
+        assertEquals(3, pq.size());
+        assertEquals("Five", pq.poll());
+        assertEquals("Two", pq.take());
+        assertEquals("One", pq.take(10, TimeUnit.MILLISECONDS));
+        assertNull(pq.take(10, TimeUnit.MILLISECONDS));
+        assertThrows(NoSuchElementException.class, () -> pq.poll());
+        assertThrows(IllegalArgumentException.class, () -> pq.add(3, null));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentPriorityQueue<Integer, String>(0));
+    }
+
+    /**
+     * Test that concurrent producers and blocked consumers of a sharded priority queue hand over every element once
+     */
+    @Test
+    public void testConcurrentPriorityQueueProducersConsumers() throws InterruptedException {
+        ConcurrentPriorityQueue<Integer, Integer> pq = new ConcurrentPriorityQueue<>(8);
+        int[] taken = new int[40000];
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < 4; i++) {
+            int first = i * 10000;
+            threads[i] = new Thread(() -> {
+                for (int j = first; j < first + 10000; j++) {
+                    pq.add(j % 977, j);
+                }
+            });
+            threads[i + 4] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 10000; j++) {
+                        int value = pq.take();
+                        synchronized (taken) {
+                            taken[value]++;
+                        }
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int i = 7; i >= 0; i--) {
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, pq.size());
+        for (int count : taken) {
+            assertEquals(1, count);
+        }
+    }
+
     /**
      * Test size() method
      */
@@ -1084,7 +1363,7 @@ public class MainTester {
      */
     @Test
     public void testRegisteredUsers() {
-        HashTable<CMDbProfile> registeredUsers = CMDbGroup.registeredUsers();
+        HashTable<String, CMDbProfile> registeredUsers = CMDbGroup.registeredUsers();
         assertNotNull(registeredUsers);
     }
 
@@ -0,0 +1,528 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A class that represents, creates, and stores a Hash Table whose keys and fixed-width values live outside of the Java
+ * heap, in direct ByteBuffers, so that tens of millions of entries add nothing for the garbage collector to trace.
+ * Keys are stored as UTF-8 bytes in an append-only key heap and are found through an open-addressing slot array
+ * (linear probing, backward-shift deletion). Lookups encode the given String into a reused scratch array and compare
+ * bytes; no String is ever created from the stored bytes.
+ * Subclasses decide the width and the type of the values (see OffHeapIntHashTable and OffHeapLongHashTable).
+ * Both buffers are indexed with int positions, so each one is limited to 2 GB.
+ * A table can be saved to a file (header, slot array, key heap) and reopened with a read-only memory mapping of that
+ * file, which serves lookups straight from the page cache without reading or rebuilding anything.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public abstract class OffHeapHashTable {
+
+    // Field to store the position of the hash code within a slot
+    private static final int hashPosition = 0;
+
+    // Field to store the position of the key offset within a slot (offset in the key heap + 1, 0 marks an empty slot)
+    private static final int keyOffsetPosition = 4;
+
+    // Field to store the position of the key length within a slot
+    private static final int keyLengthPosition = 8;
+
+    // Field to store the position of the value within a slot
+    protected static final int valuePosition = 12;
+
+    // Field to store the magic number at the start of every saved table ("OHHT")
+    private static final int fileMagic = 0x4F484854;
+
+    // Field to store the version of the file layout written by save
+    private static final int fileVersion = 1;
+
+    // Field to store the size of the file header in bytes
+    private static final int fileHeaderSize = 32;
+
+    // Field to store the maximum load factor of the slot array
+    private static final double maximumLoadFactor = 0.75;
+
+    // Field to store the width of one slot in bytes
+    private final int slotWidth;
+
+    // Field to store the slot array
+    private ByteBuffer slots;
+
+    // Field to store the number of slots (a power of two)
+    private int numberOfSlots;
+
+    // Field to store the key heap, holding the UTF-8 bytes of every key
+    private ByteBuffer keyHeap;
+
+    // Field to keep track of the number of bytes of the key heap in use, including the bytes of removed keys
+    private int keyHeapUsed;
+
+    // Field to keep track of the number of bytes of the key heap that belong to removed keys
+    private int keyHeapGarbage;
+
+    // Field to keep track of the total number of elements currently in the hash table
+    private int numElements;
+
+    // Field to store whether the table is a read-only mapping of a saved file
+    private final boolean readOnly;
+
+    // Field to store the UTF-8 bytes of the key of the current operation, reused to avoid allocating on every call
+    private byte[] scratchKey;
+
+    // Field to store the number of bytes of the key in scratchKey
+    private int scratchKeyLength;
+
+    // Field to store the hash code of the key in scratchKey
+    private int scratchKeyHash;
+
+    /**
+     * A constructor that creates an off-heap Hash Table that can hold the specified number of elements without growing.
+     * Time Complexity: O(N) where N is the specified capacity
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @param valueWidth The width of one value in bytes
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    protected OffHeapHashTable(int capacity, int valueWidth) {
+        // When the capacity given is negative, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        this.slotWidth = valuePosition + valueWidth;
+        // Variable that stores the number of slots, a power of two large enough for the given capacity
+        int initialSlots = 2;
+        while (initialSlots * maximumLoadFactor < capacity) {
+            initialSlots = initialSlots * 2;
+        }
+        this.slots = allocate(initialSlots * this.slotWidth);
+        this.numberOfSlots = initialSlots;
+        this.keyHeap = allocate(Math.max(64, capacity * 8));
+        this.keyHeapUsed = 0;
+        this.keyHeapGarbage = 0;
+        this.numElements = 0;
+        this.readOnly = false;
+        this.scratchKey = new byte[64];
+    }
+
+    /**
+     * A constructor that opens a table saved with save, mapping its slot array and key heap read-only into memory.
+     * Nothing is read up front: the pages are loaded by the operating system as lookups touch them.
+     * Time Complexity: O(1)
+     *
+     * @param path The file to open
+     * @param valueWidth The width of one value in bytes, which must match the width the file was saved with
+     * @throws IOException If the file cannot be read, or is not a saved table with this value width and file version
+     */
+    protected OffHeapHashTable(Path path, int valueWidth) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Read the header and check that it describes a table this class can serve
+            ByteBuffer header = ByteBuffer.allocate(fileHeaderSize).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                ;
+            }
+            if (header.hasRemaining() || header.getInt(0) != fileMagic) {
+                throw new IOException(path + " is not a saved off-heap hash table");
+            }
+            if (header.getInt(4) != fileVersion) {
+                throw new IOException(path + " has unsupported file version " + header.getInt(4));
+            }
+            if (header.getInt(8) != valueWidth) {
+                throw new IOException(path + " stores " + header.getInt(8) + "-byte values, not " + valueWidth + "-byte values");
+            }
+            this.slotWidth = valuePosition + valueWidth;
+            this.numberOfSlots = header.getInt(12);
+            this.numElements = header.getInt(16);
+            this.keyHeapUsed = header.getInt(20);
+            this.keyHeapGarbage = header.getInt(24);
+            // Variable that stores the size of the slot array in bytes
+            long slotBytes = (long) this.numberOfSlots * this.slotWidth;
+            if (channel.size() != fileHeaderSize + slotBytes + this.keyHeapUsed) {
+                throw new IOException(path + " is truncated or corrupt");
+            }
+            // Map the slot array and the key heap separately, so that each one can be up to 2 GB
+            this.slots = channel.map(FileChannel.MapMode.READ_ONLY, fileHeaderSize, slotBytes).order(ByteOrder.LITTLE_ENDIAN);
+            this.keyHeap = channel.map(FileChannel.MapMode.READ_ONLY, fileHeaderSize + slotBytes, this.keyHeapUsed)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.readOnly = true;
+        this.scratchKey = new byte[64];
+    }
+
+    /**
+     * A method that returns the number of elements currently in the hash table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements currently in the hash table.
+     */
+    public int size() {
+        return this.numElements;
+    }
+
+    /**
+     * A method that checks whether the hash table contains the specified key.
+     * Time Complexity: O(1) average case
+     *
+     * @param key Any key to look for
+     * @return True if the key exists in the hash table, false otherwise
+     */
+    public boolean containsKey(String key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * A method that returns the number of off-heap bytes currently reserved by the slot array and the key heap.
+     * Time Complexity: O(1)
+     *
+     * @return The number of off-heap bytes reserved by this table
+     */
+    public long offHeapBytes() {
+        return (long) this.slots.capacity() + this.keyHeap.capacity();
+    }
+
+    /**
+     * A method that checks whether the table is a read-only mapping of a saved file.
+     * Time Complexity: O(1)
+     *
+     * @return True if the table was opened from a file and cannot be modified, false otherwise
+     */
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    /**
+     * A method that saves the table to the specified file: a header, then the slot array, then the used part of the
+     * key heap, all in little-endian order. The file can be reopened with the open method of the subclass.
+     * Time Complexity: O(N + B) where N is the number of slots and B is the number of key heap bytes
+     *
+     * @param path The file to write, replaced if it already exists
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        // Variable that stores the header of the file
+        ByteBuffer header = ByteBuffer.allocate(fileHeaderSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(fileMagic).putInt(fileVersion).putInt(this.slotWidth - valuePosition).putInt(this.numberOfSlots)
+                .putInt(this.numElements).putInt(this.keyHeapUsed).putInt(this.keyHeapGarbage).putInt(0);
+        header.flip();
+        // Variables that store views of the slot array and of the used part of the key heap, leaving the originals untouched
+        ByteBuffer slotView = this.slots.duplicate();
+        slotView.clear();
+        ByteBuffer keyHeapView = this.keyHeap.duplicate();
+        keyHeapView.clear();
+        keyHeapView.limit(this.keyHeapUsed);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ByteBuffer buffer : new ByteBuffer[] {header, slotView, keyHeapView}) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * A method that throws if the table is a read-only mapping of a saved file. Called by subclasses before modifying.
+     * Time Complexity: O(1)
+     *
+     * @throws UnsupportedOperationException If the table was opened from a file, throw an UnsupportedOperationException
+     */
+    protected void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("This hash table was opened read-only from a file");
+        }
+    }
+
+    /**
+     * A method that returns the slot array, for subclasses to read and write values at slotPosition + valuePosition.
+     * Time Complexity: O(1)
+     *
+     * @return The slot array
+     */
+    protected ByteBuffer slots() {
+        return this.slots;
+    }
+
+    /**
+     * A method that returns the byte position of the given slot within the slot array.
+     * Time Complexity: O(1)
+     *
+     * @param slot Any slot
+     * @return The byte position of the slot
+     */
+    protected int slotPosition(int slot) {
+        return slot * this.slotWidth;
+    }
+
+    /**
+     * A method that finds the slot of the given key.
+     * Time Complexity: O(L) average case where L is the length of the key
+     *
+     * @param key Any key to search for
+     * @return The slot of the key if it is in the table, otherwise -(the empty slot where it would be inserted) - 1
+     */
+    protected int findSlot(String key) {
+        // Encode the key into the scratch array and hash its bytes
+        encodeScratchKey(key);
+        // Variable that stores the slot currently being probed
+        int slot = this.scratchKeyHash & (this.numberOfSlots - 1);
+        // A loop that walks the probe sequence until the key or an empty slot is found
+        while (true) {
+            int position = slotPosition(slot);
+            int keyOffset = this.slots.getInt(position + keyOffsetPosition);
+            if (keyOffset == 0) {
+                return -slot - 1;
+            }
+            if (this.slots.getInt(position + hashPosition) == this.scratchKeyHash
+                    && scratchKeyEquals(keyOffset - 1, this.slots.getInt(position + keyLengthPosition))) {
+                return slot;
+            }
+            slot = (slot + 1) & (this.numberOfSlots - 1);
+        }
+    }
+
+    /**
+     * A method that inserts the key of the last findSlot call, which returned a miss, and returns its new slot. The
+     * value of the new slot is left for the subclass to write. Also grows the slot array or the key heap if necessary.
+     * Time Complexity: O(L) amortized where L is the length of the key
+     *
+     * @param missResult The negative value returned by findSlot for this key
+     * @return The slot of the newly inserted key
+     */
+    protected int insertScratchKey(int missResult) {
+        // Variable that stores the empty slot found by findSlot
+        int slot = -missResult - 1;
+        // If the slot array is full enough, grow it and find the empty slot again
+        if (this.numElements + 1 > this.numberOfSlots * maximumLoadFactor) {
+            reHashSlots(this.numberOfSlots * 2);
+            slot = this.scratchKeyHash & (this.numberOfSlots - 1);
+            while (this.slots.getInt(slotPosition(slot) + keyOffsetPosition) != 0) {
+                slot = (slot + 1) & (this.numberOfSlots - 1);
+            }
+        }
+        // If the key heap has no room for the key bytes, compact or grow it
+        if (this.keyHeapUsed + this.scratchKeyLength > this.keyHeap.capacity()) {
+            growKeyHeap(this.scratchKeyLength);
+        }
+        // Append the key bytes to the key heap and fill in the slot
+        this.keyHeap.put(this.keyHeapUsed, this.scratchKey, 0, this.scratchKeyLength);
+        int position = slotPosition(slot);
+        this.slots.putInt(position + hashPosition, this.scratchKeyHash);
+        this.slots.putInt(position + keyOffsetPosition, this.keyHeapUsed + 1);
+        this.slots.putInt(position + keyLengthPosition, this.scratchKeyLength);
+        this.keyHeapUsed = this.keyHeapUsed + this.scratchKeyLength;
+        this.numElements = this.numElements + 1;
+        return slot;
+    }
+
+    /**
+     * A method that removes the entry in the given slot, shifting the following entries of the probe sequence back so
+     * that no tombstones are left behind. The key bytes become garbage in the key heap until it is compacted.
+     * Time Complexity: O(1) average case
+     *
+     * @param slot The occupied slot to clear
+     */
+    protected void removeSlot(int slot) {
+        this.keyHeapGarbage = this.keyHeapGarbage + this.slots.getInt(slotPosition(slot) + keyLengthPosition);
+        // Variable that stores the mask of the slot array
+        int mask = this.numberOfSlots - 1;
+        // Variable that stores the slot after the emptied slot, scanning for entries that can move back into it
+        int nextSlot = (slot + 1) & mask;
+        while (this.slots.getInt(slotPosition(nextSlot) + keyOffsetPosition) != 0) {
+            // Variable that stores the home slot of the entry in nextSlot
+            int homeSlot = this.slots.getInt(slotPosition(nextSlot) + hashPosition) & mask;
+            // The entry can move back if its home slot is not cyclically within (slot, nextSlot]
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - slot) & mask)) {
+                copySlot(nextSlot, slot);
+                slot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        // Clear the last vacated slot and decrement the number of elements
+        clearSlot(slot);
+        this.numElements = this.numElements - 1;
+    }
+
+    /**
+     * A method that encodes the given key as UTF-8 into the scratch array and hashes its bytes.
+     * Time Complexity: O(L) where L is the length of the key
+     *
+     * @param key Any key to encode
+     */
+    private void encodeScratchKey(String key) {
+        // Make sure the scratch array can hold the worst case of 3 bytes per char
+        if (this.scratchKey.length < key.length() * 3) {
+            this.scratchKey = new byte[key.length() * 3];
+        }
+        byte[] bytes = this.scratchKey;
+        int length = 0;
+        for (int index = 0; index < key.length(); index = index + 1) {
+            char character = key.charAt(index);
+            if (character < 0x80) {
+                bytes[length++] = (byte) character;
+            }
+            else if (character < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (character >> 6));
+                bytes[length++] = (byte) (0x80 | (character & 0x3F));
+            }
+            else if (Character.isHighSurrogate(character) && index + 1 < key.length()
+                    && Character.isLowSurrogate(key.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(character, key.charAt(index + 1));
+                index = index + 1;
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            else {
+                bytes[length++] = (byte) (0xE0 | (character >> 12));
+                bytes[length++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+        this.scratchKeyLength = length;
+        this.scratchKeyHash = hashBytes(bytes, length);
+    }
+
+    /**
+     * A method that hashes the given bytes (FNV-1a followed by a finalizing mix).
+     * Time Complexity: O(L) where L is the number of bytes
+     *
+     * @param bytes The bytes to hash
+     * @param length The number of bytes to hash
+     * @return The hash code of the bytes
+     */
+    private static int hashBytes(byte[] bytes, int length) {
+        int hash = 0x811C9DC5;
+        for (int index = 0; index < length; index = index + 1) {
+            hash = (hash ^ (bytes[index] & 0xFF)) * 0x01000193;
+        }
+        hash = hash ^ (hash >>> 16);
+        hash = hash * 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+
+    /**
+     * A method that compares the key in the scratch array with the key bytes stored in the key heap.
+     * Time Complexity: O(L) where L is the length of the key
+     *
+     * @param keyOffset The offset of the stored key in the key heap
+     * @param keyLength The length of the stored key
+     * @return True if the keys are equal, false otherwise
+     */
+    private boolean scratchKeyEquals(int keyOffset, int keyLength) {
+        if (keyLength != this.scratchKeyLength) {
+            return false;
+        }
+        for (int index = 0; index < keyLength; index = index + 1) {
+            if (this.keyHeap.get(keyOffset + index) != this.scratchKey[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A method that rehashes every entry into a new slot array with the given number of slots. The key heap is not
+     * touched, because slots only refer to it.
+     * Time Complexity: O(N) where N is the number of slots
+     *
+     * @param newNumberOfSlots The new power-of-two number of slots
+     */
+    private void reHashSlots(int newNumberOfSlots) {
+        ByteBuffer oldSlots = this.slots;
+        int oldNumberOfSlots = this.numberOfSlots;
+        this.slots = allocate(newNumberOfSlots * this.slotWidth);
+        this.numberOfSlots = newNumberOfSlots;
+        // A loop that copies every occupied slot into the first empty slot of its probe sequence in the new array
+        for (int oldSlot = 0; oldSlot < oldNumberOfSlots; oldSlot = oldSlot + 1) {
+            int oldPosition = oldSlot * this.slotWidth;
+            if (oldSlots.getInt(oldPosition + keyOffsetPosition) != 0) {
+                int slot = oldSlots.getInt(oldPosition + hashPosition) & (newNumberOfSlots - 1);
+                while (this.slots.getInt(slotPosition(slot) + keyOffsetPosition) != 0) {
+                    slot = (slot + 1) & (newNumberOfSlots - 1);
+                }
+                for (int index = 0; index < this.slotWidth; index = index + 1) {
+                    this.slots.put(slotPosition(slot) + index, oldSlots.get(oldPosition + index));
+                }
+            }
+        }
+    }
+
+    /**
+     * A method that makes room for the given number of key bytes, either by compacting away the bytes of removed keys
+     * or by moving the live keys into a key heap of twice the size.
+     * Time Complexity: O(N + B) where N is the number of slots and B is the number of live key bytes
+     *
+     * @param bytesNeeded The number of bytes that must fit after this call
+     */
+    private void growKeyHeap(int bytesNeeded) {
+        // Variable that stores the number of bytes of live keys
+        long liveBytes = (long) this.keyHeapUsed - this.keyHeapGarbage;
+        // Variable that stores the capacity of the new key heap
+        long newCapacity = this.keyHeap.capacity();
+        while (liveBytes + bytesNeeded > newCapacity / 2) {
+            newCapacity = newCapacity * 2;
+        }
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The key heap cannot grow beyond 2 GB");
+        }
+        ByteBuffer newKeyHeap = allocate((int) newCapacity);
+        // Copy the bytes of every live key to the new key heap and point its slot to the new offset
+        int newUsed = 0;
+        for (int slot = 0; slot < this.numberOfSlots; slot = slot + 1) {
+            int position = slotPosition(slot);
+            int keyOffset = this.slots.getInt(position + keyOffsetPosition);
+            if (keyOffset != 0) {
+                int keyLength = this.slots.getInt(position + keyLengthPosition);
+                for (int index = 0; index < keyLength; index = index + 1) {
+                    newKeyHeap.put(newUsed + index, this.keyHeap.get(keyOffset - 1 + index));
+                }
+                this.slots.putInt(position + keyOffsetPosition, newUsed + 1);
+                newUsed = newUsed + keyLength;
+            }
+        }
+        this.keyHeap = newKeyHeap;
+        this.keyHeapUsed = newUsed;
+        this.keyHeapGarbage = 0;
+    }
+
+    /**
+     * A method that copies the entire content of one slot into another.
+     * Time Complexity: O(1)
+     *
+     * @param fromSlot The slot to copy from
+     * @param toSlot The slot to copy to
+     */
+    private void copySlot(int fromSlot, int toSlot) {
+        for (int index = 0; index < this.slotWidth; index = index + 1) {
+            this.slots.put(slotPosition(toSlot) + index, this.slots.get(slotPosition(fromSlot) + index));
+        }
+    }
+
+    /**
+     * A method that zeroes the given slot, marking it empty.
+     * Time Complexity: O(1)
+     *
+     * @param slot The slot to clear
+     */
+    private void clearSlot(int slot) {
+        for (int index = 0; index < this.slotWidth; index = index + 1) {
+            this.slots.put(slotPosition(slot) + index, (byte) 0);
+        }
+    }
+
+    /**
+     * A method that allocates a zeroed direct ByteBuffer in little-endian order, the order of saved files.
+     * Time Complexity: O(N) where N is the number of bytes
+     *
+     * @param numberOfBytes The number of bytes to allocate
+     * @return The new buffer
+     */
+    private static ByteBuffer allocate(int numberOfBytes) {
+        return ByteBuffer.allocateDirect(numberOfBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+}
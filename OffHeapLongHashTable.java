@@ -0,0 +1,135 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents, creates, and stores an off-heap Hash Table that maps String keys to primitive long values.
+ * See OffHeapHashTable for the storage layout.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class OffHeapLongHashTable extends OffHeapHashTable {
+
+    /**
+     * A constructor that creates an off-heap Hash Table with a default capacity of 10.
+     * Time Complexity: O(1)
+     *
+     */
+    public OffHeapLongHashTable() {
+        this(10);
+    }
+
+    /**
+     * A constructor that creates an off-heap Hash Table that can hold the specified number of elements without growing.
+     * Time Complexity: O(N) where N is the specified capacity
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @throws IllegalArgumentException When the capacity given is negative, throw an IllegalArgumentException
+     */
+    public OffHeapLongHashTable(int capacity) {
+        super(capacity, Long.BYTES);
+    }
+
+    /**
+     * A constructor that maps a table saved with save. Use open instead.
+     * Time Complexity: O(1)
+     *
+     * @param path The file to open
+     * @throws IOException If the file cannot be read or is not a saved table of long values
+     */
+    private OffHeapLongHashTable(Path path) throws IOException {
+        super(path, Long.BYTES);
+    }
+
+    /**
+     * A method that opens a table saved with save as a read-only memory mapping, so that lookups are served directly
+     * from the page cache without rebuilding the table. Calling put or remove on it throws an
+     * UnsupportedOperationException.
+     * Time Complexity: O(1)
+     *
+     * @param path The file to open
+     * @return The read-only table stored in the file
+     * @throws IOException If the file cannot be read or is not a saved table of long values
+     */
+    public static OffHeapLongHashTable open(Path path) throws IOException {
+        return new OffHeapLongHashTable(path);
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(L) average case where L is the length of the key
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     */
+    public long get(String key) {
+        // Variable that stores the slot of the key
+        int slot = findSlot(key);
+        if (slot < 0) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        return slots().getLong(slotPosition(slot) + valuePosition);
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or the specified default value if the key
+     * does not exist.
+     * Time Complexity: O(L) average case where L is the length of the key
+     *
+     * @param key Any key to get the value with
+     * @param defaultValue The value to return if the key does not exist
+     * @return The value associated with the specified key, or the default value if the key does not exist
+     */
+    public long getOrDefault(String key, long defaultValue) {
+        // Variable that stores the slot of the key
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return defaultValue;
+        }
+        return slots().getLong(slotPosition(slot) + valuePosition);
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the hash table, replacing the value of an existing key.
+     * Time Complexity: O(L) amortized where L is the length of the key
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     * @throws UnsupportedOperationException If the table was opened from a file, throw an UnsupportedOperationException
+     */
+    public void put(String key, long value) {
+        checkWritable();
+        // Variable that stores the slot of the key, inserting the key if it does not exist yet
+        int slot = findSlot(key);
+        if (slot < 0) {
+            slot = insertScratchKey(slot);
+        }
+        slots().putLong(slotPosition(slot) + valuePosition, value);
+    }
+
+    /**
+     * A method that removes a key-value pair associated with the specified key and returns the associated value.
+     * Time Complexity: O(L) average case where L is the length of the key
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the newly removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     * @throws UnsupportedOperationException If the table was opened from a file, throw an UnsupportedOperationException
+     */
+    public long remove(String key) {
+        checkWritable();
+        // Variable that stores the slot of the key
+        int slot = findSlot(key);
+        if (slot < 0) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        // Variable that stores the value to return, read before the slot is reused
+        long value = slots().getLong(slotPosition(slot) + valuePosition);
+        removeSlot(slot);
+        return value;
+    }
+
+}
@@ -0,0 +1,298 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents, creates, and stores a Hash Table that utilizes Open Addressing (Robin Hood linear probing)
+ * to handle collisions. Keys, cached hash codes, and values are kept in flat parallel arrays, so no node objects or
+ * bucket lists are allocated per entry and a lookup walks contiguous memory instead of following pointers.
+ *
+ * @param <T> Any type to store in the Hash Table
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class OpenAddressingHashTable<T> {
+
+    // Field to keep track of the keys of the hash table, null marks an empty slot
+    private String[] keys;
+
+    // Field to keep track of the (spread) hash codes of the keys, parallel to the keys array
+    private int[] hashes;
+
+    // Field to keep track of the values of the hash table, parallel to the keys array
+    private Object[] values;
+
+    // Field to keep track of the mask used to turn a hash code into a slot index (capacity - 1)
+    private int mask;
+
+    // Field to keep track of the total number of elements currently in the hash table
+    private int numElements;
+
+    // Field to keep track of the number of elements at which the table has to grow
+    private int resizeThreshold;
+
+    // Field to store the maximum load factor of this hash table
+    private static final double maximumLoadFactor = 0.75;
+
+    // Field to store the largest length of the parallel arrays, the largest power of two an int holds
+    private static final int maximumTableLength = 1 << 30;
+
+    /**
+     * A constructor that creates a Hash Table with a default capacity of 10.
+     * Time Complexity: O(1)
+     *
+     */
+    public OpenAddressingHashTable() {
+        this(10);
+    }
+
+    /**
+     * A constructor that creates a Hash Table that can hold the specified number of elements without growing.
+     * Time Complexity: O(N) where N is the specified capacity
+     *
+     * @param capacity Any specified capacity to create a Hash Table
+     * @throws IllegalArgumentException When the capacity given is negative or needs more than 2^30 slots, throw an
+     * IllegalArgumentException
+     */
+    public OpenAddressingHashTable(int capacity) {
+        // When the capacity given is negative, throw an IllegalArgumentException
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The entered capacity is negative, which is illegal. It must be greater than or above to 0");
+        }
+        // When the capacity given needs more slots than the largest table length, throw an IllegalArgumentException
+        if (capacity > maximumTableLength * maximumLoadFactor) {
+            throw new IllegalArgumentException("The entered capacity is too large. It must be at most " + (int) (maximumTableLength * maximumLoadFactor));
+        }
+        // Allocate enough slots so that the given capacity stays under the maximum load factor
+        allocateArrays(findTableLength(capacity));
+        this.numElements = 0;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public T get(String key) {
+        // Variable that stores the slot of the given key
+        int slot = findSlot(key);
+        // If the slot is negative, the key is not in the table
+        if (slot < 0) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        // Return the value associated with the given key, which was stored as a T
+        @SuppressWarnings("unchecked") T value = (T) this.values[slot];
+        return value;
+    }
+
+    /**
+     * A method that stores the specified key-value pair in the hash table, replacing the value of an existing key.
+     * Also grows the table if necessary.
+     * Time Complexity: O(1) amortized, O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to be added to the hash table
+     * @param value Any value to be added to the hash table
+     */
+    public void put(String key, T value) {
+        // Variable that stores the slot of the given key
+        int slot = findSlot(key);
+        // If the key already exists, simply replace its value
+        if (slot >= 0) {
+            this.values[slot] = value;
+            return;
+        }
+        // Grow the table first if adding this element would exceed the maximum load factor
+        if (this.numElements + 1 > this.resizeThreshold) {
+            reHashTable(this.keys.length * 2);
+        }
+        // Insert the new key-value pair and update the number of elements count by 1
+        insertNewEntry(key, spreadHash(key.hashCode()), value);
+        this.numElements = this.numElements + 1;
+    }
+
+    /**
+     * A method that removes a key-value pair associated with the specified key and returns the associated value.
+     * Removal shifts the following entries of the probe sequence back by one slot, so no tombstones are left behind.
+     * Time Complexity: O(1) average case, O(N) worst case, where N is the size of the hash table.
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the newly removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw an NoSuchElementException
+     */
+    public T remove(String key) {
+        // Variable that stores the slot of the given key
+        int slot = findSlot(key);
+        // If the slot is negative, the key is not in the table
+        if (slot < 0) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        // Variable that stores the value to be returned
+        @SuppressWarnings("unchecked") T returnValue = (T) this.values[slot];
+        // Shift the following entries back until an empty slot or an entry already at its home slot is reached
+        int nextSlot = (slot + 1) & this.mask;
+        while (this.keys[nextSlot] != null && probeDistance(this.hashes[nextSlot], nextSlot) != 0) {
+            this.keys[slot] = this.keys[nextSlot];
+            this.hashes[slot] = this.hashes[nextSlot];
+            this.values[slot] = this.values[nextSlot];
+            slot = nextSlot;
+            nextSlot = (nextSlot + 1) & this.mask;
+        }
+        // Clear the last slot of the shifted run and decrement the number of elements
+        this.keys[slot] = null;
+        this.values[slot] = null;
+        this.numElements = this.numElements - 1;
+        return returnValue;
+    }
+
+    /**
+     * A method that returns the number of elements currently in the hash table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of elements currently in the hash table.
+     */
+    public int size() {
+        return this.numElements;
+    }
+
+    /**
+     * A method that finds the slot currently holding the given key.
+     * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to search for
+     * @return The slot of the key, or -1 if the key is not in the table
+     */
+    private int findSlot(String key) {
+        // Variable that stores the spread hash code of the given key
+        int hash = spreadHash(key.hashCode());
+        // Variable that stores the slot currently being probed
+        int slot = hash & this.mask;
+        // Variable that stores how far away from the home slot the probe currently is
+        int distance = 0;
+        /* Robin Hood invariant: once the probe is further from home than the resident entry, the key cannot be
+         * further along the run, so the search can stop early. */
+        while (this.keys[slot] != null && distance <= probeDistance(this.hashes[slot], slot)) {
+            if (this.hashes[slot] == hash && this.keys[slot].equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & this.mask;
+            distance = distance + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * A method that inserts a key which is known not to be in the table, displacing richer entries (Robin Hood).
+     * Time Complexity: O(1) average case, O(N) worst case where N is the number of elements in the table.
+     *
+     * @param key Any key to insert
+     * @param hash The spread hash code of the key
+     * @param value The value to insert
+     */
+    private void insertNewEntry(String key, int hash, Object value) {
+        // Variable that stores the slot currently being probed
+        int slot = hash & this.mask;
+        // Variable that stores how far away from the home slot the entry being placed currently is
+        int distance = 0;
+        // A loop that walks the probe sequence until an empty slot is found
+        while (this.keys[slot] != null) {
+            // Variable that stores how far the resident entry is from its own home slot
+            int residentDistance = probeDistance(this.hashes[slot], slot);
+            // If the resident is closer to home than the entry being placed, swap them and keep placing the resident
+            if (residentDistance < distance) {
+                String tempKey = this.keys[slot];
+                int tempHash = this.hashes[slot];
+                Object tempValue = this.values[slot];
+                this.keys[slot] = key;
+                this.hashes[slot] = hash;
+                this.values[slot] = value;
+                key = tempKey;
+                hash = tempHash;
+                value = tempValue;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & this.mask;
+            distance = distance + 1;
+        }
+        // Place the entry into the empty slot
+        this.keys[slot] = key;
+        this.hashes[slot] = hash;
+        this.values[slot] = value;
+    }
+
+    /**
+     * A method that computes how far the entry with the given hash code sits from its home slot.
+     * Time Complexity: O(1)
+     *
+     * @param hash The spread hash code of the entry
+     * @param slot The slot the entry currently occupies
+     * @return The probe distance of the entry
+     */
+    private int probeDistance(int hash, int slot) {
+        return (slot - (hash & this.mask)) & this.mask;
+    }
+
+    /**
+     * A method that spreads the higher bits of a hash code into the lower bits used for indexing.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @return The spread hash code
+     */
+    private static int spreadHash(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * A method that finds the smallest power-of-two table length that holds the given number of elements without
+     * exceeding the maximum load factor.
+     * Time Complexity: O(log N) where N is the given number of elements
+     *
+     * @param numberOfElements The number of elements the table must hold
+     * @return The table length to allocate
+     */
+    private static int findTableLength(int numberOfElements) {
+        // Variable that stores the candidate table length
+        int tableLength = 2;
+        while (tableLength * maximumLoadFactor < numberOfElements) {
+            tableLength = tableLength * 2;
+        }
+        return tableLength;
+    }
+
+    /**
+     * A method that allocates fresh, empty parallel arrays of the given length.
+     * Time Complexity: O(N) where N is the given table length
+     *
+     * @param tableLength The power-of-two length of the arrays
+     */
+    private void allocateArrays(int tableLength) {
+        this.keys = new String[tableLength];
+        this.hashes = new int[tableLength];
+        this.values = new Object[tableLength];
+        this.mask = tableLength - 1;
+        this.resizeThreshold = (int) (tableLength * maximumLoadFactor);
+    }
+
+    /**
+     * A method that rehashes the table into arrays of the given length and reinserts every entry.
+     * Time Complexity: O(N) where N is the size of the table
+     *
+     * @param newTableLength The new power-of-two length of the arrays
+     */
+    private void reHashTable(int newTableLength) {
+        // Variables to store the current arrays of the hash table
+        String[] oldKeys = this.keys;
+        int[] oldHashes = this.hashes;
+        Object[] oldValues = this.values;
+        // Allocate the new arrays, then reinsert every existing entry using its cached hash code
+        allocateArrays(newTableLength);
+        for (int slot = 0; slot < oldKeys.length; slot = slot + 1) {
+            if (oldKeys[slot] != null) {
+                insertNewEntry(oldKeys[slot], oldHashes[slot], oldValues[slot]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,809 @@
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * A class that represents, creates, and stores a persistent hash table: a hash array mapped trie whose nodes are never
+ * modified once built. An update copies only the path from the root to the changed entry (at most 7 nodes of up to 32
+ * slots) and shares the rest of the trie with the previous version, so snapshot is O(1): it simply keeps the current
+ * root. Every node has a bitmap of its inline entries and a bitmap of its child nodes, and stores both compactly in
+ * one array (entries first, children last), as in a CHAMP trie.
+ * The current root and the size are published together through a volatile field, so readers never lock and always
+ * see a whole version, while writers are serialized by synchronizing on the table. A snapshot is read-only.
+ *
+ * @param <K> Any type of the keys of the hash table
+ * @param <V> Any type to store in the hash table
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class PersistentHashTable<K, V> {
+
+    // Field to store the number of hash code bits consumed by every level of the trie
+    private static final int bitsPerLevel = 5;
+
+    // Field to store the mask that extracts the bits of one level from a hash code
+    private static final int levelMask = (1 << bitsPerLevel) - 1;
+
+    // Field to store the current version of the table: its root node and its size
+    private volatile Version<K, V> currentVersion;
+
+    // Field to store the strategy that hashes and compares the keys of this table
+    private final HashingStrategy<? super K> hashingStrategy;
+
+    // Field to keep track of whether this table is a read-only snapshot
+    private final boolean readOnly;
+
+    /**
+     * A constructor that creates an empty persistent hash table whose keys are compared by their own hashCode and
+     * equals.
+     * Time Complexity: O(1)
+     *
+     */
+    public PersistentHashTable() {
+        this(HashingStrategy.natural());
+    }
+
+    /**
+     * A constructor that creates an empty persistent hash table whose keys are hashed and compared by the specified
+     * strategy.
+     * Time Complexity: O(1)
+     *
+     * @param hashingStrategy The strategy that hashes and compares the keys
+     */
+    public PersistentHashTable(HashingStrategy<? super K> hashingStrategy) {
+        this(hashingStrategy, new Version<K, V>(new BitmapNode<K, V>(0, 0, new Object[0]), 0), false);
+    }
+
+    /**
+     * A constructor that creates a table over an existing version of the trie.
+     * Time Complexity: O(1)
+     *
+     * @param hashingStrategy The strategy that hashes and compares the keys
+     * @param version The version of the trie
+     * @param readOnly True for a read-only snapshot, false otherwise
+     */
+    private PersistentHashTable(HashingStrategy<? super K> hashingStrategy, Version<K, V> version, boolean readOnly) {
+        this.hashingStrategy = hashingStrategy;
+        this.currentVersion = version;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * A method that creates a persistent hash table with the entries of the specified Hash Table.
+     * Time Complexity: O(N) where N is the number of entries
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param hashTable The table to copy the entries of
+     * @return The new persistent hash table
+     */
+    public static <K, V> PersistentHashTable<K, V> copyOf(HashTable<K, V> hashTable) {
+        // Variable that stores the new table
+        PersistentHashTable<K, V> persistentTable = new PersistentHashTable<K, V>();
+        for (HashTable.HashNode<K, V> hashNode : hashTable) {
+            persistentTable.put(hashNode.getKey(), hashNode.getValue());
+        }
+        return persistentTable;
+    }
+
+    /**
+     * A method that returns a read-only view of the table as it is now. Later changes to the table do not show in the
+     * snapshot, and the snapshot can be read from any number of threads without locking.
+     * Time Complexity: O(1)
+     *
+     * @return The snapshot of the table
+     */
+    public PersistentHashTable<K, V> snapshot() {
+        return new PersistentHashTable<K, V>(this.hashingStrategy, this.currentVersion, true);
+    }
+
+    /**
+     * A method that returns whether the table is a read-only snapshot.
+     * Time Complexity: O(1)
+     *
+     * @return True if the table is read-only, false otherwise
+     */
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key.
+     * Time Complexity: O(1), as the trie is at most 7 levels deep
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     */
+    public V get(K key) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            throw new NoSuchElementException("The given key cannot be found in the hash table!");
+        }
+        return value;
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or null if the key does not exist.
+     * Time Complexity: O(1), as the trie is at most 7 levels deep
+     *
+     * @param key Any key to get the value with
+     * @return The value associated with the specified key, or null if the key does not exist
+     */
+    public V tryGet(K key) {
+        return this.currentVersion.root.find(key, hashOf(key), 0, this.hashingStrategy);
+    }
+
+    /**
+     * A method that returns the value associated with the specified key, or the specified default value if the key
+     * does not exist.
+     * Time Complexity: O(1), as the trie is at most 7 levels deep
+     *
+     * @param key Any key to get the value with
+     * @param defaultValue The value to return if the key does not exist
+     * @return The value associated with the specified key, or the default value if the key does not exist
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        // Variable that stores the value of the key, null if the key does not exist
+        V value = tryGet(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * A method that checks whether the table contains the specified key.
+     * Time Complexity: O(1), as the trie is at most 7 levels deep
+     *
+     * @param key Any key to look for
+     * @return True if the key exists in the table, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return tryGet(key) != null;
+    }
+
+    /**
+     * A method that returns the number of entries in the table.
+     * Time Complexity: O(1)
+     *
+     * @return The number of entries in the table
+     */
+    public int size() {
+        return this.currentVersion.size;
+    }
+
+    /**
+     * A method that stores the specified key-value pair, replacing the value of an existing key, and publishes the
+     * new version of the table to readers.
+     * Time Complexity: O(1), as at most 7 nodes are copied
+     *
+     * @param key Any key to be added to the table
+     * @param value Any value to be added to the table
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException
+     * @throws UnsupportedOperationException If the table is a snapshot, throw an UnsupportedOperationException
+     */
+    public synchronized void put(K key, V value) {
+        checkWritable();
+        if (value == null) {
+            throw new IllegalArgumentException("The hash table cannot store null values!");
+        }
+        // Variables that store the current version and the record of what the update changed
+        Version<K, V> version = this.currentVersion;
+        Change<V> change = new Change<V>();
+        Node<K, V> newRoot = version.root.updated(key, value, hashOf(key), 0, this.hashingStrategy, change);
+        if (newRoot != version.root) {
+            this.currentVersion = new Version<K, V>(newRoot, version.size + (change.added ? 1 : 0));
+        }
+    }
+
+    /**
+     * A method that combines the specified value with the existing value of the key using the remapping function,
+     * or stores the specified value if the key does not exist. If the function returns null, the key is removed.
+     * Time Complexity: O(1), as at most 7 nodes are copied
+     *
+     * @param key Any key to merge the value into
+     * @param value Any value to merge, stored as is if the key does not exist
+     * @param remappingFunction The function that combines the existing value and the given value
+     * @return The new value of the key, or null if the key has been removed
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException
+     * @throws UnsupportedOperationException If the table is a snapshot, throw an UnsupportedOperationException
+     */
+    public synchronized V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkWritable();
+        // Variables that store the existing value of the key and its new value
+        V existingValue = tryGet(key);
+        V newValue = existingValue == null ? value : remappingFunction.apply(existingValue, value);
+        if (newValue == null) {
+            if (existingValue != null) {
+                remove(key);
+            }
+        }
+        else {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    /**
+     * A method that removes the key-value pair associated with the specified key, publishes the new version of the
+     * table to readers, and returns the removed value.
+     * Time Complexity: O(1), as at most 7 nodes are copied
+     *
+     * @param key Any key to remove the key-value pair with
+     * @return The value of the removed key-value pair
+     * @throws NoSuchElementException If the key does not exist, throw a NoSuchElementException
+     * @throws UnsupportedOperationException If the table is a snapshot, throw an UnsupportedOperationException
+     */
+    public synchronized V remove(K key) {
+        checkWritable();
+        // Variables that store the current version and the record of what the removal changed
+        Version<K, V> version = this.currentVersion;
+        Change<V> change = new Change<V>();
+        Node<K, V> newRoot = version.root.removed(key, hashOf(key), 0, this.hashingStrategy, change);
+        if (change.removedValue == null) {
+            throw new NoSuchElementException("The given key is not found in the hash table!");
+        }
+        this.currentVersion = new Version<K, V>(newRoot, version.size - 1);
+        return change.removedValue;
+    }
+
+    /**
+     * A method that performs the given action on every entry of the version of the table current when it is called.
+     * Changes made meanwhile, even by the action itself, do not affect the entries visited.
+     * Time Complexity: O(N) where N is the number of entries
+     *
+     * @param action The action to perform on every key and its value
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.currentVersion.root.forEach(action);
+    }
+
+    /**
+     * A helper method that throws if the table is a read-only snapshot.
+     * Time Complexity: O(1)
+     *
+     * @throws UnsupportedOperationException If the table is a snapshot, throw an UnsupportedOperationException
+     */
+    private void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("This hash table is a read-only snapshot");
+        }
+    }
+
+    /**
+     * A helper method that computes the hash code of a key, spreading its high bits into the low bits that index the
+     * first levels of the trie.
+     * Time Complexity: O(1), plus the cost of the hashing strategy
+     *
+     * @param key Any key
+     * @return The hash code of the key
+     */
+    private int hashOf(K key) {
+        return spread(this.hashingStrategy.hashCode(key));
+    }
+
+    /**
+     * A helper method that returns the bit of the slot of a hash code at the level of the given shift.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @param shift The number of hash code bits consumed by the levels above
+     * @return The bit of the slot
+     */
+    private static int slotBit(int hashCode, int shift) {
+        return 1 << ((hashCode >>> shift) & levelMask);
+    }
+
+    /**
+     * A helper class that stores a version of the table: its root node and its size, published together.
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     */
+    private static final class Version<K, V> {
+
+        // A field that stores the root node of the version
+        private final Node<K, V> root;
+
+        // A field that stores the number of entries of the version
+        private final int size;
+
+        /**
+         * A constructor that creates a version with the specified root and size.
+         * Time Complexity: O(1)
+         *
+         * @param root The root node
+         * @param size The number of entries
+         */
+        private Version(Node<K, V> root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+    }
+
+    /**
+     * A helper class that records what an update or a removal changed, as the nodes only return the new node.
+     *
+     * @param <V> Any type of the values
+     */
+    private static final class Change<V> {
+
+        // A field that stores whether a new key has been added
+        private boolean added;
+
+        // A field that stores the value that has been removed, null if none
+        private V removedValue;
+
+    }
+
+    /**
+     * A helper class that represents an immutable node of the trie.
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     */
+    private abstract static class Node<K, V> {
+
+        /**
+         * A helper method that returns the key stored at the given position of a content array.
+         * Time Complexity: O(1)
+         *
+         * @param content The content array of a node
+         * @param position The position of a key
+         * @return The key
+         */
+        @SuppressWarnings("unchecked")
+        final K keyAt(Object[] content, int position) {
+            return (K) content[position];
+        }
+
+        /**
+         * A helper method that returns the value stored at the given position of a content array.
+         * Time Complexity: O(1)
+         *
+         * @param content The content array of a node
+         * @param position The position of a value
+         * @return The value
+         */
+        @SuppressWarnings("unchecked")
+        final V valueAt(Object[] content, int position) {
+            return (V) content[position];
+        }
+
+        /**
+         * A helper method that returns the child node stored at the given position of a content array.
+         * Time Complexity: O(1)
+         *
+         * @param content The content array of a node
+         * @param position The position of a child node
+         * @return The child node
+         */
+        @SuppressWarnings("unchecked")
+        final Node<K, V> childAt(Object[] content, int position) {
+            return (Node<K, V>) content[position];
+        }
+
+        /**
+         * A method that finds the value of a key in the subtrie of this node.
+         * Time Complexity: O(1)
+         *
+         * @param key Any key
+         * @param hashCode The hash code of the key
+         * @param shift The number of hash code bits consumed by the levels above this node
+         * @param hashingStrategy The strategy that compares the keys
+         * @return The value of the key, or null if the key is not in the subtrie
+         */
+        abstract V find(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy);
+
+        /**
+         * A method that returns a copy of this node with the key set to the value, or this node if nothing changed.
+         * Time Complexity: O(1)
+         *
+         * @param key Any key
+         * @param value The new value of the key
+         * @param hashCode The hash code of the key
+         * @param shift The number of hash code bits consumed by the levels above this node
+         * @param hashingStrategy The strategy that hashes and compares the keys
+         * @param change The record of whether a new key has been added
+         * @return The updated node
+         */
+        abstract Node<K, V> updated(K key, V value, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                                    Change<V> change);
+
+        /**
+         * A method that returns a copy of this node without the key, or this node if the key is not in its subtrie.
+         * Time Complexity: O(1)
+         *
+         * @param key Any key
+         * @param hashCode The hash code of the key
+         * @param shift The number of hash code bits consumed by the levels above this node
+         * @param hashingStrategy The strategy that compares the keys
+         * @param change The record of the removed value
+         * @return The node without the key
+         */
+        abstract Node<K, V> removed(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                                    Change<V> change);
+
+        /**
+         * A method that returns whether the subtrie of this node holds exactly one entry, stored in this node, so
+         * that its parent can store the entry inline instead.
+         * Time Complexity: O(1)
+         *
+         * @return True if this node holds a single entry, false otherwise
+         */
+        abstract boolean hasSingleEntry();
+
+        /**
+         * A method that performs the given action on every entry of the subtrie of this node.
+         * Time Complexity: O(N) where N is the number of entries in the subtrie
+         *
+         * @param action The action to perform
+         */
+        abstract void forEach(BiConsumer<? super K, ? super V> action);
+
+    }
+
+    /**
+     * A helper class that represents a node with up to 32 slots, each holding an entry inline, a child node, or
+     * nothing. The content array holds the keys and values of the entries in slot order, then the child nodes in
+     * reverse slot order.
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+
+        // A field that stores the bitmap of the slots holding an entry inline
+        private final int entryMap;
+
+        // A field that stores the bitmap of the slots holding a child node
+        private final int childMap;
+
+        // A field that stores the keys and values of the entries, then the child nodes in reverse order
+        private final Object[] content;
+
+        /**
+         * A constructor that creates a node with the specified bitmaps and content.
+         * Time Complexity: O(1)
+         *
+         * @param entryMap The bitmap of the slots holding an entry inline
+         * @param childMap The bitmap of the slots holding a child node
+         * @param content The keys and values of the entries, then the child nodes in reverse order
+         */
+        private BitmapNode(int entryMap, int childMap, Object[] content) {
+            this.entryMap = entryMap;
+            this.childMap = childMap;
+            this.content = content;
+        }
+
+        /**
+         * A helper method that returns the position of the key of the entry of a slot in the content array.
+         * Time Complexity: O(1)
+         *
+         * @param bit The bit of the slot
+         * @return The position of the key of the entry
+         */
+        private int entryPosition(int bit) {
+            return 2 * Integer.bitCount(this.entryMap & (bit - 1));
+        }
+
+        /**
+         * A helper method that returns the position of the child node of a slot in the content array.
+         * Time Complexity: O(1)
+         *
+         * @param bit The bit of the slot
+         * @return The position of the child node
+         */
+        private int childPosition(int bit) {
+            return this.content.length - 1 - Integer.bitCount(this.childMap & (bit - 1));
+        }
+
+        V find(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy) {
+            // Variable that stores the bit of the slot of the key in this node
+            int bit = slotBit(hashCode, shift);
+            if ((this.entryMap & bit) != 0) {
+                int position = entryPosition(bit);
+                if (hashingStrategy.equals(keyAt(this.content, position), key)) {
+                    return valueAt(this.content, position + 1);
+                }
+                return null;
+            }
+            if ((this.childMap & bit) != 0) {
+                return childAt(this.content, childPosition(bit)).find(key, hashCode, shift + bitsPerLevel,
+                        hashingStrategy);
+            }
+            return null;
+        }
+
+        Node<K, V> updated(K key, V value, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                           Change<V> change) {
+            // Variable that stores the bit of the slot of the key in this node
+            int bit = slotBit(hashCode, shift);
+            if ((this.entryMap & bit) != 0) {
+                int position = entryPosition(bit);
+                K existingKey = keyAt(this.content, position);
+                // The key is already in the slot: replace its value
+                if (hashingStrategy.equals(existingKey, key)) {
+                    if (this.content[position + 1] == value) {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[position + 1] = value;
+                    return new BitmapNode<K, V>(this.entryMap, this.childMap, newContent);
+                }
+                // Another key is in the slot: move both keys down into a new child node
+                change.added = true;
+                Node<K, V> child = mergeEntries(existingKey, valueAt(this.content, position + 1),
+                        spread(hashingStrategy.hashCode(existingKey)), key, value, hashCode, shift + bitsPerLevel);
+                return copyAndMoveEntryToChild(bit, child);
+            }
+            if ((this.childMap & bit) != 0) {
+                int position = childPosition(bit);
+                Node<K, V> child = childAt(this.content, position);
+                Node<K, V> newChild = child.updated(key, value, hashCode, shift + bitsPerLevel, hashingStrategy, change);
+                if (newChild == child) {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[position] = newChild;
+                return new BitmapNode<K, V>(this.entryMap, this.childMap, newContent);
+            }
+            // The slot is empty: insert the entry inline
+            change.added = true;
+            int position = entryPosition(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, position);
+            newContent[position] = key;
+            newContent[position + 1] = value;
+            System.arraycopy(this.content, position, newContent, position + 2, this.content.length - position);
+            return new BitmapNode<K, V>(this.entryMap | bit, this.childMap, newContent);
+        }
+
+        Node<K, V> removed(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                           Change<V> change) {
+            // Variable that stores the bit of the slot of the key in this node
+            int bit = slotBit(hashCode, shift);
+            if ((this.entryMap & bit) != 0) {
+                int position = entryPosition(bit);
+                if (!hashingStrategy.equals(keyAt(this.content, position), key)) {
+                    return this;
+                }
+                change.removedValue = valueAt(this.content, position + 1);
+                Object[] newContent = new Object[this.content.length - 2];
+                System.arraycopy(this.content, 0, newContent, 0, position);
+                System.arraycopy(this.content, position + 2, newContent, position, this.content.length - position - 2);
+                return new BitmapNode<K, V>(this.entryMap ^ bit, this.childMap, newContent);
+            }
+            if ((this.childMap & bit) != 0) {
+                int position = childPosition(bit);
+                Node<K, V> child = childAt(this.content, position);
+                Node<K, V> newChild = child.removed(key, hashCode, shift + bitsPerLevel, hashingStrategy, change);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild.hasSingleEntry()) {
+                    // A node left with nothing but this child passes it up, to be inlined by a node above
+                    if (shift > 0 && this.entryMap == 0 && this.childMap == bit) {
+                        return newChild;
+                    }
+                    // Otherwise, the last entry of the child is stored inline in its slot
+                    return copyAndMoveChildToEntry(bit, newChild);
+                }
+                Object[] newContent = this.content.clone();
+                newContent[position] = newChild;
+                return new BitmapNode<K, V>(this.entryMap, this.childMap, newContent);
+            }
+            return this;
+        }
+
+        boolean hasSingleEntry() {
+            return this.childMap == 0 && Integer.bitCount(this.entryMap) == 1;
+        }
+
+        void forEach(BiConsumer<? super K, ? super V> action) {
+            // Variable that stores the number of entries stored inline
+            int numberOfEntries = Integer.bitCount(this.entryMap);
+            for (int index = 0; index < numberOfEntries; index = index + 1) {
+                action.accept(keyAt(this.content, 2 * index), valueAt(this.content, 2 * index + 1));
+            }
+            for (int position = 2 * numberOfEntries; position < this.content.length; position = position + 1) {
+                childAt(this.content, position).forEach(action);
+            }
+        }
+
+        /**
+         * A helper method that returns a copy of this node where the entry of a slot is replaced by a child node.
+         * Time Complexity: O(1)
+         *
+         * @param bit The bit of the slot
+         * @param child The child node that holds the entry of the slot and a new entry
+         * @return The new node
+         */
+        private BitmapNode<K, V> copyAndMoveEntryToChild(int bit, Node<K, V> child) {
+            // Variables that store the position of the entry and the position the child takes
+            int oldPosition = entryPosition(bit);
+            int newPosition = this.content.length - 2 - Integer.bitCount(this.childMap & (bit - 1));
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldPosition);
+            System.arraycopy(this.content, oldPosition + 2, newContent, oldPosition, newPosition - oldPosition);
+            newContent[newPosition] = child;
+            System.arraycopy(this.content, newPosition + 2, newContent, newPosition + 1,
+                    this.content.length - newPosition - 2);
+            return new BitmapNode<K, V>(this.entryMap ^ bit, this.childMap | bit, newContent);
+        }
+
+        /**
+         * A helper method that returns a copy of this node where the child node of a slot is replaced by its only
+         * entry.
+         * Time Complexity: O(1)
+         *
+         * @param bit The bit of the slot
+         * @param child The child node, which holds a single entry
+         * @return The new node
+         */
+        private BitmapNode<K, V> copyAndMoveChildToEntry(int bit, Node<K, V> child) {
+            // Variables that store the position of the child, the position the entry takes, and the entry
+            int oldPosition = childPosition(bit);
+            int newPosition = entryPosition(bit);
+            Object[] childContent = ((BitmapNode<K, V>) child).content;
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newPosition);
+            newContent[newPosition] = childContent[0];
+            newContent[newPosition + 1] = childContent[1];
+            System.arraycopy(this.content, newPosition, newContent, newPosition + 2, oldPosition - newPosition);
+            System.arraycopy(this.content, oldPosition + 1, newContent, oldPosition + 2,
+                    this.content.length - oldPosition - 1);
+            return new BitmapNode<K, V>(this.entryMap | bit, this.childMap ^ bit, newContent);
+        }
+
+    }
+
+    /**
+     * A helper class that represents a node below the last level of the trie, which holds keys whose hash codes are
+     * all equal, in a plain list.
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+
+        // A field that stores the keys and values of the entries, alternately
+        private final Object[] content;
+
+        /**
+         * A constructor that creates a node with the specified entries.
+         * Time Complexity: O(1)
+         *
+         * @param content The keys and values of the entries, alternately
+         */
+        private CollisionNode(Object[] content) {
+            this.content = content;
+        }
+
+        /**
+         * A helper method that returns the position of the key in the content array, or -1 if the key is not there.
+         * Time Complexity: O(N) where N is the number of entries
+         *
+         * @param key Any key
+         * @param hashingStrategy The strategy that compares the keys
+         * @return The position of the key, or -1
+         */
+        private int positionOf(K key, HashingStrategy<? super K> hashingStrategy) {
+            for (int position = 0; position < this.content.length; position = position + 2) {
+                if (hashingStrategy.equals(keyAt(this.content, position), key)) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        V find(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy) {
+            // Variable that stores the position of the key
+            int position = positionOf(key, hashingStrategy);
+            return position < 0 ? null : valueAt(this.content, position + 1);
+        }
+
+        Node<K, V> updated(K key, V value, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                           Change<V> change) {
+            // Variable that stores the position of the key
+            int position = positionOf(key, hashingStrategy);
+            Object[] newContent;
+            if (position < 0) {
+                change.added = true;
+                newContent = new Object[this.content.length + 2];
+                System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+                newContent[this.content.length] = key;
+                newContent[this.content.length + 1] = value;
+            }
+            else {
+                if (this.content[position + 1] == value) {
+                    return this;
+                }
+                newContent = this.content.clone();
+                newContent[position + 1] = value;
+            }
+            return new CollisionNode<K, V>(newContent);
+        }
+
+        Node<K, V> removed(K key, int hashCode, int shift, HashingStrategy<? super K> hashingStrategy,
+                           Change<V> change) {
+            // Variable that stores the position of the key
+            int position = positionOf(key, hashingStrategy);
+            if (position < 0) {
+                return this;
+            }
+            change.removedValue = valueAt(this.content, position + 1);
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, position);
+            System.arraycopy(this.content, position + 2, newContent, position, this.content.length - position - 2);
+            // A single entry left is handed up as a one-entry node, which the node above stores inline
+            if (newContent.length == 2) {
+                return new BitmapNode<K, V>(1, 0, newContent);
+            }
+            return new CollisionNode<K, V>(newContent);
+        }
+
+        boolean hasSingleEntry() {
+            // A collision node always holds two entries or more, as removed turns the last one into a BitmapNode
+            return false;
+        }
+
+        void forEach(BiConsumer<? super K, ? super V> action) {
+            for (int position = 0; position < this.content.length; position = position + 2) {
+                action.accept(keyAt(this.content, position), valueAt(this.content, position + 1));
+            }
+        }
+
+    }
+
+    /**
+     * A helper method that builds the node that holds two entries whose slots collided at the level above.
+     * Time Complexity: O(1)
+     *
+     * @param <K> Any type of the keys
+     * @param <V> Any type of the values
+     * @param key1 The key of the first entry
+     * @param value1 The value of the first entry
+     * @param hashCode1 The hash code of the first key
+     * @param key2 The key of the second entry
+     * @param value2 The value of the second entry
+     * @param hashCode2 The hash code of the second key
+     * @param shift The number of hash code bits consumed by the levels above the new node
+     * @return The new node
+     */
+    private static <K, V> Node<K, V> mergeEntries(K key1, V value1, int hashCode1, K key2, V value2, int hashCode2,
+                                                  int shift) {
+        // Below the last level, the hash codes are equal and the entries go into a collision node
+        if (shift >= Integer.SIZE) {
+            return new CollisionNode<K, V>(new Object[] {key1, value1, key2, value2});
+        }
+        // Variables that store the bits of the slots of the two entries in the new node
+        int bit1 = slotBit(hashCode1, shift);
+        int bit2 = slotBit(hashCode2, shift);
+        if (bit1 != bit2) {
+            if (Integer.compareUnsigned(bit1, bit2) < 0) {
+                return new BitmapNode<K, V>(bit1 | bit2, 0, new Object[] {key1, value1, key2, value2});
+            }
+            return new BitmapNode<K, V>(bit1 | bit2, 0, new Object[] {key2, value2, key1, value1});
+        }
+        // The entries share a slot again: push them one level further down
+        Node<K, V> child = mergeEntries(key1, value1, hashCode1, key2, value2, hashCode2, shift + bitsPerLevel);
+        return new BitmapNode<K, V>(0, bit1, new Object[] {child});
+    }
+
+    /**
+     * A helper method that spreads the high bits of a hash code into its low bits.
+     * Time Complexity: O(1)
+     *
+     * @param hashCode Any hash code
+     * @return The spread hash code
+     */
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+}
@@ -1,8 +1,14 @@
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 /**
  * A method that represents, creates, and stores a Priority Queue
+ * The heap is d-ary: every node has up to d children (2 by default), so a heap of N nodes is only log_d(N) levels
+ * deep. The keys are stored in a contiguous array of their own, apart from the values, so sifting down compares the
+ * d children of a node in a single run of the key array; a 4-ary or 8-ary heap thus reaches fewer cache lines per poll
+ * on a large queue than a binary one.
+ * The heap is indexed: every node knows its position in the heap, which every move keeps up to date, and a HashTable
+ * maps every value to its node, so update and poll(value) find their element in O(1) and fix the heap in O(log N).
  *
  * @param <K> Any types that extends Comparable with a super type of K
  * @param <V> Any types to be parsed into the priority queue
@@ -12,19 +18,58 @@ import java.util.NoSuchElementException;
  */
 public class PriorityQueue<K extends Comparable<? super K>,V> {
 
-    // A field that stores the current priority, max-Heap
-    private ArrayList<QueueNode<K,V>> priorityHeap;
+    // A field that stores the keys of the current priority, max-Heap, in heap order
+    private K[] heapKeys;
+
+    // A field that stores the nodes holding the values of the heap, index for index with the keys
+    private QueueNode<V>[] heapNodes;
+
+    // A field that stores the number of children of every node of the heap
+    private final int arity;
+
+    // A field that stores the arity of a priority queue created without one
+    private static final int defaultArity = 2;
+
+    // A field that stores the number of slots of the heap arrays of a new, empty priority queue
+    private static final int initialCapacity = 16;
 
     // A field that stores the current size of the queue (i.e. the number of elements currently in the queue)
     private int queueSize;
 
+    /* A field that maps every value to its node. Nodes that share a value are chained from the most recently added
+     * one, which is the one update and poll(value) affect. */
+    private HashTable<V, QueueNode<V>> valueIndex;
+
+    // A field that stores the auxiliary heap of candidate heap indices used by peek(k), reused from one call to the next
+    private int[] peekCandidates = new int[0];
+
     /**
      * A constructor that creates this instance of Priority Queue that takes no parameters.
      * Time Complexity: O(1)
      */
     public PriorityQueue() {
-        this.priorityHeap = new ArrayList<QueueNode<K, V>>();
+        this(defaultArity);
+    }
+
+    /**
+     * A constructor that creates an empty Priority Queue whose nodes have the specified number of children. An arity
+     * of 4 or 8 keeps the heap shallow, which pays off on large queues; add and update are then slightly cheaper and
+     * poll compares more keys per level.
+     * Time Complexity: O(1)
+     *
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the arity is less than 2, throw an IllegalArgumentException.
+     */
+    public PriorityQueue(int arity) {
+        // If the arity is less than 2, throw an IllegalArgumentException.
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of the heap must be at least 2");
+        }
+        this.arity = arity;
+        this.heapKeys = newKeyArray(initialCapacity);
+        this.heapNodes = newNodeArray(initialCapacity);
         this.queueSize = 0;
+        this.valueIndex = new HashTable<V, QueueNode<V>>();
     }
 
     /**
@@ -33,9 +78,25 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
      *
      * @param keys Any array of keys
      * @param values Any array of values
-     * @throws IllegalArgumentException If the specified arrays differ in length, throw an IllegalArgumentException.
+     * @throws IllegalArgumentException If the specified arrays differ in length or a value is null, throw an
+     * IllegalArgumentException.
      */
     public PriorityQueue(K[] keys, V[] values) {
+        this(keys, values, defaultArity);
+    }
+
+    /**
+     * A constructor that creates an instance of Priority Queue with the specified key and value arrays, whose nodes
+     * have the specified number of children.
+     * Time Complexity: O(N), where N is the length of the specified arrays.
+     *
+     * @param keys Any array of keys
+     * @param values Any array of values
+     * @param arity The number of children of every node, at least 2
+     * @throws IllegalArgumentException If the specified arrays differ in length, a value is null, or the arity is less
+     * than 2, throw an IllegalArgumentException.
+     */
+    public PriorityQueue(K[] keys, V[] values, int arity) {
         // If the specified arrays differ in length, throw an IllegalArgumentException.
         if (keys.length != values.length) {
             throw new IllegalArgumentException("Keys and values arrays have different lengths");
@@ -44,96 +105,86 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
         else {
             ;
         }
+        // If a value is null, it cannot be indexed, so throw an IllegalArgumentException.
+        for (int index = 0; index < values.length; index = index + 1) {
+            if (values[index] == null) {
+                throw new IllegalArgumentException("The priority queue cannot store null values");
+            }
+        }
+        // If the arity is less than 2, throw an IllegalArgumentException.
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of the heap must be at least 2");
+        }
+        this.arity = arity;
         // Initialize this priority, max-heap
-        this.priorityHeap = new ArrayList<QueueNode<K,V>>();
+        this.heapKeys = newKeyArray(Math.max(keys.length, 1));
+        this.heapNodes = newNodeArray(Math.max(keys.length, 1));
         // Initialize the size of this queue
         this.queueSize = keys.length;
+        // Initialize the index of the values, sized once for all of them
+        this.valueIndex = new HashTable<V, QueueNode<V>>();
+        this.valueIndex.ensureCapacity(keys.length);
         // A loop that loops through the values and keys in the given arrays to add it into the priority heap
         for (int index = 0; index < this.queueSize; index = index + 1) {
-            this.priorityHeap.add(new QueueNode<K, V>(keys[index], values[index]));
+            // Variable that stores the new node, at the end of the heap for now
+            QueueNode<V> newNode = new QueueNode<V>(values[index]);
+            newNode.heapIndex = index;
+            this.heapKeys[index] = keys[index];
+            this.heapNodes[index] = newNode;
+            indexValue(newNode);
+        }
+        // Variable that stores the index for heap fixing (max-Heapifying): the parent of the last node, if any
+        int fixingHeapIndex = -1;
+        if (this.queueSize > 1) {
+            fixingHeapIndex = findIndexOfParent(this.queueSize - 1);
         }
-        // Variable that stores the index for heap fixing (max-Heapifying)
-        int fixingHeapIndex = (this.queueSize / 2) - 1;
         // A loop that loops through the entire queue to fix the current max heap
         for (int index = fixingHeapIndex; index >= 0; index = index - 1) {
             fixMaxHeap(index);
         }
     }
 
-    /**
-     * A private constructor that creates an instance of PriorityQueue<K extends Comparable<? super K>,V> by taking in
-     * another priority queue.
-     * Time Complexity: O(1)
-     *
-     * @param priorityQueue Any priority queue to create a new priority queue with
-     */
-    private PriorityQueue (PriorityQueue priorityQueue) {
-        // Initialize the necessary fields
-        this.priorityHeap = priorityQueue.priorityHeap;
-        this.queueSize = priorityQueue.queueSize;
-    }
-
     /**
      * A method that adds the specified key-value pair to the priority queue.
      * Time Complexity: O(log N) average case, O(N) worst case, where N is the size of the priority queue.
      *
      * @param key Any key to be added to the priority queue
      * @param value Any value to be added to the priority queue
+     * @throws IllegalArgumentException If the value is null, throw an IllegalArgumentException.
      */
     public void add(K key, V value) {
-        // Add the new queueNode with the specified key and value to the queue
-        this.priorityHeap.add(new QueueNode<K, V>(key, value));
-        // Variable to store the current index for adding
-        int index = this.queueSize;
-        // Increase the queue size by 1
-        this.queueSize = this.queueSize + 1;
-        // Loops through the list to fix the heap as necessary (max-heapify)
-        while (index > 0 &&
-                this.priorityHeap.get(findIndexOfParent(index)).getKey().compareTo(this.priorityHeap.get(index).getKey()) < 0) {
-            swap(index, findIndexOfParent(index));
-            index = findIndexOfParent(index);
+        // If the value is null, it cannot be indexed, so throw an IllegalArgumentException
+        if (value == null) {
+            throw new IllegalArgumentException("The priority queue cannot store null values");
+        }
+        // Grow the heap arrays if they are full
+        if (this.queueSize == this.heapKeys.length) {
+            this.heapKeys = Arrays.copyOf(this.heapKeys, this.queueSize * 2);
+            this.heapNodes = Arrays.copyOf(this.heapNodes, this.queueSize * 2);
         }
+        // Variable to store the new queueNode with the specified value
+        QueueNode<V> newNode = new QueueNode<V>(value);
+        indexValue(newNode);
+        // Increase the queue size by 1, then move the new node up from the end of the queue to its place (max-heapify)
+        this.queueSize = this.queueSize + 1;
+        siftUp(this.queueSize - 1, key, newNode);
     }
 
     /**
      * A method that updates a key corresponding to an element in the priority queue with the specified value, such that
-     * it has the new specified key.
-     * Time Complexity: O(N), where N is the size of the priority queue.
+     * it has the new specified key. The key may grow or shrink; the element moves up or down the heap accordingly.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue.
      *
      * @param key Any key to update with
      * @param value Any value to update with
-     * @throws IllegalArgumentException If the specified value does not exist, throw a NoSuchElementException.
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
      */
     public void update(K key, V value) {
-        // Variable to finds the index to update the key-value pairs
-        int indexToUpdate = -1;
-        // Loops through the queue to find for the specific key-value pair
-        for (int tempIndex = 0; tempIndex < this.queueSize; tempIndex = tempIndex + 1) {
-            // Variable to keeps track of whether the specific key-value pair exists in the queue
-            boolean checkForEquality = this.priorityHeap.get(tempIndex).getValue().equals(value);
-            // If so, update the indexToUpdate variable to the current loop index and break the loop
-            if (checkForEquality == true) {
-                indexToUpdate = tempIndex;
-                break;
-            }
-            // Else, do nothing and let the method continue as normal
-            else {
-                ;
-            }
-        }
-        // Now, check the indexToUpdate. If it's still -1, it means that the specified value does not exist in the queue.
-        // Also throws a NoSuchElementException.
-        if (indexToUpdate == -1) {
-            throw new NoSuchElementException("Value not found in the priority queue");
-        }
-        // Set the key at the indexToUpdate variable to be the specified key
-        this.priorityHeap.get(indexToUpdate).setKey(key);
-        // Loops through the list to fix the heap as necessary (max-heapify)
-        while (indexToUpdate > 0 &&
-                this.priorityHeap.get(findIndexOfParent(indexToUpdate)).getKey().compareTo(this.priorityHeap.get(indexToUpdate).getKey()) < 0) {
-            swap(indexToUpdate, findIndexOfParent(indexToUpdate));
-            indexToUpdate = findIndexOfParent(indexToUpdate);
-        }
+        // Variable to store the node to update, found through the index of the values
+        QueueNode<V> nodeToUpdate = findNode(value);
+        // Move the node with its new key up if the key has grown, or down if it has shrunk (max-heapify)
+        siftUp(nodeToUpdate.heapIndex, key, nodeToUpdate);
+        fixMaxHeap(nodeToUpdate.heapIndex);
     }
 
     /**
@@ -153,14 +204,30 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
             ;
         }
         // Variable to store the current greatest key from the priority queue.
-        V returnValue = this.priorityHeap.get(0).getValue();
+        V returnValue = this.heapNodes[0].getValue();
         // Return it
         return returnValue;
     }
 
+    /**
+     * A method that returns the greatest key of the priority queue, the key of the value peek() returns.
+     * Time Complexity: O(1)
+     *
+     * @return The greatest key of the priority queue.
+     * @throws NoSuchElementException If the priority queue is empty, throw an NoSuchElementException.
+     */
+    public K peekKey() {
+        // If the priority queue is empty, throw an NoSuchElementException
+        if (this.queueSize == 0) {
+            throw new NoSuchElementException("Priority queue is empty");
+        }
+        return this.heapKeys[0];
+    }
+
     /**
      * A method that returns an array containing the k values corresponding to the greatest k keys from the priority queue.
-     * Time Complexity: O(k log N), where N is the size of the priority queue.
+     * The queue is left unchanged; equal keys come out in the order of their positions in the heap.
+     * Time Complexity: O(k log k)
      * Space Complexity: O(k).
      *
      * @param k The k to find the values with
@@ -168,33 +235,70 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
      * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0.
      */
     public V[] peek(int k) {
+        // Variable to store the result array, sized within the queue so that an invalid k is rejected before allocating
+        Object[] tempResult = new Object[Math.max(0, Math.min(k, this.queueSize))];
+        // Type-cast the above array, fill it, and return it; the values of the queue are the only elements it gets
+        @SuppressWarnings("unchecked")
+        V[] resultArray = (V[]) tempResult;
+        return peek(k, resultArray);
+    }
+
+    /**
+     * A method that fills the first k elements of the specified array with the values corresponding to the greatest k
+     * keys from the priority queue, greatest first, and returns the array. The queue is left unchanged, and once the
+     * auxiliary heap has grown to its largest size nothing is allocated, so the top of the queue can be sampled often.
+     * The heap is walked best first: the root is the first candidate, and every time the greatest candidate is taken
+     * out, its children become candidates, so at most k * (d - 1) + 1 candidates are ever compared.
+     * Time Complexity: O(k log k)
+     *
+     * @param k The k to find the values with
+     * @param destination The array to fill, at least k long
+     * @return The specified array
+     * @throws IllegalArgumentException If k is greater than the priority queue's size or less than 0, or the array is
+     * shorter than k.
+     */
+    public V[] peek(int k, V[] destination) {
         // If k is greater than the priority queue's size or less than 0, throw an IllegalArgumentException.
-        if (k > this.priorityHeap.size()) {
+        if (k > this.queueSize) {
             throw new IllegalArgumentException("k must be less than or equal to the priority queue's size");
         }
-        // Do thing if otherwise and let the method continue normally
-        else {
-            ;
-        }
-        // If k is greater than the priority queue's size or less than 0, throw an IllegalArgumentException.
         if (k < 0) {
             throw new IllegalArgumentException("k must be greater than or equal to 0!");
         }
-        // Do thing if otherwise and let the method continue normally
-        else {
-            ;
+        // If the array cannot hold k values, throw an IllegalArgumentException.
+        if (destination.length < k) {
+            throw new IllegalArgumentException("The destination array must hold at least k values");
+        }
+        if (k == 0) {
+            return destination;
+        }
+        // Grow the auxiliary heap if needed, which holds at most k * (d - 1) + 1 candidates
+        if (this.peekCandidates.length < k * (this.arity - 1) + 1) {
+            this.peekCandidates = new int[k * (this.arity - 1) + 1];
         }
-        // Variable to store the temporary priority queue for future reference
-        PriorityQueue<K, V> tempPriorityQueue = new PriorityQueue<K, V>(this);
-        // Variable to store the result array
-        Object[] tempResult = new Object[k];
-        // Loop that polls the k-largest elements from the priority queue
+        // Variable that stores the auxiliary heap, and the number of candidates in it, starting with the root
+        int[] candidates = this.peekCandidates;
+        int numCandidates = 1;
+        candidates[0] = 0;
+        // A loop that takes the greatest candidate out k times, making its children candidates
         for (int index = 0; index < k; index = index + 1) {
-            tempResult[index] = tempPriorityQueue.poll();
+            // Variable that stores the heap index of the greatest candidate
+            int bestIndex = candidates[0];
+            destination[index] = this.heapNodes[bestIndex].getValue();
+            // Replace the greatest candidate by the last one and move it down the auxiliary heap
+            numCandidates = numCandidates - 1;
+            candidates[0] = candidates[numCandidates];
+            siftDownCandidate(candidates, numCandidates, 0);
+            // Add the children of the taken node as candidates
+            for (int childIndex = findIndexOfFirstChild(bestIndex);
+                 childIndex < findIndexOfFirstChild(bestIndex) + this.arity && childIndex < this.queueSize;
+                 childIndex = childIndex + 1) {
+                candidates[numCandidates] = childIndex;
+                numCandidates = numCandidates + 1;
+                siftUpCandidate(candidates, numCandidates - 1);
+            }
         }
-        // Type-cast the above array and return it
-        V[] resultArray = (V[]) tempResult;
-        return resultArray;
+        return destination;
     }
 
     /**
@@ -215,60 +319,28 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
             ;
         }
         // Variable to store the max value of the queue
-        V maxValue = this.priorityHeap.get(0).getValue();
-        // Variable to store the node to be removed
-        QueueNode<K, V> nodeToRemove = this.priorityHeap.get(this.queueSize - 1);
-        // Now removed it from the queue and decrement the queue's size
-        this.priorityHeap.set(0, nodeToRemove);
-        this.queueSize = this.queueSize - 1;
-        // Then, fix the max heap as necessary and return the key associated with the given value
-        fixMaxHeap(0);
+        V maxValue = this.heapNodes[0].getValue();
+        // Remove the root, then return the value associated with the greatest key
+        removeAt(0);
         return maxValue;
     }
 
     /**
      * A method that removes an element from the priority queue corresponding to the specified value and returns its
      * corresponding key.
-     * Time Complexity: O(N), where N is the size of the priority queue.
+     * Time Complexity: O(log N) average case, where N is the size of the priority queue.
      *
      * @param value Any value to find the element with.
      * @return The value's corresponding key.
      * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
      */
     public K poll(V value) {
-        // Variable that stores the index of the node to be removed
-        int index = -1;
-        // Loops through the queue to find if such value exists in the queue
-        for (int tempIndex = 0; tempIndex < this.queueSize; tempIndex = tempIndex + 1) {
-            // Variable that stores whether the specified value exists in the queue
-            boolean checkForEquality = this.priorityHeap.get(tempIndex).getValue().equals(value);
-            // If yes, set the index of the node to be removed to the current index and break the loop
-            if (checkForEquality == true) {
-                index = tempIndex;
-                break;
-            }
-            // Else, do nothing and ignore it
-            else {
-                ;
-            }
-        }
-        // If index is still -1, throw a NoSuchElementException as the specified value does not exist.
-        if (index == -1) {
-            throw new NoSuchElementException("Value not found in the priority queue");
-        }
-        // Else, do nothing and ignore it
-        else {
-            ;
-        }
-        // Variable to store the key got from the heap
-        K key = this.priorityHeap.get(index).getKey();
-        // Variable to store the node to be removed
-        QueueNode<K, V> nodeToRemove = this.priorityHeap.get(this.queueSize - 1);
-        // Remove the node as necessary and decrement the queue's size
-        this.priorityHeap.set(index, nodeToRemove);
-        this.queueSize = this.queueSize - 1;
-        // Then, fix the max heap as necessary and return the key associated with the given value
-        fixMaxHeap(index);
+        // Variable to store the node to be removed, found through the index of the values
+        QueueNode<V> nodeToRemove = findNode(value);
+        // Variable to store the key associated with the given value
+        K key = this.heapKeys[nodeToRemove.heapIndex];
+        // Remove the node, then return the key
+        removeAt(nodeToRemove.heapIndex);
         return key;
     }
 
@@ -285,53 +357,34 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
     }
 
     /**
-     * A private class to store and create a node in the priority queue.
+     * A private class to store and create a node in the priority queue. Its key is stored in the key array of the
+     * heap, at the position of the node.
      *
-     * @param <K> Any type that extends Comparable.
      * @param <V> Any value.
      * @author David Nguyen
      * @since 04/02/2023
      * @version 1.0
      */
-    private class QueueNode<K, V> {
-
-        // A field that stores the key of the node
-        private K key;
+    private static class QueueNode<V> {
 
         // A field that stores the value of the node
         private V value;
 
+        // A field that stores the position of the node in the heap, kept up to date by every move
+        private int heapIndex;
+
+        // A field that stores the next node with the same value, added before this one
+        private QueueNode<V> nextNodeWithSameValue;
+
         /**
-         * A constructor to create a Queue Node with the specified key and value pair.
+         * A constructor to create a Queue Node with the specified value.
          * Time Complexity: O(1)
          *
-         * @param key Key to create a node with.
          * @param value Value to create a node with.
          */
-        public QueueNode(K key, V value) {
+        public QueueNode(V value) {
             // Initialize the fields
             this.value = value;
-            this.key = key;
-        }
-
-        /**
-         * A method that gets the key of this queue node
-         * Time Complexity: O(1)
-         *
-         * @return The key of this queue node
-         */
-        public K getKey() {
-            return this.key;
-        }
-
-        /**
-         * A method that sets the key of this queue node
-         * Time Complexity: O(1)
-         *
-         * @param key The key to be set
-         */
-        public void setKey(K key) {
-            this.key = key;
         }
 
         /**
@@ -346,6 +399,32 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
 
     }
 
+    /**
+     * A method that creates an array of keys of the given length. An array of a type variable cannot be created, so
+     * it is an array of Comparable, which every key is.
+     * Time Complexity: O(N) where N is the given length
+     *
+     * @param length The length of the array
+     * @return The new array of keys
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private K[] newKeyArray(int length) {
+        return (K[]) new Comparable[length];
+    }
+
+    /**
+     * A method that creates an array of nodes of the given length. An array of a generic class can only be created
+     * raw.
+     * Time Complexity: O(N) where N is the given length
+     *
+     * @param length The length of the array
+     * @return The new array of nodes
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private QueueNode<V>[] newNodeArray(int length) {
+        return new QueueNode[length];
+    }
+
     /**
      * A method that helps find the index of the parent of this index.
      * Time Complexity: O(1)
@@ -355,83 +434,223 @@ public class PriorityQueue<K extends Comparable<? super K>,V> {
      */
     private int findIndexOfParent(int index) {
         // Variable that stores the index of the parent of this index and return it.
-        int indexOfParent = (index - 1) / 2;
+        int indexOfParent = (index - 1) / this.arity;
         return indexOfParent;
     }
 
     /**
-     * A method that helps find the index of the left child of this index.
+     * A method that helps find the index of the first child of this index; the other children follow it.
      * Time Complexity: O(1)
      *
-     * @param index The index from which the left child will be found.
-     * @return The index of the left child of this index.
+     * @param index The index from which the first child will be found.
+     * @return The index of the first child of this index.
      */
-    private int findIndexOfLeftChild(int index) {
-        // Variable that stores the index of the left child of this index and return it.
-        int indexOfLeftChild = (2 * index) + 1;
-        return indexOfLeftChild;
+    private int findIndexOfFirstChild(int index) {
+        // Variable that stores the index of the first child of this index and return it.
+        int indexOfFirstChild = (this.arity * index) + 1;
+        return indexOfFirstChild;
     }
 
     /**
-     * A method that helps find the index of the right child of this index.
+     * A method that stores the given key and node at the given index of the heap, and records the index in the node.
      * Time Complexity: O(1)
      *
-     * @param index The index from which the right child will be found.
-     * @return The index of the right child of this index.
+     * @param index The index to store the key and node at
+     * @param key The key of the node
+     * @param node The node to store
      */
-    private int findIndexOfRightChild(int index) {
-        // Variable that stores the index of the right child of this index and return it.
-        int indexOfRightChild = (2 * index) + 2;
-        return indexOfRightChild;
+    private void place(int index, K key, QueueNode<V> node) {
+        this.heapKeys[index] = key;
+        this.heapNodes[index] = node;
+        node.heapIndex = index;
     }
 
     /**
-     * A method that swaps the nodes at the two given indices.
+     * A method that checks whether the node at the first heap index comes before the node at the second one in a
+     * best-first walk: its key is greater, or equal with a smaller heap index.
      * Time Complexity: O(1)
      *
-     * @param index1 First index to be swapped
-     * @param index2 Second index to be swapped
+     * @param index1 Any heap index
+     * @param index2 Any other heap index
+     * @return True if the first node comes first, false otherwise
      */
-    private void swap(int index1, int index2) {
-        // Variable that stores the temporary node to be swapped
-        QueueNode<K, V> tempNode = this.priorityHeap.get(index1);
-        // Swaps the nodes at the two indices
-        this.priorityHeap.set(index1, this.priorityHeap.get(index2));
-        this.priorityHeap.set(index2, tempNode);
+    private boolean comesBefore(int index1, int index2) {
+        // Variable that stores the comparison of the keys of the two nodes
+        int comparison = this.heapKeys[index1].compareTo(this.heapKeys[index2]);
+        return comparison > 0 || (comparison == 0 && index1 < index2);
     }
 
     /**
-     * A method that fixes the max-heap.
-     * Time Complexity: O(log N) where N is the number of words in the priority queue.
+     * A method that moves the candidate at the given position of the auxiliary heap, a binary heap, up to its place.
+     * Time Complexity: O(log k) where k is the number of candidates
      *
-     * @param index Any given index to fix the heap with
+     * @param candidates The auxiliary heap of heap indices
+     * @param position The position of the candidate to move up
      */
-    private void fixMaxHeap(int index) {
-        // Variable that stores the index of the left child of the node at the current index
-        int indexOfLeftChild = findIndexOfLeftChild(index);
-        // Variable that stores the index of the right child of the node at the current index
-        int indexOfRightChild = findIndexOfRightChild(index);
-        // Variable that stores the current index
-        int currentIndex = index;
-        // If left child of this node is greater than itself, swap it
-        if ((indexOfLeftChild < this.priorityHeap.size()) &&
-                (this.priorityHeap.get(indexOfLeftChild).getKey().compareTo(this.priorityHeap.get(index).getKey()) > 0)) {
-            currentIndex = indexOfLeftChild;
+    private void siftUpCandidate(int[] candidates, int position) {
+        while (position > 0 && comesBefore(candidates[position], candidates[(position - 1) / 2])) {
+            // Variable that stores the candidate being moved up
+            int candidate = candidates[position];
+            candidates[position] = candidates[(position - 1) / 2];
+            candidates[(position - 1) / 2] = candidate;
+            position = (position - 1) / 2;
         }
-        // If right child of this node is greater than itself, swap it
-        if ((indexOfRightChild < this.priorityHeap.size()) &&
-                (this.priorityHeap.get(indexOfRightChild).getKey().compareTo(this.priorityHeap.get(currentIndex).getKey()) > 0)) {
-            currentIndex = indexOfRightChild;
+    }
+
+    /**
+     * A method that moves the candidate at the given position of the auxiliary heap down to its place.
+     * Time Complexity: O(log k) where k is the number of candidates
+     *
+     * @param candidates The auxiliary heap of heap indices
+     * @param numCandidates The number of candidates in the auxiliary heap
+     * @param position The position of the candidate to move down
+     */
+    private void siftDownCandidate(int[] candidates, int numCandidates, int position) {
+        while (2 * position + 1 < numCandidates) {
+            // Variable that stores the position of the child that comes first
+            int bestChild = 2 * position + 1;
+            if (bestChild + 1 < numCandidates && comesBefore(candidates[bestChild + 1], candidates[bestChild])) {
+                bestChild = bestChild + 1;
+            }
+            if (!comesBefore(candidates[bestChild], candidates[position])) {
+                return;
+            }
+            // Variable that stores the candidate being moved down
+            int candidate = candidates[position];
+            candidates[position] = candidates[bestChild];
+            candidates[bestChild] = candidate;
+            position = bestChild;
         }
-        // If the current index is different from the index variable above, the heap isn't in order. Fix it as necessary
-        if (currentIndex != index) {
-            swap(index, currentIndex);
-            fixMaxHeap(currentIndex);
+    }
+
+    /**
+     * A method that moves the given key and node up from the given index while the key is greater than its parent's,
+     * moving every smaller parent down one level, and stores them where they stop.
+     * Time Complexity: O(log N) where N is the size of the priority queue.
+     *
+     * @param index The index to start from, whose slot may be overwritten
+     * @param key The key of the node
+     * @param node The node to move up
+     */
+    private void siftUp(int index, K key, QueueNode<V> node) {
+        // Loops through the list to fix the heap as necessary (max-heapify)
+        while (index > 0 && this.heapKeys[findIndexOfParent(index)].compareTo(key) < 0) {
+            place(index, this.heapKeys[findIndexOfParent(index)], this.heapNodes[findIndexOfParent(index)]);
+            index = findIndexOfParent(index);
         }
-        // Else, do nothing and let the method continue normally
-        else {
-            ;
+        place(index, key, node);
+    }
+
+    /**
+     * A method that removes the node at the given index: the last node takes its place and is moved up or down to fix
+     * the heap, and the node is dropped from the index of the values.
+     * Time Complexity: O(log N) average case where N is the size of the priority queue.
+     *
+     * @param index The index of the node to remove
+     */
+    private void removeAt(int index) {
+        unindexValue(this.heapNodes[index]);
+        this.queueSize = this.queueSize - 1;
+        // Variables to store the last key and node, which take the place of the removed one
+        K lastKey = this.heapKeys[this.queueSize];
+        QueueNode<V> lastNode = this.heapNodes[this.queueSize];
+        // Clear the last slot, so the heap does not keep its key and node alive
+        this.heapKeys[this.queueSize] = null;
+        this.heapNodes[this.queueSize] = null;
+        // If the removed node was not the last one, move the last node into its place and fix the heap around it
+        if (index != this.queueSize) {
+            siftUp(index, lastKey, lastNode);
+            fixMaxHeap(lastNode.heapIndex);
+        }
+    }
+
+    /**
+     * A method that finds the node of the given value through the index of the values.
+     * Time Complexity: O(1) average case
+     *
+     * @param value Any value to find the node of
+     * @return The most recently added node with the value
+     * @throws NoSuchElementException If the specified value does not exist, throw a NoSuchElementException.
+     */
+    private QueueNode<V> findNode(V value) {
+        // Variable to store the node of the value, null if the value does not exist
+        QueueNode<V> node = value == null ? null : this.valueIndex.tryGet(value);
+        if (node == null) {
+            throw new NoSuchElementException("Value not found in the priority queue");
+        }
+        return node;
+    }
+
+    /**
+     * A method that adds a node to the index of the values, in front of the nodes that already have its value.
+     * Time Complexity: O(1) average case
+     *
+     * @param node The node to index
+     */
+    private void indexValue(QueueNode<V> node) {
+        node.nextNodeWithSameValue = this.valueIndex.tryGet(node.getValue());
+        this.valueIndex.put(node.getValue(), node);
+    }
+
+    /**
+     * A method that removes a node from the index of the values.
+     * Time Complexity: O(1) average case, O(D) where D is the number of other nodes with the same value
+     *
+     * @param node The node to remove from the index
+     */
+    private void unindexValue(QueueNode<V> node) {
+        // Variable to store the first node with the value of the node
+        QueueNode<V> firstNode = this.valueIndex.tryGet(node.getValue());
+        if (firstNode == node) {
+            if (node.nextNodeWithSameValue == null) {
+                this.valueIndex.remove(node.getValue());
+            }
+            else {
+                this.valueIndex.put(node.getValue(), node.nextNodeWithSameValue);
+            }
+            return;
+        }
+        // Otherwise, unlink the node from the chain of the nodes with the same value
+        while (firstNode.nextNodeWithSameValue != node) {
+            firstNode = firstNode.nextNodeWithSameValue;
+        }
+        firstNode.nextNodeWithSameValue = node.nextNodeWithSameValue;
+    }
+
+    /**
+     * A method that fixes the max-heap by moving the node at the given index down while one of its children has a
+     * greater key. The node is held aside while the greatest child of every level moves up into the hole, so every
+     * level costs one pass over the contiguous keys of the children and a single write.
+     * Time Complexity: O(d log_d N) where N is the number of words in the priority queue and d is the arity.
+     *
+     * @param index Any given index to fix the heap with
+     */
+    private void fixMaxHeap(int index) {
+        // Variables that store the key and node being moved down
+        K key = this.heapKeys[index];
+        QueueNode<V> node = this.heapNodes[index];
+        // Variable that stores the index of the first child of the hole
+        int indexOfFirstChild = findIndexOfFirstChild(index);
+        while (indexOfFirstChild < this.queueSize) {
+            // Variable that stores the index of the child with the greatest key, the first one among equal keys
+            int indexOfGreatestChild = indexOfFirstChild;
+            // Variable that stores the index after the last child
+            int indexAfterLastChild = Math.min(indexOfFirstChild + this.arity, this.queueSize);
+            for (int childIndex = indexOfFirstChild + 1; childIndex < indexAfterLastChild; childIndex = childIndex + 1) {
+                if (this.heapKeys[childIndex].compareTo(this.heapKeys[indexOfGreatestChild]) > 0) {
+                    indexOfGreatestChild = childIndex;
+                }
+            }
+            // If no child is greater than the node, the node belongs in the hole
+            if (this.heapKeys[indexOfGreatestChild].compareTo(key) <= 0) {
+                break;
+            }
+            // Otherwise, move the greatest child up into the hole and continue from its old place
+            place(index, this.heapKeys[indexOfGreatestChild], this.heapNodes[indexOfGreatestChild]);
+            index = indexOfGreatestChild;
+            indexOfFirstChild = findIndexOfFirstChild(index);
         }
+        place(index, key, node);
     }
 
 }
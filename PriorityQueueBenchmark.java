@@ -0,0 +1,89 @@
+import java.util.Random;
+
+/**
+ * A class that benchmarks the latency of poll and add on large Priority Queues of every arity. Every queue is filled
+ * with random keys, then a batch of its greatest elements is polled and added back with new random keys, so the size
+ * of the queue stays the same from one round to the next.
+ * Usage: java PriorityQueueBenchmark [queue sizes...] (1000000 and 10000000 by default; 10M needs about 3 GB of heap)
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class PriorityQueueBenchmark {
+
+    // Field to store the arities to compare
+    private static final int[] arities = {2, 4, 8};
+
+    // Field to store the number of elements polled and added back per round
+    private static final int batchSize = 500_000;
+
+    // Field to store the number of measured rounds per queue
+    private static final int measuredRounds = 5;
+
+    // Field to store the number of warm-up rounds per queue, so the JIT has compiled poll and add
+    private static final int warmUpRounds = 2;
+
+    /**
+     * The entry point of the benchmark.
+     * Time Complexity: O(S * R * B log S) where S is the queue size, R the number of rounds and B the batch size
+     *
+     * @param args The sizes of the queues to benchmark
+     */
+    public static void main(String[] args) {
+        // Variable that stores the sizes of the queues to benchmark
+        int[] queueSizes = {1_000_000, 10_000_000};
+        if (args.length > 0) {
+            queueSizes = new int[args.length];
+            for (int index = 0; index < args.length; index = index + 1) {
+                queueSizes[index] = Integer.parseInt(args[index]);
+            }
+        }
+        for (int queueSize : queueSizes) {
+            for (int arity : arities) {
+                benchmark(queueSize, arity, new Random(42));
+                System.gc();
+            }
+        }
+    }
+
+    /**
+     * A method that fills a queue of the given arity and prints the best per-operation latency of poll and add.
+     * Time Complexity: O(R * B log S) where R is the number of rounds, B the batch size and S the queue size
+     *
+     * @param queueSize The number of elements of the queue
+     * @param arity The arity of the heap
+     * @param random The random number generator of the keys
+     */
+    private static void benchmark(int queueSize, int arity, Random random) {
+        // Variable that stores the queue, whose values are the numbers of the elements
+        PriorityQueue<Integer, Integer> priorityQueue = new PriorityQueue<Integer, Integer>(arity);
+        for (int index = 0; index < queueSize; index = index + 1) {
+            priorityQueue.add(random.nextInt(), index);
+        }
+        // Variable that stores the values polled in a round, which are added back
+        Integer[] polledValues = new Integer[Math.min(batchSize, queueSize)];
+        // Variables that store the fastest measured rounds, the least disturbed by GC and other processes
+        long bestPollNanos = Long.MAX_VALUE;
+        long bestAddNanos = Long.MAX_VALUE;
+        for (int round = 0; round < warmUpRounds + measuredRounds; round = round + 1) {
+            long startTime = System.nanoTime();
+            for (int index = 0; index < polledValues.length; index = index + 1) {
+                polledValues[index] = priorityQueue.poll();
+            }
+            long pollNanos = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            for (int index = 0; index < polledValues.length; index = index + 1) {
+                priorityQueue.add(random.nextInt(), polledValues[index]);
+            }
+            long addNanos = System.nanoTime() - startTime;
+            if (round >= warmUpRounds) {
+                bestPollNanos = Math.min(bestPollNanos, pollNanos);
+                bestAddNanos = Math.min(bestAddNanos, addNanos);
+            }
+        }
+        System.out.printf("size %,d, arity %d: poll %.0f ns, add %.0f ns%n", queueSize, arity,
+                (double) bestPollNanos / polledValues.length, (double) bestAddNanos / polledValues.length);
+    }
+
+}
@@ -1,9 +1,25 @@
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import static org.junit.Assert.*;
 
@@ -34,29 +50,31 @@ public class Tester {
     //HashTable
     @Test(expected = IllegalArgumentException.class)
     public void testHashTableConstructorException() {
-        new HashTable<Integer>(-2);
+        new HashTable<String, Integer>(-2);
     }
 
     @Test(expected = NoSuchElementException.class)
     public void testGetExceptionEmptyTable() {
-        HashTable<Integer> hashTable = new HashTable<>();
+        HashTable<String, Integer> hashTable = new HashTable<>();
         hashTable.get("abc");
     }
 
     @Test
     public void testPut() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.put("one", 12);
         integerHashTable.put("three", 34);
         integerHashTable.put("hi", 46);
         assertEquals(12, (int) integerHashTable.get("one"));
         assertEquals(34, (int) integerHashTable.get("three"));
         assertEquals(3, integerHashTable.size());
-        integerHashTable.put("one", 28);
+        integerHashTable.merge("one", 28, Integer::sum);
         assertEquals(3, integerHashTable.size());
         assertEquals(40, (int) integerHashTable.get("one"));
+        integerHashTable.put("one", 28);
+        assertEquals(28, (int) integerHashTable.get("one"));
 
-        HashTable<String> stringHashTable = new HashTable<>(7);
+        HashTable<String, String> stringHashTable = new HashTable<>(7);
         stringHashTable.put("one", "one");
         stringHashTable.put("three", "three");
         stringHashTable.put("hi", "hi");
@@ -70,7 +88,7 @@ public class Tester {
 
     @Test(expected = NoSuchElementException.class)
     public void testGetNonEmptyTable() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.put("one", 12);
         integerHashTable.put("three", 34);
         integerHashTable.put("hi", 46);
@@ -79,7 +97,7 @@ public class Tester {
 
     @Test
     public void testPutMoreThanCapacity() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         for(int i = 0; i < 8; i ++) {
             integerHashTable.put("" + i, i);
         }
@@ -91,14 +109,14 @@ public class Tester {
 
     @Test(expected = NoSuchElementException.class)
     public void testRemoveEmptyTable() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.remove("one");
         assertEquals(0, integerHashTable.size());
     }
 
     @Test(expected = NoSuchElementException.class)
     public void testRemoveNonEmptyTable() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.put("one", 12);
         integerHashTable.put("three", 34);
         integerHashTable.put("hi", 46);
@@ -108,7 +126,7 @@ public class Tester {
 
     @Test(expected = NoSuchElementException.class)
     public void testRemove() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.put("one", 12);
         integerHashTable.put("three", 34);
         integerHashTable.put("hi", 46);
@@ -119,7 +137,7 @@ public class Tester {
 
     @Test
     public void testPutAfterRemove() {
-        HashTable<Integer> integerHashTable = new HashTable<>(7);
+        HashTable<String, Integer> integerHashTable = new HashTable<>(7);
         integerHashTable.put("one", 12);
         integerHashTable.put("three", 34);
         integerHashTable.put("hi", 46);
@@ -129,6 +147,952 @@ public class Tester {
         assertEquals(15, (int) integerHashTable.get("hi"));
     }
 
+    @Test
+    public void testLookupWithoutExceptions() {
+        HashTable<String, String> hashTable = new HashTable<>(7);
+        hashTable.put("one", "uno");
+        assertTrue(hashTable.containsKey("one"));
+        assertFalse(hashTable.containsKey("two"));
+        assertEquals("uno", hashTable.tryGet("one"));
+        assertNull(hashTable.tryGet("two"));
+        assertEquals("uno", hashTable.getOrDefault("one", "none"));
+        assertEquals("none", hashTable.getOrDefault("two", "none"));
+    }
+
+    @Test
+    public void testComputeFamily() {
+        HashTable<String, Integer> hashTable = new HashTable<>(7);
+        assertNull(hashTable.putIfAbsent("one", 1));
+        assertEquals(1, (int) hashTable.putIfAbsent("one", 5));
+        assertEquals(3, (int) hashTable.merge("one", 2, Integer::sum));
+        assertEquals(2, (int) hashTable.merge("two", 2, Integer::sum));
+        assertEquals(4, (int) hashTable.computeIfAbsent("four", key -> key.length()));
+        assertEquals(4, (int) hashTable.computeIfAbsent("four", key -> 100));
+        assertEquals(30, (int) hashTable.compute("one", (key, value) -> value * 10));
+        assertEquals(3, hashTable.size());
+        assertNull(hashTable.compute("two", (key, value) -> null));
+        assertNull(hashTable.merge("four", 0, (oldValue, value) -> null));
+        assertEquals(1, hashTable.size());
+        assertFalse(hashTable.containsKey("two"));
+    }
+
+    @Test
+    public void testPowerOfTwoCapacity() {
+        HashTable<String, String> hashTable = new HashTable<>(0, false, true);
+        for(int i = 0; i < 500; i ++) {
+            hashTable.put("word" + i, "v" + i);
+        }
+        assertEquals(500, hashTable.size());
+        for(int i = 0; i < 500; i ++) {
+            assertEquals("v" + i, hashTable.get("word" + i));
+        }
+        assertEquals("v42", hashTable.remove("word42"));
+        assertFalse(hashTable.containsKey("word42"));
+    }
+
+    @Test
+    public void testIteration() {
+        HashTable<String, Integer> hashTable = new HashTable<>(4, true);
+        for(int i = 0; i < 100; i ++) {
+            hashTable.put("" + i, i);
+        }
+        int sum = 0;
+        int count = 0;
+        for (HashTable.HashNode<String, Integer> hashNode : hashTable) {
+            assertEquals(hashNode.getKey(), "" + hashNode.getValue());
+            sum += hashNode.getValue();
+            count ++;
+        }
+        assertEquals(100, count);
+        assertEquals(4950, sum);
+        Iterator<String> keyIterator = hashTable.keys().iterator();
+        while (keyIterator.hasNext()) {
+            if (Integer.parseInt(keyIterator.next()) % 2 == 0) {
+                keyIterator.remove();
+            }
+        }
+        assertEquals(50, hashTable.size());
+        assertFalse(hashTable.containsKey("42"));
+        int valueSum = 0;
+        for (int value : hashTable.values()) {
+            valueSum += value;
+        }
+        assertEquals(2500, valueSum);
+    }
+
+    @Test
+    public void testIteratorRemoveAfterHasNext() {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        for(int i = 0; i < 40; i ++) {
+            hashTable.put("" + i, i);
+        }
+        Iterator<HashTable.HashNode<String, Integer>> iterator = hashTable.iterator();
+        int removed = 0;
+        int visited = 0;
+        while (iterator.hasNext()) {
+            HashTable.HashNode<String, Integer> hashNode = iterator.next();
+            iterator.hasNext();
+            if (visited % 2 == 0) {
+                iterator.remove();
+                assertFalse(hashTable.containsKey(hashNode.getKey()));
+                removed ++;
+            }
+            visited ++;
+        }
+        assertEquals(40, visited);
+        assertEquals(20, removed);
+        assertEquals(20, hashTable.size());
+        int count = 0;
+        for (HashTable.HashNode<String, Integer> hashNode : hashTable) {
+            assertEquals(hashNode.getValue(), hashTable.get(hashNode.getKey()));
+            count ++;
+        }
+        assertEquals(20, count);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIterationFailFast() {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.put("one", 1);
+        hashTable.put("two", 2);
+        for (String key : hashTable.keys()) {
+            hashTable.put(key + key, 0);
+        }
+    }
+
+    @Test
+    public void testParallelStream() {
+        HashTable<String, Integer> hashTable = new HashTable<>(0, false, true);
+        for(int i = 0; i < 10000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        assertEquals(10000, hashTable.stream().count());
+        assertEquals(49995000L, hashTable.stream().parallel().mapToLong(hashNode -> hashNode.getValue()).sum());
+        Spliterator<HashTable.HashNode<String, Integer>> spliterator = hashTable.spliterator();
+        Spliterator<HashTable.HashNode<String, Integer>> lowerHalf = spliterator.trySplit();
+        assertNotNull(lowerHalf);
+        long[] counts = new long[2];
+        lowerHalf.forEachRemaining(hashNode -> counts[0] ++);
+        spliterator.forEachRemaining(hashNode -> counts[1] ++);
+        assertEquals(10000, counts[0] + counts[1]);
+    }
+
+    @Test
+    public void testBoundedLeastRecentlyUsed() {
+        HashTable<String, Integer> hashTable = new HashTable<>(4, 3, EvictionPolicy.leastRecentlyUsed());
+        hashTable.put("one", 1);
+        hashTable.put("two", 2);
+        hashTable.put("three", 3);
+        assertEquals(1, (int) hashTable.get("one"));
+        hashTable.put("four", 4);
+        assertEquals(3, hashTable.size());
+        assertFalse(hashTable.containsKey("two"));
+        assertTrue(hashTable.containsKey("one"));
+        assertEquals(1, hashTable.evictionCount());
+        assertEquals(2, hashTable.hitCount());
+        assertEquals(1, hashTable.missCount());
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        assertEquals(3, hashTable.size());
+        assertEquals(999, (int) hashTable.get("999"));
+    }
+
+    @Test
+    public void testBoundedByWeight() {
+        HashTable<String, String> hashTable = new HashTable<>(4, 10, (key, value) -> value.length(), EvictionPolicy.leastRecentlyUsed());
+        hashTable.put("a", "aaaa");
+        hashTable.put("b", "bbbb");
+        hashTable.put("c", "cccccc");
+        assertFalse(hashTable.containsKey("a"));
+        assertEquals(10, hashTable.totalWeight());
+        hashTable.put("b", "b");
+        assertEquals(7, hashTable.totalWeight());
+        hashTable.put("huge", "this value is heavier than the whole table");
+        assertFalse(hashTable.containsKey("huge"));
+        assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    public void testBoundedTinyLfuKeepsFrequentKeys() {
+        HashTable<String, Integer> hashTable = new HashTable<>(4, 2, new TinyLfuEvictionPolicy(2));
+        hashTable.put("hot", 0);
+        for(int i = 0; i < 5; i ++) {
+            hashTable.get("hot");
+        }
+        hashTable.put("warm", 1);
+        for(int i = 0; i < 100; i ++) {
+            hashTable.put("scan" + i, i);
+        }
+        assertTrue(hashTable.containsKey("hot"));
+        assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        long[] now = {1000};
+        HashTable<String, String> hashTable = new HashTable<>();
+        hashTable.setClock(() -> now[0]);
+        hashTable.put("session", "a", 10, TimeUnit.SECONDS);
+        hashTable.put("short", "b", 5, TimeUnit.MILLISECONDS);
+        hashTable.put("forever", "c");
+        now[0] += TimeUnit.MILLISECONDS.toNanos(5);
+        assertNull(hashTable.tryGet("short"));
+        assertEquals("a", hashTable.get("session"));
+        hashTable.put("session", "a2", 10, TimeUnit.SECONDS);
+        now[0] += TimeUnit.SECONDS.toNanos(9);
+        assertEquals("a2", hashTable.get("session"));
+        hashTable.put("session", "a3");
+        now[0] += TimeUnit.DAYS.toNanos(1);
+        assertEquals("a3", hashTable.get("session"));
+        assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    public void testTimeToLiveReapedWithoutAccess() {
+        long[] now = {0};
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.setClock(() -> now[0]);
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("" + i, i, 1 + i % 60, TimeUnit.MINUTES);
+        }
+        now[0] += TimeUnit.MINUTES.toNanos(30) + TimeUnit.SECONDS.toNanos(10);
+        hashTable.put("other", 0);
+        assertEquals(491, hashTable.size());
+        assertFalse(hashTable.containsKey("29"));
+        assertEquals(30, (int) hashTable.get("30"));
+    }
+
+    @Test
+    public void testTimeToLiveSizeWithoutAccess() {
+        long[] now = {0};
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.setClock(() -> now[0]);
+        hashTable.put("a", 1, 50, TimeUnit.MILLISECONDS);
+        hashTable.put("b", 2);
+        now[0] += TimeUnit.MILLISECONDS.toNanos(200);
+        assertEquals(1, hashTable.size());
+        assertFalse(hashTable.containsKey("a"));
+        assertEquals(1, hashTable.size());
+    }
+
+    @Test
+    public void testTimeToLiveSkippedByIteration() throws IOException {
+        long[] now = {0};
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.setClock(() -> now[0]);
+        hashTable.put("a", 1, 100, TimeUnit.NANOSECONDS);
+        hashTable.put("b", 2);
+        hashTable.put("c", 3, 1, TimeUnit.HOURS);
+        now[0] += 500;
+        ArrayList<String> keys = new ArrayList<>();
+        for(String key : hashTable.keys()) {
+            keys.add(key);
+        }
+        keys.sort(null);
+        assertEquals(new ArrayList<>(Arrays.asList("b", "c")), keys);
+        assertEquals(2, hashTable.stream().count());
+        assertEquals(2, hashTable.stream().parallel().count());
+        assertEquals(2, hashTable.freeze().size());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        hashTable.writeTo(output, HashTableCodec.strings(), HashTableCodec.integers());
+        HashTable<String, Integer> reloaded = HashTable.readFrom(new ByteArrayInputStream(output.toByteArray()),
+                HashTableCodec.strings(), HashTableCodec.integers());
+        assertEquals(2, reloaded.size());
+        assertNull(reloaded.tryGet("a"));
+        Iterator<String> iterator = hashTable.keys().iterator();
+        while(iterator.hasNext()) {
+            if(iterator.next().equals("b")) {
+                iterator.remove();
+            }
+        }
+        assertNull(hashTable.tryGet("b"));
+        assertEquals(3, (int) hashTable.get("c"));
+    }
+
+    @Test
+    public void testShrinkOnRemove() {
+        HashTable<String, Integer> hashTable = new HashTable<>(8, true, true);
+        for(int i = 0; i < 10000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        int peakCapacity = hashTable.capacity();
+        for(int i = 0; i < 9990; i ++) {
+            hashTable.remove("" + i);
+        }
+        assertTrue(hashTable.capacity() < peakCapacity / 64);
+        assertTrue(hashTable.capacity() >= 8);
+        assertEquals(10, hashTable.size());
+        assertEquals(9995, (int) hashTable.get("9995"));
+    }
+
+    @Test
+    public void testCompact() {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.setMinimumLoadFactor(0);
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        for(int i = 0; i < 990; i ++) {
+            hashTable.remove("" + i);
+        }
+        assertEquals(1280, hashTable.capacity());
+        assertTrue(hashTable.compact() > 4 * 1000);
+        assertEquals(16, hashTable.capacity());
+        assertEquals(995, (int) hashTable.get("995"));
+        assertEquals(0, hashTable.compact());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMinimumLoadFactorTooHigh() {
+        new HashTable<String, Integer>().setMinimumLoadFactor(0.5);
+    }
+
+    @Test
+    public void testCollidingStringHashCodes() {
+        // "Aa" and "BB" have the same String hash code, so all 4096 combinations of 12 of them collide
+        ArrayList<String> keys = new ArrayList<>();
+        keys.add("");
+        for(int i = 0; i < 12; i ++) {
+            ArrayList<String> longerKeys = new ArrayList<>();
+            for (String key : keys) {
+                longerKeys.add(key + "Aa");
+                longerKeys.add(key + "BB");
+            }
+            keys = longerKeys;
+        }
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        for(int i = 0; i < keys.size(); i ++) {
+            assertEquals(keys.get(0).hashCode(), keys.get(i).hashCode());
+            hashTable.put(keys.get(i), i);
+        }
+        assertEquals(4096, hashTable.size());
+        for(int i = 0; i < keys.size(); i += 2) {
+            assertEquals(i, (int) hashTable.remove(keys.get(i)));
+        }
+        for(int i = 1; i < keys.size(); i += 2) {
+            assertEquals(i, (int) hashTable.get(keys.get(i)));
+        }
+        assertEquals(2048, hashTable.size());
+    }
+
+    // A key whose hash codes all collide and whose compareTo, unlike its equals, only looks at its group
+    private static class GroupedKey implements Comparable<GroupedKey> {
+        private final int id;
+        private final int group;
+
+        GroupedKey(int id, int group) {
+            this.id = id;
+            this.group = group;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof GroupedKey && ((GroupedKey) other).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+
+        @Override
+        public int compareTo(GroupedKey other) {
+            return Integer.compare(this.group, other.group);
+        }
+    }
+
+    @Test
+    public void testCollidingKeysInconsistentWithCompareTo() {
+        HashTable<GroupedKey, Integer> hashTable = new HashTable<>();
+        for(int i = 0; i < 20; i ++) {
+            hashTable.put(new GroupedKey(i, i % 3), i);
+        }
+        assertEquals(20, hashTable.size());
+        for(int i = 0; i < 20; i ++) {
+            assertEquals(i, (int) hashTable.tryGet(new GroupedKey(i, i % 3)));
+        }
+        assertEquals(5, (int) hashTable.remove(new GroupedKey(5, 2)));
+        assertNull(hashTable.tryGet(new GroupedKey(5, 2)));
+        assertEquals(8, (int) hashTable.get(new GroupedKey(8, 2)));
+        assertEquals(19, hashTable.size());
+    }
+
+    @Test
+    public void testIncrementalRehash() {
+        HashTable<String, String> hashTable = new HashTable<>(4, true);
+        hashTable.setPauseTracking(true);
+        boolean sawRehashing = false;
+        for(int i = 0; i < 200; i ++) {
+            hashTable.put("" + i, "v" + i);
+            sawRehashing = sawRehashing || hashTable.isRehashing();
+        }
+        assertTrue(sawRehashing);
+        assertEquals(200, hashTable.size());
+        assertEquals("v5", hashTable.remove("5"));
+        for(int i = 0; i < 200; i ++) {
+            if (i != 5) {
+                assertEquals("v" + i, hashTable.get("" + i));
+            }
+        }
+        assertEquals(199, hashTable.size());
+        assertTrue(hashTable.worstCasePauseNanos() > 0);
+    }
+
+    @Test
+    public void testNonStringKeys() {
+        HashTable<List<Integer>, String> hashTable = new HashTable<>();
+        for(int movie = 0; movie < 20; movie ++) {
+            for(int user = 0; user < 20; user ++) {
+                hashTable.put(Arrays.asList(movie, user), movie + ":" + user);
+            }
+        }
+        assertEquals(400, hashTable.size());
+        assertEquals("7:13", hashTable.get(Arrays.asList(7, 13)));
+        assertEquals("3:4", hashTable.remove(Arrays.asList(3, 4)));
+        assertFalse(hashTable.containsKey(Arrays.asList(3, 4)));
+        assertEquals(399, hashTable.size());
+    }
+
+    @Test
+    public void testHashingStrategy() {
+        HashTable<String, Integer> hashTable = new HashTable<>(4, HashingStrategy.of(
+                key -> key.toLowerCase().hashCode(), (key1, key2) -> key1.equalsIgnoreCase(key2)));
+        hashTable.put("Mouse", 1);
+        hashTable.merge("MOUSE", 1, Integer::sum);
+        hashTable.put("key", 5);
+        assertEquals(2, hashTable.size());
+        assertEquals(2, (int) hashTable.get("mouse"));
+        assertTrue(hashTable.containsKey("mOuSe"));
+        assertEquals(5, (int) hashTable.remove("KEY"));
+    }
+
+    @Test
+    public void testPutAllSizesOnce() {
+        HashTable<String, Integer> hashTable = new HashTable<>(0, false, true);
+        String[] keys = new String[1000];
+        Integer[] values = new Integer[1000];
+        for(int i = 0; i < 1000; i ++) {
+            keys[i] = "" + i;
+            values[i] = i;
+        }
+        hashTable.putAll(keys, values);
+        assertEquals(1024, hashTable.capacity());
+        assertEquals(1000, hashTable.size());
+        assertEquals(999, (int) hashTable.get("999"));
+    }
+
+    @Test(timeout = 10000)
+    public void testEnsureCapacityTooLarge() {
+        HashTable<String, Integer> hashTable = new HashTable<>(0, false, true);
+        assertThrows(IllegalArgumentException.class, () -> hashTable.ensureCapacity(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> hashTable.ensureCapacity(1 << 30));
+        HashTable<String, Integer> moduloHashTable = new HashTable<>();
+        assertThrows(IllegalArgumentException.class, () -> moduloHashTable.ensureCapacity(Integer.MAX_VALUE));
+        hashTable.ensureCapacity(1000);
+        assertEquals(1024, hashTable.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingHashTable<Integer>(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new IntCounterTable(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testParallelLoadFromMatchesSequential() {
+        // 60000 distinct numbers, each appearing twice or once, plus 4096 keys with colliding String hash codes
+        ArrayList<String> keyList = new ArrayList<>();
+        for(int i = 0; i < 100000; i ++) {
+            keyList.add("" + (i % 60000));
+        }
+        ArrayList<String> collidingKeys = new ArrayList<>(Arrays.asList(""));
+        for(int i = 0; i < 12; i ++) {
+            ArrayList<String> longerKeys = new ArrayList<>();
+            for (String key : collidingKeys) {
+                longerKeys.add(key + "Aa");
+                longerKeys.add(key + "BB");
+            }
+            collidingKeys = longerKeys;
+        }
+        keyList.addAll(collidingKeys);
+        String[] keys = keyList.toArray(new String[0]);
+        Integer[] values = new Integer[keys.length];
+        for(int i = 0; i < keys.length; i ++) {
+            values[i] = i;
+        }
+        HashTable<String, Integer> parallelTable = HashTable.loadFrom(keys, values, true);
+        HashTable<String, Integer> sequentialTable = HashTable.loadFrom(keys, values, false);
+        assertEquals(64096, parallelTable.size());
+        assertEquals(64096, sequentialTable.size());
+        for (String key : keyList) {
+            assertEquals(sequentialTable.get(key), parallelTable.get(key));
+        }
+        assertEquals(60000 + 7, (int) parallelTable.get("7"));
+        assertEquals(60000 + 12345, (int) parallelTable.remove("12345"));
+        assertEquals(64095, parallelTable.size());
+    }
+
+    @Test
+    public void testLoadFromParallelStream() {
+        HashTable<String, Integer> hashTable = HashTable.loadFrom(IntStream.range(0, 50000).boxed().parallel(),
+                number -> "" + number, number -> number * 2, 50000);
+        assertEquals(50000, hashTable.size());
+        assertEquals(2468, (int) hashTable.get("1234"));
+    }
+
+    //OpenAddressingHashTable
+    @Test(expected = IllegalArgumentException.class)
+    public void testOpenAddressingConstructorException() {
+        new OpenAddressingHashTable<Integer>(-2);
+    }
+
+    @Test
+    public void testOpenAddressingPutGetRemove() {
+        OpenAddressingHashTable<String> hashTable = new OpenAddressingHashTable<>(2);
+        for(int i = 0; i < 100; i ++) {
+            hashTable.put("" + i, "v" + i);
+        }
+        assertEquals(100, hashTable.size());
+        hashTable.put("7", "seven");
+        assertEquals(100, hashTable.size());
+        assertEquals("seven", hashTable.get("7"));
+        for(int i = 0; i < 100; i += 2) {
+            hashTable.remove("" + i);
+        }
+        assertEquals(50, hashTable.size());
+        for(int i = 1; i < 100; i += 2) {
+            assertEquals(i == 7 ? "seven" : "v" + i, hashTable.get("" + i));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testOpenAddressingRemoveMissing() {
+        OpenAddressingHashTable<Integer> hashTable = new OpenAddressingHashTable<>();
+        hashTable.put("one", 1);
+        hashTable.remove("one");
+        hashTable.get("one");
+    }
+
+    //IntKeyHashTable and LongKeyHashTable
+    @Test
+    public void testIntKeyHashTable() {
+        IntKeyHashTable<String> hashTable = new IntKeyHashTable<>(1);
+        for(int i = -500; i < 500; i ++) {
+            hashTable.put(i * 7919, "v" + i);
+        }
+        assertEquals(1000, hashTable.size());
+        assertEquals("v-3", hashTable.get(-3 * 7919));
+        for(int i = -500; i < 500; i += 2) {
+            assertEquals("v" + i, hashTable.remove(i * 7919));
+        }
+        assertEquals(500, hashTable.size());
+        for(int i = -499; i < 500; i += 2) {
+            assertEquals("v" + i, hashTable.get(i * 7919));
+            assertFalse(hashTable.containsKey((i - 1) * 7919));
+        }
+        assertEquals("none", hashTable.getOrDefault(1, "none"));
+    }
+
+    @Test
+    public void testLongKeyHashTableBigramCounts() {
+        LongKeyHashTable<Integer> bigramCounts = new LongKeyHashTable<>();
+        int[] wordIds = {0, 1, 2, 0, 1, 3, 0, 1};
+        for(int i = 0; i + 1 < wordIds.length; i ++) {
+            bigramCounts.merge(LongKeyHashTable.pack(wordIds[i], wordIds[i + 1]), 1, Integer::sum);
+        }
+        assertEquals(5, bigramCounts.size());
+        assertEquals(3, (int) bigramCounts.get(LongKeyHashTable.pack(0, 1)));
+        assertFalse(bigramCounts.containsKey(LongKeyHashTable.pack(1, 0)));
+        long[] total = new long[1];
+        bigramCounts.forEach((count, key) -> total[0] += count);
+        assertEquals(7, total[0]);
+        assertNull(bigramCounts.merge(LongKeyHashTable.pack(0, 1), 0, (count, zero) -> null));
+        assertEquals(4, bigramCounts.size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testLongKeyHashTableRemoveMissing() {
+        LongKeyHashTable<Integer> hashTable = new LongKeyHashTable<>();
+        hashTable.put(1L << 40, 1);
+        hashTable.remove(1L << 40);
+        hashTable.remove(1L << 40);
+    }
+
+    //PersistentHashTable
+    @Test
+    public void testPersistentHashTableSnapshot() {
+        PersistentHashTable<String, Integer> hashTable = new PersistentHashTable<>();
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        PersistentHashTable<String, Integer> snapshot = hashTable.snapshot();
+        for(int i = 0; i < 1000; i += 2) {
+            assertEquals(i, (int) hashTable.remove("" + i));
+        }
+        hashTable.put("1", -1);
+        hashTable.merge("3", 10, Integer::sum);
+        assertEquals(500, hashTable.size());
+        assertEquals(-1, (int) hashTable.get("1"));
+        assertEquals(13, (int) hashTable.get("3"));
+        assertFalse(hashTable.containsKey("2"));
+        assertEquals(1000, snapshot.size());
+        assertEquals(1, (int) snapshot.get("1"));
+        assertEquals(2, (int) snapshot.get("2"));
+        long[] sum = new long[1];
+        snapshot.forEach((key, value) -> sum[0] += value);
+        assertEquals(499500, sum[0]);
+        HashTable<String, Integer> copied = new HashTable<>();
+        copied.put("a", 1);
+        copied.put("b", 2);
+        assertEquals(2, (int) PersistentHashTable.copyOf(copied).get("b"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPersistentHashTableSnapshotIsReadOnly() {
+        PersistentHashTable<String, Integer> hashTable = new PersistentHashTable<>();
+        hashTable.put("one", 1);
+        PersistentHashTable<String, Integer> snapshot = hashTable.snapshot();
+        assertTrue(snapshot.isReadOnly());
+        snapshot.put("two", 2);
+    }
+
+    @Test
+    public void testPersistentHashTableReadersSeeWholeVersions() throws InterruptedException {
+        PersistentHashTable<String, Integer> hashTable = new PersistentHashTable<>();
+        Thread writer = new Thread(() -> {
+            for(int i = 0; i < 20000; i ++) {
+                hashTable.put("" + i, i);
+            }
+        });
+        writer.start();
+        // Keys are added in order, so every snapshot must hold exactly the keys below its size
+        while (writer.isAlive()) {
+            PersistentHashTable<String, Integer> snapshot = hashTable.snapshot();
+            int size = snapshot.size();
+            assertFalse(snapshot.containsKey("" + size));
+            if (size > 0) {
+                assertEquals(size - 1, (int) snapshot.get("" + (size - 1)));
+            }
+        }
+        writer.join();
+        assertEquals(20000, hashTable.size());
+    }
+
+    //FrozenHashTable
+    @Test
+    public void testFreeze() {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        for(int i = 0; i < 5000; i ++) {
+            hashTable.put("word" + i, i);
+        }
+        FrozenHashTable<String, Integer> frozen = hashTable.freeze();
+        assertEquals(5000, frozen.size());
+        for(int i = 0; i < 5000; i ++) {
+            assertEquals(i, (int) frozen.get("word" + i));
+        }
+        assertFalse(frozen.containsKey("word5000"));
+        assertNull(frozen.tryGet("missing"));
+        assertEquals(-1, (int) frozen.getOrDefault("missing", -1));
+        long[] sum = new long[1];
+        frozen.forEach((key, value) -> sum[0] += value);
+        assertEquals(12497500, sum[0]);
+    }
+
+    @Test
+    public void testFrozenHashTableCollidingKeys() {
+        // "Aa" and "BB" have the same hashCode, as do all of their concatenations
+        String[] keys = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB", "other"};
+        Integer[] values = {0, 1, 2, 3, 4, 5, 6};
+        FrozenHashTable<String, Integer> frozen = new FrozenHashTable<>(keys, values, HashingStrategy.natural());
+        for(int i = 0; i < keys.length; i ++) {
+            assertEquals(i, (int) frozen.get(keys[i]));
+        }
+        assertFalse(frozen.containsKey("AaAaAa"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFrozenHashTableDuplicateKeys() {
+        new FrozenHashTable<>(new String[] {"a", "b", "a"}, new Integer[] {1, 2, 3}, HashingStrategy.natural());
+    }
+
+    //HashTableStats
+    @Test
+    public void testHashTableStats() {
+        HashTable<String, Integer> hashTable = new HashTable<>(4);
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("" + i, i);
+        }
+        hashTable.setStatisticsEnabled(true);
+        for(int i = 0; i < 200; i ++) {
+            hashTable.containsKey("" + (i * 10));
+        }
+        HashTableStats stats = hashTable.stats();
+        assertEquals(1000, stats.getSize());
+        assertEquals(1000.0 / stats.getCapacity(), stats.getLoadFactor(), 1e-9);
+        assertTrue(stats.getResizeCount() > 0);
+        assertEquals(stats.getCapacity(), Arrays.stream(stats.getChainLengthHistogram()).sum());
+        assertTrue(stats.getMaxChainLength() >= 1);
+        assertEquals(200, Arrays.stream(stats.getProbeLengthHistogram()).sum());
+        assertEquals(0.5, stats.getMissRatio(), 1e-9);
+        assertTrue(stats.getEstimatedBytes() > 1000 * 56);
+        hashTable.resetStatistics();
+        assertEquals(0, hashTable.stats().getResizeCount());
+        assertEquals(0, Arrays.stream(hashTable.stats().getProbeLengthHistogram()).sum());
+    }
+
+    @Test
+    public void testHashTableStatsMBean() throws Exception {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.put("one", 1);
+        hashTable.put("two", 2);
+        hashTable.registerMBean("HashTable:type=Stats,name=testHashTableStatsMBean");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("HashTable:type=Stats,name=testHashTableStatsMBean");
+        assertEquals(2, server.getAttribute(name, "Size"));
+        long registeredBytes = (Long) server.getAttribute(name, "EstimatedBytes");
+        hashTable.put("three", 3);
+        hashTable.tryGet("two");
+        Thread.sleep(1100);
+        assertEquals(2, server.getAttribute(name, "Size"));
+        hashTable.tryGet("one");
+        assertEquals(3, server.getAttribute(name, "Size"));
+        assertEquals(1L, server.getAttribute(name, "HitCount"));
+        assertEquals(registeredBytes, server.getAttribute(name, "EstimatedBytes"));
+        long estimatedBytes = hashTable.stats().getEstimatedBytes();
+        assertTrue(estimatedBytes > registeredBytes);
+        assertEquals(estimatedBytes, server.getAttribute(name, "EstimatedBytes"));
+        hashTable.unregisterMBean();
+        assertFalse(server.isRegistered(name));
+    }
+
+    //HashTable checkpoints
+    @Test
+    public void testCheckpointRoundTrip() throws IOException {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        for(int i = -500; i < 500; i ++) {
+            hashTable.put("cl\u00e9" + i, i * 100000);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        hashTable.writeTo(output, HashTableCodec.strings(), HashTableCodec.integers());
+        HashTable<String, Integer> reloaded = HashTable.readFrom(new ByteArrayInputStream(output.toByteArray()),
+                HashTableCodec.strings(), HashTableCodec.integers());
+        assertEquals(1000, reloaded.size());
+        for(int i = -500; i < 500; i ++) {
+            assertEquals(i * 100000, (int) reloaded.get("cl\u00e9" + i));
+        }
+        assertEquals(0, reloaded.stats().getResizeCount());
+    }
+
+    @Test
+    public void testCheckpointFileChannel() throws IOException {
+        HashTable<Long, Double> first = new HashTable<>();
+        HashTable<Long, Double> second = new HashTable<>();
+        for(long i = 0; i < 3000; i ++) {
+            first.put(i * i, i / 2.0);
+            second.put(-i, -i / 4.0);
+        }
+        Path file = Files.createTempFile("checkpoint", ".table");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            first.writeTo(channel, HashTableCodec.longs(), HashTableCodec.doubles());
+            second.writeTo(channel, HashTableCodec.longs(), HashTableCodec.doubles());
+            for (boolean memoryMapped : new boolean[] {false, true}) {
+                channel.position(0);
+                HashTable<Long, Double> firstReloaded = HashTable.readFrom(channel, HashTableCodec.longs(),
+                        HashTableCodec.doubles(), memoryMapped);
+                HashTable<Long, Double> secondReloaded = HashTable.readFrom(channel, HashTableCodec.longs(),
+                        HashTableCodec.doubles(), memoryMapped);
+                assertEquals(channel.size(), channel.position());
+                assertEquals(3000, firstReloaded.size());
+                assertEquals(1499.5, firstReloaded.get(2999L * 2999L), 0);
+                assertEquals(-749.75, secondReloaded.get(-2999L), 0);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testCheckpointWrongMagic() throws IOException {
+        HashTable.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6}), HashTableCodec.strings(),
+                HashTableCodec.integers());
+    }
+
+    @Test
+    public void testCheckpointForgedEntryCount() throws IOException {
+        // The magic number, the version, and a varint count of 1,000,000,000 entries, with no entries after it
+        byte[] forged = {0x48, 0x54, 0x43, 0x50, 1, (byte) 0x80, (byte) 0x94, (byte) 0xEB, (byte) 0xDC, 0x03};
+        assertThrows(IOException.class, () -> HashTable.readFrom(new ByteArrayInputStream(forged),
+                HashTableCodec.strings(), HashTableCodec.integers()));
+        Path file = Files.createTempFile("checkpoint", ".table");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            HashTable<String, Integer> hashTable = new HashTable<>();
+            for(int i = 0; i < 100; i ++) {
+                hashTable.put("" + i, i);
+            }
+            hashTable.writeTo(channel, HashTableCodec.strings(), HashTableCodec.integers());
+            channel.truncate(channel.size() / 2);
+            for (boolean memoryMapped : new boolean[] {false, true}) {
+                channel.position(0);
+                assertThrows(IOException.class, () -> HashTable.readFrom(channel, HashTableCodec.strings(),
+                        HashTableCodec.integers(), memoryMapped));
+            }
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(forged), 0);
+            for (boolean memoryMapped : new boolean[] {false, true}) {
+                channel.position(0);
+                IOException exception = assertThrows(IOException.class, () -> HashTable.readFrom(channel,
+                        HashTableCodec.strings(), HashTableCodec.integers(), memoryMapped));
+                assertEquals("Invalid number of entries 1000000000", exception.getMessage());
+            }
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    //IntCounterTable
+    @Test
+    public void testIntCounterTable() {
+        IntCounterTable counterTable = new IntCounterTable(1);
+        assertEquals(0, counterTable.getOrZero("mouse"));
+        assertEquals(1, counterTable.increment("mouse"));
+        assertEquals(2, counterTable.increment("mouse"));
+        assertEquals(7, counterTable.addTo("key", 7));
+        for(int i = 0; i < 100; i ++) {
+            counterTable.increment("" + (i % 10));
+        }
+        assertEquals(12, counterTable.size());
+        assertEquals(2, counterTable.getOrZero("mouse"));
+        assertEquals(10, counterTable.getOrZero("3"));
+        assertEquals(4, counterTable.addTo("key", -3));
+    }
+
+    @Test
+    public void testIntCounterTableKeysInInsertionOrder() {
+        IntCounterTable counterTable = new IntCounterTable();
+        for (String word : new String[] {"mouse", "key", "mouse", "music", "key"}) {
+            counterTable.increment(word);
+        }
+        ArrayList<String> keys = new ArrayList<>();
+        for (String key : counterTable.keys()) {
+            keys.add(key);
+        }
+        assertEquals(new ArrayList<>(Arrays.asList("mouse", "key", "music")), keys);
+    }
+
+    //ConcurrentHashTable
+    @Test
+    public void testConcurrentHashTableMerge() throws InterruptedException {
+        ConcurrentHashTable<Integer> hashTable = new ConcurrentHashTable<>(2, 4);
+        Thread[] threads = new Thread[4];
+        for(int i = 0; i < threads.length; i ++) {
+            threads[i] = new Thread(() -> {
+                for(int j = 0; j < 10000; j ++) {
+                    hashTable.merge("" + (j % 100), 1, Integer::sum);
+                }
+            });
+            threads[i].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, hashTable.size());
+        for(int i = 0; i < 100; i ++) {
+            assertEquals(400, (int) hashTable.get("" + i));
+        }
+        assertEquals(400, (int) hashTable.remove("5"));
+        assertEquals(99, hashTable.size());
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentHashTableHugeConcurrencyLevel() {
+        ConcurrentHashTable<Integer> hashTable = new ConcurrentHashTable<>(16, Integer.MAX_VALUE);
+        for(int i = 0; i < 100; i ++) {
+            hashTable.put("" + i, i);
+        }
+        assertEquals(100, hashTable.size());
+        assertEquals(42, (int) hashTable.get("42"));
+    }
+
+    //OffHeapHashTable
+    @Test
+    public void testOffHeapIntHashTable() {
+        OffHeapIntHashTable hashTable = new OffHeapIntHashTable(1);
+        for(int i = 0; i < 1000; i ++) {
+            hashTable.put("key" + i, i);
+        }
+        hashTable.put("souris été 🐭", -1);
+        hashTable.put("key7", 70);
+        assertEquals(1001, hashTable.size());
+        assertEquals(70, hashTable.get("key7"));
+        assertEquals(-1, hashTable.get("souris été 🐭"));
+        for(int i = 0; i < 1000; i += 2) {
+            assertEquals(i == 7 ? 70 : i, hashTable.remove("key" + i));
+        }
+        assertEquals(501, hashTable.size());
+        assertFalse(hashTable.containsKey("key998"));
+        assertEquals(999, hashTable.get("key999"));
+        assertEquals(-5, hashTable.getOrDefault("key998", -5));
+    }
+
+    @Test
+    public void testOffHeapLongHashTable() {
+        OffHeapLongHashTable hashTable = new OffHeapLongHashTable();
+        hashTable.put("", Long.MAX_VALUE);
+        hashTable.put("mouse", 1L << 40);
+        assertEquals(Long.MAX_VALUE, hashTable.get(""));
+        assertEquals(1L << 40, hashTable.remove("mouse"));
+        assertEquals(1, hashTable.size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testOffHeapHashTableGetMissing() {
+        OffHeapIntHashTable hashTable = new OffHeapIntHashTable();
+        hashTable.put("mouse", 1);
+        hashTable.get("keyboard");
+    }
+
+    @Test
+    public void testOffHeapHashTableSaveAndOpen() throws IOException {
+        OffHeapLongHashTable hashTable = new OffHeapLongHashTable(1);
+        for(int i = 0; i < 500; i ++) {
+            hashTable.put("key" + i, i * 1000000000L);
+        }
+        hashTable.remove("key3");
+        Path file = Files.createTempFile("offheap", ".table");
+        try {
+            hashTable.save(file);
+            OffHeapLongHashTable reopened = OffHeapLongHashTable.open(file);
+            assertTrue(reopened.isReadOnly());
+            assertEquals(499, reopened.size());
+            assertEquals(499000000000L, reopened.get("key499"));
+            assertFalse(reopened.containsKey("key3"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testOffHeapHashTableOpenedIsReadOnly() throws IOException {
+        OffHeapIntHashTable hashTable = new OffHeapIntHashTable();
+        hashTable.put("mouse", 1);
+        Path file = Files.createTempFile("offheap", ".table");
+        try {
+            hashTable.save(file);
+            OffHeapIntHashTable.open(file).put("mouse", 2);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOffHeapHashTableOpenWrongValueWidth() throws IOException {
+        Path file = Files.createTempFile("offheap", ".table");
+        try {
+            new OffHeapIntHashTable().save(file);
+            OffHeapLongHashTable.open(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     // WordStat
     @Test
     public void testConstructor() throws IOException {
@@ -217,6 +1181,30 @@ public class Tester {
         assertEquals(new String[] {}, wordStat.mostCommonCollocations(0, "mouse", false));
     }
 
+    @Test
+    public void testSaveWordCountsAndRanks() throws IOException {
+        WordStat wordStat = new WordStat("file2.txt");
+        Path countsFile = Files.createTempFile("counts", ".table");
+        Path ranksFile = Files.createTempFile("ranks", ".table");
+        try {
+            wordStat.saveWordCounts(countsFile);
+            wordStat.saveWordRanks(ranksFile);
+            OffHeapIntHashTable counts = OffHeapIntHashTable.open(countsFile);
+            OffHeapIntHashTable ranks = OffHeapIntHashTable.open(ranksFile);
+            assertEquals(wordStat.wordCount("mouse"), counts.get("mouse"));
+            assertEquals(wordStat.wordRank("mouse"), ranks.get("mouse"));
+            WordStat reopened = WordStat.open(countsFile, ranksFile);
+            for(String word : new String[] {"mouse", "key", "music", "keyboard", "absent"}) {
+                assertEquals(wordStat.wordCount(word), reopened.wordCount(word));
+                assertEquals(wordStat.wordRank(word), reopened.wordRank(word));
+            }
+            assertThrows(UnsupportedOperationException.class, () -> reopened.mostCommonWords(1));
+        } finally {
+            Files.delete(countsFile);
+            Files.delete(ranksFile);
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testMostCommonCollocationsNegativeK() throws IOException {
         WordStat wordStat = new WordStat("file2.txt");
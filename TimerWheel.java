@@ -0,0 +1,238 @@
+import java.util.function.Consumer;
+
+/**
+ * A class that represents a hierarchical hashed timer wheel, which finds the timers that are due without scanning all
+ * of them. Each of the 4 levels has 64 buckets; a bucket of level 0 covers about 1 ms and every level's buckets are 64
+ * times wider than the level below, so the levels cover about 67 ms, 4.3 s, 4.6 min, and 4.9 h. A timer is placed on
+ * the lowest level whose range holds its delay; when the clock reaches its bucket on a higher level, the timer is moved
+ * down to a finer level, so every timer is moved at most 4 times. Scheduling and cancelling are O(1), and advancing
+ * the clock is O(1) amortized per timer plus O(1) per bucket passed.
+ * Timers that are due more than 4.9 h ahead are parked on the top level and rescheduled each time it comes around.
+ *
+ * @param <E> Any type of element to attach to the timers
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class TimerWheel<E> {
+
+    // Field to store the number of buckets per level (a power of two)
+    private static final int bucketsPerLevel = 64;
+
+    // Field to store, for every level, the number of bits to shift a time in nanoseconds by to get its bucket tick
+    private static final int[] levelShifts = {20, 26, 32, 38};
+
+    // Field to store the buckets, each one a circular doubly-linked list with a sentinel timer
+    private final Timer<E>[][] buckets;
+
+    // Field to store the time the wheel was created at, which all times are measured from so they are never negative
+    private final long originTime;
+
+    // Field to store the time the wheel was last advanced to, in nanoseconds since the origin time
+    private long currentTime;
+
+    // Field to keep track of the number of scheduled timers
+    private int numTimers;
+
+    /**
+     * A constructor that creates an empty timer wheel whose clock starts at the given time.
+     * Time Complexity: O(1)
+     *
+     * @param currentTime The current time in nanoseconds
+     */
+    public TimerWheel(long currentTime) {
+        // Variable that stores the new buckets, an array of a generic type that can only be created raw
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Timer<E>[][] newBuckets = new Timer[levelShifts.length][bucketsPerLevel];
+        this.buckets = newBuckets;
+        for (int level = 0; level < levelShifts.length; level = level + 1) {
+            for (int index = 0; index < bucketsPerLevel; index = index + 1) {
+                Timer<E> sentinel = new Timer<E>(null, 0);
+                sentinel.previousTimer = sentinel;
+                sentinel.nextTimer = sentinel;
+                this.buckets[level][index] = sentinel;
+            }
+        }
+        this.originTime = currentTime;
+        this.currentTime = 0;
+        this.numTimers = 0;
+    }
+
+    /**
+     * A method that schedules a timer for the given element, due at the given time.
+     * Time Complexity: O(1)
+     *
+     * @param element Any element to attach to the timer
+     * @param deadline The time the timer is due, in nanoseconds
+     * @return The timer, which can be cancelled or rescheduled
+     */
+    public Timer<E> schedule(E element, long deadline) {
+        Timer<E> timer = new Timer<E>(element, deadline - this.originTime);
+        link(timer);
+        this.numTimers = this.numTimers + 1;
+        return timer;
+    }
+
+    /**
+     * A method that moves a scheduled timer to a new deadline.
+     * Time Complexity: O(1)
+     *
+     * @param timer A timer returned by schedule that has not fired or been cancelled
+     * @param deadline The new time the timer is due, in nanoseconds
+     */
+    public void reschedule(Timer<E> timer, long deadline) {
+        unlink(timer);
+        timer.deadline = deadline - this.originTime;
+        link(timer);
+    }
+
+    /**
+     * A method that cancels a timer. Cancelling a timer that has already fired or been cancelled does nothing.
+     * Time Complexity: O(1)
+     *
+     * @param timer Any timer returned by schedule
+     */
+    public void cancel(Timer<E> timer) {
+        if (timer.nextTimer != null) {
+            unlink(timer);
+            this.numTimers = this.numTimers - 1;
+        }
+    }
+
+    /**
+     * A method that returns the number of scheduled timers.
+     * Time Complexity: O(1)
+     *
+     * @return The number of timers that have neither fired nor been cancelled
+     */
+    public int size() {
+        return this.numTimers;
+    }
+
+    /**
+     * A method that advances the clock of the wheel to the given time and passes the element of every timer that is
+     * due by then to the given action. Timers in the buckets passed on higher levels are moved down to finer levels.
+     * Time Complexity: O(B + T) where B is the number of buckets passed and T is the number of timers in them
+     *
+     * @param time The current time in nanoseconds
+     * @param action The action to perform on the element of every due timer, after its timer has been removed
+     */
+    public void advance(long time, Consumer<? super E> action) {
+        // Variable that stores the time the wheel was at, whose buckets may still hold timers due by now
+        long previousTime = this.currentTime;
+        if (time - this.originTime - previousTime < 0) {
+            return;
+        }
+        this.currentTime = time - this.originTime;
+        for (int level = 0; level < levelShifts.length; level = level + 1) {
+            // Variables that store the ticks of this level at the previous and at the current time
+            long previousTicks = previousTime >>> levelShifts[level];
+            long currentTicks = this.currentTime >>> levelShifts[level];
+            // If this level has not ticked, the coarser levels have not ticked either
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            // Variable that stores the number of buckets to visit: every tick passed plus the current tick
+            long bucketsToVisit = Math.min(currentTicks - previousTicks + 1, bucketsPerLevel);
+            for (long tick = previousTicks; tick < previousTicks + bucketsToVisit; tick = tick + 1) {
+                expireBucket(this.buckets[level][(int) (tick & (bucketsPerLevel - 1))], action);
+            }
+        }
+    }
+
+    /**
+     * A method that empties a bucket: due timers fire and the others are placed again relative to the current time.
+     * Time Complexity: O(T) where T is the number of timers in the bucket
+     *
+     * @param sentinel The sentinel of the bucket
+     * @param action The action to perform on the element of every due timer
+     */
+    private void expireBucket(Timer<E> sentinel, Consumer<? super E> action) {
+        // Variable that stores the first timer of the bucket, whose list is detached so rescheduled timers are not revisited
+        Timer<E> timer = sentinel.nextTimer;
+        sentinel.previousTimer.nextTimer = null;
+        sentinel.previousTimer = sentinel;
+        sentinel.nextTimer = sentinel;
+        while (timer != null && timer != sentinel) {
+            Timer<E> nextTimer = timer.nextTimer;
+            timer.previousTimer = null;
+            timer.nextTimer = null;
+            if (timer.deadline - this.currentTime <= 0) {
+                this.numTimers = this.numTimers - 1;
+                action.accept(timer.element);
+            }
+            else {
+                link(timer);
+            }
+            timer = nextTimer;
+        }
+    }
+
+    /**
+     * A method that adds a timer to the bucket of the lowest level whose range holds its delay.
+     * Time Complexity: O(1)
+     *
+     * @param timer The timer to add, which must not be in a bucket
+     */
+    private void link(Timer<E> timer) {
+        // Variable that stores the delay of the timer from the current time of the wheel
+        long delay = timer.deadline - this.currentTime;
+        // Variable that stores the level of the timer, the top level if no level covers its delay
+        int level = 0;
+        while (level < levelShifts.length - 1 && delay >= (1L << levelShifts[level + 1])) {
+            level = level + 1;
+        }
+        // A timer that is already due goes to the current bucket of level 0, which the next advance visits
+        long time = delay <= 0 ? this.currentTime : timer.deadline;
+        Timer<E> sentinel = this.buckets[level][(int) ((time >>> levelShifts[level]) & (bucketsPerLevel - 1))];
+        timer.previousTimer = sentinel.previousTimer;
+        timer.nextTimer = sentinel;
+        sentinel.previousTimer.nextTimer = timer;
+        sentinel.previousTimer = timer;
+    }
+
+    /**
+     * A method that removes a timer from its bucket.
+     * Time Complexity: O(1)
+     *
+     * @param timer The timer to remove, which must be in a bucket
+     */
+    private void unlink(Timer<E> timer) {
+        timer.previousTimer.nextTimer = timer.nextTimer;
+        timer.nextTimer.previousTimer = timer.previousTimer;
+        timer.previousTimer = null;
+        timer.nextTimer = null;
+    }
+
+    /**
+     * A helper class that represents a timer: an element, its deadline, and its links within a bucket.
+     *
+     * @param <E> Any type of element to attach to the timer
+     */
+    public static class Timer<E> {
+
+        // A field that stores the element attached to the timer
+        private final E element;
+
+        // A field that stores the time the timer is due, in nanoseconds
+        private long deadline;
+
+        // Fields that store the neighbouring timers in the bucket, both null when the timer is not scheduled
+        private Timer<E> previousTimer;
+        private Timer<E> nextTimer;
+
+        /**
+         * A constructor that creates an unscheduled timer.
+         * Time Complexity: O(1)
+         *
+         * @param element Any element to attach to the timer
+         * @param deadline The time the timer is due, in nanoseconds
+         */
+        private Timer(E element, long deadline) {
+            this.element = element;
+            this.deadline = deadline;
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/**
+ * A class that implements TinyLFU admission for a bounded Hash Table: the frequency of every accessed key is estimated
+ * with a count-min sketch of 4-bit counters, and a new key only replaces the least recently used entry if it has been
+ * accessed at least as often. A burst of keys that are seen once therefore cannot flush the frequently used entries
+ * out of the table, as it would under plain LRU. The counters are halved periodically so old popularity fades away.
+ *
+ * @author David Nguyen
+ * @since 10/17/2026
+ * @version 1.0
+ */
+public class TinyLfuEvictionPolicy implements EvictionPolicy {
+
+    // Field to store the number of rows of the sketch, each indexed by a different hash function
+    private static final int depth = 4;
+
+    // Field to store the largest value of a counter
+    private static final int maximumCount = 15;
+
+    // Field to store the multipliers that derive the hash function of every row from the key's hash code
+    private static final int[] rowSeeds = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    // Field to store the counters of all rows, row after row
+    private final byte[] counters;
+
+    // Field to store the number of counters per row (a power of two)
+    private final int width;
+
+    // Field to store the number of recorded accesses after which every counter is halved
+    private final int samplePeriod;
+
+    // Field to count the accesses recorded since the counters were last halved
+    private int accessesSinceReset;
+
+    /**
+     * A constructor that creates a TinyLFU policy sized for a table of the given maximum number of entries.
+     * Time Complexity: O(M) where M is the maximum size
+     *
+     * @param maximumSize The maximum number of entries of the table that uses this policy
+     * @throws IllegalArgumentException When the maximum size is not positive, throw an IllegalArgumentException
+     */
+    public TinyLfuEvictionPolicy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be greater than 0");
+        }
+        // Variable that stores the width of a row, a power of two of at least the maximum size and 256, so that the
+        // sketch of a small table does not saturate with the keys that only pass through
+        int rowWidth = 256;
+        while (rowWidth < maximumSize && rowWidth < (1 << 28)) {
+            rowWidth = rowWidth * 2;
+        }
+        this.width = rowWidth;
+        this.counters = new byte[depth * rowWidth];
+        this.samplePeriod = 10 * rowWidth;
+        this.accessesSinceReset = 0;
+    }
+
+    /**
+     * A method that adds one to the estimated frequency of the key, halving every counter once per sample period.
+     * Time Complexity: O(1) amortized
+     *
+     * @param key The key being accessed
+     */
+    @Override
+    public void recordAccess(Object key) {
+        // Variable that stores the hash code of the key
+        int hashCode = key.hashCode();
+        for (int row = 0; row < depth; row = row + 1) {
+            int index = counterIndex(row, hashCode);
+            if (this.counters[index] < maximumCount) {
+                this.counters[index] = (byte) (this.counters[index] + 1);
+            }
+        }
+        this.accessesSinceReset = this.accessesSinceReset + 1;
+        // Age the sketch so that keys which stopped being popular can be replaced
+        if (this.accessesSinceReset >= this.samplePeriod) {
+            for (int index = 0; index < this.counters.length; index = index + 1) {
+                this.counters[index] = (byte) (this.counters[index] >> 1);
+            }
+            this.accessesSinceReset = this.accessesSinceReset / 2;
+        }
+    }
+
+    /**
+     * A method that admits the candidate if its estimated frequency is at least the estimated frequency of the victim.
+     * Time Complexity: O(1)
+     *
+     * @param candidateKey The key about to be inserted
+     * @param victimKey The key that would be evicted to make room
+     * @return True to evict the victim and store the candidate, false to reject the candidate
+     */
+    @Override
+    public boolean admit(Object candidateKey, Object victimKey) {
+        return frequency(candidateKey) >= frequency(victimKey);
+    }
+
+    /**
+     * A method that returns the estimated number of recent accesses of the key, the smallest of its counters.
+     * Time Complexity: O(1)
+     *
+     * @param key Any key
+     * @return The estimated frequency of the key, between 0 and 15
+     */
+    public int frequency(Object key) {
+        // Variable that stores the hash code of the key
+        int hashCode = key.hashCode();
+        // Variable that stores the smallest counter seen so far
+        int frequency = maximumCount;
+        for (int row = 0; row < depth; row = row + 1) {
+            frequency = Math.min(frequency, this.counters[counterIndex(row, hashCode)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * A method that returns the index of the counter of a hash code in the given row.
+     * Time Complexity: O(1)
+     *
+     * @param row The row of the sketch
+     * @param hashCode The hash code of the key
+     * @return The index of the counter in the counters array
+     */
+    private int counterIndex(int row, int hashCode) {
+        // Variable that stores the hash code mixed with the seed of the row
+        int rowHash = hashCode * rowSeeds[row];
+        rowHash = rowHash ^ (rowHash >>> 15);
+        return row * this.width + (rowHash & (this.width - 1));
+    }
+
+}
@@ -2,13 +2,16 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 
+import java.nio.file.Path;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.NoSuchElementException;
 
 /**
  * A class that normalizes and then computes word statistics from given word lists.
+ * The counts and ranks of the words can be saved once with saveWordCounts and saveWordRanks, and a later run can
+ * open them with open, which maps the saved files instead of tokenizing the text again.
  *
  * @author David Nguyen
  * @since 04/02/2023
@@ -16,10 +19,11 @@ import java.util.NoSuchElementException;
  */
 public class WordStat {
 
-    // A field that stores a hash table that has words in the orders and positions that imply their frequencies
-    private HashTable<Integer> wordFreqTable;
+    // A field that stores a counter table that maps every word to its frequency
+    private IntCounterTable wordFreqTable;
 
-    private HashTable<Integer> wordRankTable;
+    // A field that stores a frozen table that maps every word to its rank, as the ranks never change once computed
+    private FrozenHashTable<String, Integer> wordRankTable;
 
     // A field that stores the sorted normalized word list
     private ArrayList<String> sortedNormalizedWordsList;
@@ -28,6 +32,12 @@ public class WordStat {
      * then also store the normalized list of words as an array */
     private String[] normalizedWordsArray;
 
+    // A field that stores the saved word counts this instance was opened from, null if it was built from a text
+    private OffHeapIntHashTable savedWordCounts;
+
+    // A field that stores the saved word ranks this instance was opened from, null if it was built from a text
+    private OffHeapIntHashTable savedWordRanks;
+
     /**
      * A constructor that creates and prepares a WordStat instance to efficiently compute the word statistics later on.
      * This constructor will take in a .txt file.
@@ -58,6 +68,32 @@ public class WordStat {
         initializeWordStatInstance();
     }
 
+    /**
+     * A constructor that creates a WordStat instance that serves word counts and ranks from the specified saved tables.
+     * Time Complexity: O(1)
+     *
+     * @param savedWordCounts The saved count of every word
+     * @param savedWordRanks The saved rank of every word
+     */
+    private WordStat(OffHeapIntHashTable savedWordCounts, OffHeapIntHashTable savedWordRanks) {
+        this.savedWordCounts = savedWordCounts;
+        this.savedWordRanks = savedWordRanks;
+    }
+
+    /**
+     * A method that opens the word counts and ranks saved with saveWordCounts and saveWordRanks as read-only memory
+     * mappings, so wordCount and wordRank are served from the page cache without tokenizing the text again. The text
+     * itself is not saved, so the returned instance cannot compute the most or least common words or collocations.
+     * Time Complexity: O(1)
+     *
+     * @param countsPath The file written by saveWordCounts
+     * @param ranksPath The file written by saveWordRanks
+     * @return A WordStat instance that serves word counts and ranks from the saved files
+     * @throws IOException If a file cannot be read or is not a saved table of int values
+     */
+    public static WordStat open(Path countsPath, Path ranksPath) throws IOException {
+        return new WordStat(OffHeapIntHashTable.open(countsPath), OffHeapIntHashTable.open(ranksPath));
+    }
 
     /**
      * Initializes the WordStatInstance by processing the words in the given normalizedWordsArray and populating the
@@ -74,46 +110,35 @@ public class WordStat {
         String[] tempNormalizedList = tokenizerInstance.wordList().toArray(new String[0]);
         // Initialize this normalizedWordsArray field to be the normalized word list from the Tokenizer
         this.normalizedWordsArray = tempNormalizedList;
-        // Initialize the wordHashTable as a new HashTable with Integer values to store frequencies of words
-        this.wordFreqTable = new HashTable<Integer>();
+        // Initialize the wordFreqTable as a new IntCounterTable to store frequencies of words without boxing
+        this.wordFreqTable = new IntCounterTable();
         // Initialize the sortedNormalizedWordsList as a new ArrayList of String
         this.sortedNormalizedWordsList = new ArrayList<String>();
-        // Initialize the wordRankTable as a new HashTable with Integer values to store ranks of words
-        this.wordRankTable = new HashTable<Integer>();
-        // A loop that iterates through the words in the normalizedWordsArray to prepare this instance of WordStat for computations
+        // A loop that iterates through the words in the normalizedWordsArray to count every word
         for (String word : normalizedWordsArray) {
-            // Check if the word is already in the wordHashTable. If so, put it into the hash table in its appropriate position
-            if (hashTableContainsKey(this.wordFreqTable, word) == true) {
-                // Put new word into the hash table in its appropriate position
-                this.wordFreqTable.put(word, 1);
-            }
-            else {
-                // Put the word to the wordHashTable with a frequency of 1 to indicate its relative frequency
-                this.wordFreqTable.put(word, 1);
-                // Put the word to the sortedNormalizedWordsList as well
-                this.sortedNormalizedWordsList.add(word);
-            }
+            this.wordFreqTable.increment(word);
         }
-        // Try sorting the sortedNormalizedWordsList in descending order of their frequencies
-        try {
-            Collections.sort(this.sortedNormalizedWordsList, (index1, index2) ->
-                    this.wordFreqTable.get(index2) - this.wordFreqTable.get(index1));
-        }
-        catch (NoSuchElementException exception) {
-            ;
-            // Do nothing if the NoSuchElementException occurs
+        // Take the distinct words from the counter table, in the order of their first occurrence, so ties keep that order
+        this.sortedNormalizedWordsList.ensureCapacity(this.wordFreqTable.size());
+        for (String word : this.wordFreqTable.keys()) {
+            this.sortedNormalizedWordsList.add(word);
         }
+        // Sort the sortedNormalizedWordsList in descending order of their frequencies
+        Collections.sort(this.sortedNormalizedWordsList, (index1, index2) ->
+                this.wordFreqTable.getOrZero(index2) - this.wordFreqTable.getOrZero(index1));
         /* Now take the sortedNormalizedWordsList and populate the wordRankTable with the appropriate ranks of the words */
         // Variable to store the current rank of the current word being processed
         int currentRank = 1;
         // Variable to store the current frequency of the current word being processed
         int currentFrequency = -1;
+        // Variable to store the rank of every word of the sortedNormalizedWordsList, index for index
+        Integer[] ranks = new Integer[this.sortedNormalizedWordsList.size()];
         // Loops through the sortedNormalizedWordList and populates the wordRankTable with the appropriate ranks of the words
         for (int index = 0; index < this.sortedNormalizedWordsList.size(); index++) {
             // Variable to store the current word being processed at the current index
             String currentWord = this.sortedNormalizedWordsList.get(index);
             // Variable to store the frequency of the current word being processed
-            int currentWordFrequency = this.wordFreqTable.get(currentWord);
+            int currentWordFrequency = this.wordFreqTable.getOrZero(currentWord);
             // Check if the current word frequency is different from the current frequency. If yes, update the current rank.
             if (currentWordFrequency != currentFrequency) {
                 currentRank = index + 1;
@@ -123,20 +148,12 @@ public class WordStat {
             else {
                 ;
             }
-            // Now reset the rank values of the words in the wordRankTable and update it with the new, appropriate rank value
-            try {
-                // Variable to store the current, existing rank of the current word being processed
-                int existingRank = this.wordRankTable.get(currentWord);
-                // Reset the rank value
-                this.wordRankTable.put(currentWord, -existingRank);
-            }
-            catch (NoSuchElementException exception) {
-                ;
-                // Do nothing if the NoSuchElementException occurs, it's expected
-            }
-            // Update the rank value with the appropriate rank
-            this.wordRankTable.put(currentWord, currentRank);
+            // Store the appropriate rank of the word
+            ranks[index] = currentRank;
         }
+        // Compile the words and their ranks into a frozen table, which stores them densely without any slack
+        String[] rankedWords = this.sortedNormalizedWordsList.toArray(new String[0]);
+        this.wordRankTable = new FrozenHashTable<String, Integer>(rankedWords, ranks, HashingStrategy.natural());
     }
 
     /**
@@ -147,17 +164,12 @@ public class WordStat {
      * @return The number of times the specified word appears in the normalized text.
      */
     public int wordCount(String word) {
-        // Try-catch block to catch the NoSuchElementException if the given word is not in the hash table
-        try {
-            // Variable that stores the word count of the given word
-            int wordCountOfGivenWord = this.wordFreqTable.get(word);
-            // Return the word count of the given word
-            return wordCountOfGivenWord;
-        }
-        catch (NoSuchElementException exception) {
-            // Return 0 if the word is not in the hash table
-            return 0;
+        // If this instance was opened from saved counts, look the word up in them
+        if (this.savedWordCounts != null) {
+            return this.savedWordCounts.getOrDefault(word, 0);
         }
+        // Return the word count of the given word, which is 0 if the word is not in the counter table
+        return this.wordFreqTable.getOrZero(word);
     }
 
     /**
@@ -168,22 +180,52 @@ public class WordStat {
      * @return The number of times the specified word appears in the normalized text.
      */
     public int wordRank(String word) {
-        // Try-catch block to catch the NoSuchElementException if the given word is not in the hash table
-        try {
-            // Check if the word is in the wordFreqTable
-            if (!hashTableContainsKey(this.wordFreqTable, word)) {
-                // If no such word is in the table, return 0
-                return 0;
-            }
-            // Access the rank directly from the wordRankTable with constant time complexity
-            int rankOfWord = this.wordRankTable.get(word);
-            // Return the rank of the given word
-            return rankOfWord;
+        // If this instance was opened from saved ranks, look the word up in them
+        if (this.savedWordRanks != null) {
+            return this.savedWordRanks.getOrDefault(word, 0);
         }
-        catch (NoSuchElementException exception) {
-            // Return 0 if the word is not in the hash table
-            return 0;
+        // Access the rank directly from the wordRankTable with constant time complexity, 0 if the word is not in it
+        int rankOfWord = this.wordRankTable.getOrDefault(word, 0);
+        // Return the rank of the given word
+        return rankOfWord;
+    }
+
+    /**
+     * A method that saves the count of every word to the specified file, which can be reopened instantly with
+     * OffHeapIntHashTable.open to look counts up without re-tokenizing the source text.
+     * Time Complexity: O(V) where V is the number of distinct words
+     *
+     * @param path The file to write, replaced if it already exists
+     * @throws IOException If the file cannot be written
+     * @throws UnsupportedOperationException If this instance was opened from saved files
+     */
+    public void saveWordCounts(Path path) throws IOException {
+        checkTextAvailable();
+        // Variable that stores an off-heap copy of the word counts
+        OffHeapIntHashTable wordCounts = new OffHeapIntHashTable(this.sortedNormalizedWordsList.size());
+        for (String word : this.sortedNormalizedWordsList) {
+            wordCounts.put(word, this.wordFreqTable.getOrZero(word));
         }
+        wordCounts.save(path);
+    }
+
+    /**
+     * A method that saves the rank of every word to the specified file, which can be reopened instantly with
+     * OffHeapIntHashTable.open to look ranks up without re-tokenizing the source text.
+     * Time Complexity: O(V) where V is the number of distinct words
+     *
+     * @param path The file to write, replaced if it already exists
+     * @throws IOException If the file cannot be written
+     * @throws UnsupportedOperationException If this instance was opened from saved files
+     */
+    public void saveWordRanks(Path path) throws IOException {
+        checkTextAvailable();
+        // Variable that stores an off-heap copy of the word ranks
+        OffHeapIntHashTable wordRanks = new OffHeapIntHashTable(this.sortedNormalizedWordsList.size());
+        for (String word : this.sortedNormalizedWordsList) {
+            wordRanks.put(word, this.wordRankTable.get(word));
+        }
+        wordRanks.save(path);
     }
 
     /**
@@ -194,8 +236,11 @@ public class WordStat {
      * @param k The k most common words to find from the normalized text.
      * @return A String array of the k most common words in the normalized text, in decreasing order of their frequency.
      * @throws IllegalArgumentException If k is negative, throw an IllegalArgumentException.
+     * @throws UnsupportedOperationException If this instance was opened from saved files, throw an
+     * UnsupportedOperationException.
      */
     public String[] mostCommonWords(int k) {
+        checkTextAvailable();
         // Check if k is negative. If so, throw an IllegalArgumentException.
         if (k < 0) {
             throw new IllegalArgumentException("The given K value is INVALID! It must be greater than or equal to 0!");
@@ -224,8 +269,11 @@ public class WordStat {
      * @param k The k least common words to find from the normalized text.
      * @return A String array of the k least common words in the normalized text, in increasing order of their frequency.
      * @throws IllegalArgumentException If k is negative, throw an IllegalArgumentException.
+     * @throws UnsupportedOperationException If this instance was opened from saved files, throw an
+     * UnsupportedOperationException.
      */
     public String[] leastCommonWords(int k) {
+        checkTextAvailable();
         // Check if k is negative. If so, throw an IllegalArgumentException.
         if (k < 0) {
             throw new IllegalArgumentException();
@@ -259,10 +307,13 @@ public class WordStat {
      * @param precede If true, find words precede the base word, otherwise, find words that follow the base word.
      * @return The k most common collocations from the normalized text
      * @throws IllegalArgumentException If k is negative or base word does not exist, throw an IllegalArgumentException.
+     * @throws UnsupportedOperationException If this instance was opened from saved files, throw an
+     * UnsupportedOperationException.
      */
     public String[] mostCommonCollocations(int k, String baseWord, boolean precede) {
+        checkTextAvailable();
         // Variable that stores the collocations from the base word. The collocations are put based on their frequencies.
-        HashTable<Integer> frequenciesOfCollocationsTable = new HashTable<Integer>();
+        IntCounterTable frequenciesOfCollocationsTable = new IntCounterTable();
         // Variable that stores the most common collocations list to be returned later on.
         ArrayList<String> mostCommonCollocationsArrayList = new ArrayList<String>();
         // If k is negative, throw an IllegalArgumentException.
@@ -274,7 +325,7 @@ public class WordStat {
             ;
         }
         // If base word does not exist, throw an IllegalArgumentException.
-        if (!hashTableContainsKey(this.wordFreqTable, baseWord)) {
+        if (this.wordFreqTable.getOrZero(baseWord) == 0) {
             throw new IllegalArgumentException("The given base word is not in the text!");
         }
         // Otherwise, do nothing and let the method continues
@@ -303,14 +354,9 @@ public class WordStat {
                 if (indexOfCollocation >= 0 && indexOfCollocation < this.normalizedWordsArray.length) {
                     // Variable that stores the collocation of the current base word
                     String collocation = normalizedWordsArray[indexOfCollocation];
-                    /* If the hash table contains the key, put it into the frequencies of collocations table at their
-                     * appropriate positions. */
-                    if (hashTableContainsKey(frequenciesOfCollocationsTable, collocation) == true) {
-                        frequenciesOfCollocationsTable.put(collocation, frequenciesOfCollocationsTable.get(collocation) + 1);
-                    }
-                    // Else, put it into the first position in the collocations table and add it to the most common collocations list
-                    else {
-                        frequenciesOfCollocationsTable.put(collocation, 1);
+                    /* Count the collocation in the frequencies of collocations table. If this is its first occurrence, add
+                     * it to the most common collocations list as well. */
+                    if (frequenciesOfCollocationsTable.increment(collocation) == 1) {
                         mostCommonCollocationsArrayList.add(collocation);
                     }
                 }
@@ -320,15 +366,9 @@ public class WordStat {
                 ;
             }
         }
-        // Try-catch block to sort the frequencies of collocations table in the descending order of their frequency
-        try {
-            Collections.sort(mostCommonCollocationsArrayList, (index1, index2) ->
-                    frequenciesOfCollocationsTable.get(index2) - frequenciesOfCollocationsTable.get(index1));
-        }
-        // Catch a NoSuchElementException, ignore it and do nothing
-        catch (NoSuchElementException exception) {
-            ;
-        }
+        // Sort the most common collocations list in the descending order of their frequency
+        Collections.sort(mostCommonCollocationsArrayList, (index1, index2) ->
+                frequenciesOfCollocationsTable.getOrZero(index2) - frequenciesOfCollocationsTable.getOrZero(index1));
         // Variable that stores the number of collocations that will be returned
         int numberOfCollocationsToReturn = Math.min(k, mostCommonCollocationsArrayList.size());
         // Variable that stores the most common collocations array that will be returned
@@ -342,25 +382,17 @@ public class WordStat {
     }
 
     /**
-     * A method that checks whether the hash table contains the given, specified key.
-     * Time Complexity: O(1) worst case.
+     * A method that checks that this instance was built from a text, which the methods that need the words in their
+     * order, or the ranked word list, require.
+     * Time Complexity: O(1)
      *
-     * @param hashTable The hash table to check with
-     * @param key The key to find in the given hash table
-     * @return True or False depending on whether the hash table contains the given key or not.
+     * @throws UnsupportedOperationException If this instance was opened from saved files, throw an
+     * UnsupportedOperationException.
      */
-    private boolean hashTableContainsKey(HashTable<Integer> hashTable, String key) {
-        // Variable that stores the key to be checked
-        String keyToCheck = key;
-        // Try to find it in the hash table. If it's found, return true
-        try {
-            hashTable.get(keyToCheck);
-            return true;
-        }
-        // Otherwise, return false when catches an exception saying that no such key exists
-        catch (NoSuchElementException e) {
-            return false;
+    private void checkTextAvailable() {
+        if (this.savedWordCounts != null) {
+            throw new UnsupportedOperationException("This WordStat was opened from saved counts and ranks, without its text");
         }
     }
 
-}
\ No newline at end of file
+}